@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * BenchmarkReport compares JMH results (from <code>-rf json</code>) against a baseline.
+ *
+ * <p>It prints a Markdown table of all benchmarks, and exits with status 1 if any of them regressed
+ * by more than the given percentage (default 10%) <i>and</i> by more than the sum of the score
+ * errors of the baseline and the current result; so that noise is not reported.
+ */
+public final class BenchmarkReport {
+
+    private static final double DEFAULT_MAX_REGRESSION_PERCENT = 10;
+
+    record Result(String mode, double score, double error, String unit) {
+
+        /** Whether a higher score is better (e.g. for "thrpt"), or a lower one (e.g. "avgt"). */
+        boolean higherIsBetter() {
+            return mode.equals("thrpt");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: report <baseline.json> <current.json> [max-regression-%]");
+            System.exit(2);
+        }
+        var baseline = read(Path.of(args[0]));
+        var current = read(Path.of(args[1]));
+        var maxRegression =
+                args.length == 3 ? Double.parseDouble(args[2]) : DEFAULT_MAX_REGRESSION_PERCENT;
+        int regressions = report(baseline, current, maxRegression, System.out);
+        if (regressions > 0) {
+            System.err.println(regressions + " regression(s) of more than " + maxRegression + "%");
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Result> read(Path json) throws IOException {
+        var results = new TreeMap<String, Result>();
+        try (var reader = Files.newBufferedReader(json, StandardCharsets.UTF_8)) {
+            for (JsonElement element : JsonParser.parseReader(reader).getAsJsonArray()) {
+                var benchmark = element.getAsJsonObject();
+                var metric = benchmark.getAsJsonObject("primaryMetric");
+                var result =
+                        new Result(
+                                benchmark.get("mode").getAsString(),
+                                metric.get("score").getAsDouble(),
+                                error(metric),
+                                metric.get("scoreUnit").getAsString());
+                results.put(key(benchmark), result);
+            }
+        }
+        return results;
+    }
+
+    private static String key(JsonObject benchmark) {
+        var key = new StringBuilder(benchmark.get("benchmark").getAsString());
+        var params = benchmark.getAsJsonObject("params");
+        if (params != null) {
+            // Sorted, for stable keys
+            var names = new TreeSet<>(params.keySet());
+            for (var name : names) {
+                key.append(' ').append(name).append('=').append(params.get(name).getAsString());
+            }
+        }
+        return key.toString();
+    }
+
+    private static double error(JsonObject metric) {
+        // JMH writes "NaN" if there were too few iterations to compute an error
+        var error = metric.get("scoreError");
+        if (error == null || !error.isJsonPrimitive()) return 0;
+        try {
+            var value = error.getAsDouble();
+            return Double.isNaN(value) ? 0 : value;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Prints a Markdown table comparing the current to the baseline results.
+     *
+     * @return number of regressions
+     */
+    static int report(
+            Map<String, Result> baseline,
+            Map<String, Result> current,
+            double maxRegressionPercent,
+            PrintStream out) {
+        int regressions = 0;
+        out.println("| Benchmark | Unit | Baseline | Current | Change | |");
+        out.println("| --- | --- | ---: | ---: | ---: | --- |");
+
+        var keys = new TreeSet<>(baseline.keySet());
+        keys.addAll(current.keySet());
+        for (var key : keys) {
+            var before = baseline.get(key);
+            var after = current.get(key);
+            if (before == null || after == null) {
+                var only = before != null ? before : after;
+                out.println(
+                        row(key, only.unit(), before, after, "", before == null ? "new" : "gone"));
+                continue;
+            }
+            if (!before.unit().equals(after.unit()) || !before.mode().equals(after.mode())) {
+                out.println(row(key, after.unit(), before, after, "", "incomparable"));
+                continue;
+            }
+
+            double change = (after.score() - before.score()) / before.score() * 100;
+            double worse = before.higherIsBetter() ? -change : change;
+            boolean significant =
+                    Math.abs(after.score() - before.score()) > before.error() + after.error();
+            String verdict = "";
+            if (significant && worse > maxRegressionPercent) {
+                verdict = "REGRESSION";
+                ++regressions;
+            } else if (significant && worse < -maxRegressionPercent) verdict = "improvement";
+
+            var percent = String.format(Locale.ROOT, "%+.1f%%", change);
+            out.println(row(key, after.unit(), before, after, percent, verdict));
+        }
+        return regressions;
+    }
+
+    private static String row(
+            String key,
+            String unit,
+            @Nullable Result before,
+            @Nullable Result after,
+            String change,
+            String verdict) {
+        return String.join(
+                " | ", "| " + key, unit, score(before), score(after), change, verdict + " |");
+    }
+
+    private static String score(@Nullable Result result) {
+        if (result == null) return "";
+        return String.format(Locale.ROOT, "%.3f ± %.3f", result.score(), result.error());
+    }
+
+    private BenchmarkReport() {}
+}
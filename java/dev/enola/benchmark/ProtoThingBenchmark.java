@@ -0,0 +1,89 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.datatype.DatatypeRepository;
+import dev.enola.datatype.DatatypeRepositoryBuilder;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
+import dev.enola.thing.message.JavaThingToProtoThingConverter;
+import dev.enola.thing.message.ProtoThingIntoJavaThingBuilderConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link JavaThingToProtoThingConverter} and its reverse, {@link
+ * ProtoThingIntoJavaThingBuilderConverter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtoThingBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final DatatypeRepository datatypeRepository = new DatatypeRepositoryBuilder().build();
+    private final JavaThingToProtoThingConverter javaToProto =
+            new JavaThingToProtoThingConverter(datatypeRepository);
+    private final ProtoThingIntoJavaThingBuilderConverter protoToJava =
+            new ProtoThingIntoJavaThingBuilderConverter(datatypeRepository);
+
+    private ImmutableList<Thing> things;
+    private ImmutableList<dev.enola.thing.proto.Thing> protoThings;
+
+    @Setup
+    public void setUp() {
+        things = SyntheticThings.things(size);
+        var protos = ImmutableList.<dev.enola.thing.proto.Thing>builderWithExpectedSize(size);
+        for (var thing : things) protos.add(javaToProto.convert(thing).build());
+        protoThings = protos.build();
+    }
+
+    @Benchmark
+    public void javaToProto(Blackhole bh) {
+        for (var thing : things) bh.consume(javaToProto.convert(thing));
+    }
+
+    @Benchmark
+    public void protoToJava(Blackhole bh) {
+        for (var protoThing : protoThings) {
+            var builder = ImmutableThing.builder();
+            protoToJava.convertIntoOrThrow(protoThing, builder);
+            bh.consume(builder.build());
+        }
+    }
+}
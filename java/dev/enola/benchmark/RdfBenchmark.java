@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import dev.enola.common.context.TLC;
+import dev.enola.common.io.resource.Resource;
+import dev.enola.datatype.DatatypeRepositoryBuilder;
+import dev.enola.rdf.io.RdfResourceIntoThingConverter;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
+import dev.enola.thing.java.TBF;
+import dev.enola.thing.repo.ThingMemoryRepositoryRW;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks loading Turtle into a {@link ThingMemoryRepositoryRW} with {@link
+ * RdfResourceIntoThingConverter}, both in its default and in its streaming mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RdfBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean streaming;
+
+    private Resource turtle;
+    private RdfResourceIntoThingConverter<Thing> converter;
+
+    @Setup
+    public void setUp() throws IOException {
+        turtle = SyntheticThings.turtle(SyntheticThings.things(size));
+        var resource = turtle;
+        converter =
+                new RdfResourceIntoThingConverter<>(
+                        uri -> uri.equals(resource.uri()) ? resource : null,
+                        new DatatypeRepositoryBuilder().build(),
+                        streaming);
+    }
+
+    @Benchmark
+    public ThingMemoryRepositoryRW load() throws IOException {
+        try (var ctx = TLC.open().push(TBF.class, ImmutableThing.FACTORY)) {
+            var repository = new ThingMemoryRepositoryRW();
+            if (!converter.convertInto(turtle.uri(), repository))
+                throw new IllegalStateException("Failed to load " + turtle.uri());
+            return repository;
+        }
+    }
+}
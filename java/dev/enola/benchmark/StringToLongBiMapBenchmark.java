@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.common.string2long.ConcurrentStringToLongBiMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ConcurrentStringToLongBiMap#put(String)}, of both new and already existing
+ * symbols.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringToLongBiMapBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ImmutableList<String> symbols;
+    private ConcurrentStringToLongBiMap existing;
+
+    @Setup
+    public void setUp() {
+        symbols = SyntheticThings.iris(size);
+        existing = ConcurrentStringToLongBiMap.builder();
+        for (var symbol : symbols) existing.put(symbol);
+    }
+
+    @Benchmark
+    public ConcurrentStringToLongBiMap putNew() {
+        var map = ConcurrentStringToLongBiMap.builder();
+        for (var symbol : symbols) map.put(symbol);
+        return map;
+    }
+
+    @Benchmark
+    public long putExisting() {
+        long sum = 0;
+        for (var symbol : symbols) sum += existing.put(symbol);
+        return sum;
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long putExistingConcurrently() {
+        long sum = 0;
+        for (var symbol : symbols) sum += existing.put(symbol);
+        return sum;
+    }
+}
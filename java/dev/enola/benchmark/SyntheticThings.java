@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+
+import dev.enola.common.io.resource.MemoryResource;
+import dev.enola.common.io.resource.Resource;
+import dev.enola.rdf.io.JavaThingRdfConverter;
+import dev.enola.rdf.io.RdfMediaTypes;
+import dev.enola.rdf.io.WritableResourceRDFHandler;
+import dev.enola.thing.LangString;
+import dev.enola.thing.Link;
+import dev.enola.thing.Literal;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * SyntheticThings generates reproducible datasets of {@link Thing}s for benchmarks.
+ *
+ * <p>The same size and seed always produce exactly the same Things. Each Thing has a type, a label,
+ * a language tagged comment, a typed literal and links to a few other Things of the same dataset;
+ * so that they resemble what is typically loaded from RDF.
+ */
+final class SyntheticThings {
+
+    static final long SEED = 42;
+
+    static final String NS = "https://example.enola.dev/benchmark/";
+
+    private static final String RDF_TYPE = "http://www.w3.org/1999/02/22-rdf-syntax-ns#type";
+    private static final String RDFS_LABEL = "http://www.w3.org/2000/01/rdf-schema#label";
+    private static final String RDFS_COMMENT = "http://www.w3.org/2000/01/rdf-schema#comment";
+    private static final String XSD_INTEGER = "http://www.w3.org/2001/XMLSchema#integer";
+    private static final String INDEX = NS + "index";
+    private static final String LINKS = NS + "links";
+
+    private static final int TYPES = 7;
+    private static final int MAX_LINKS = 5;
+    private static final String[] WORDS = {
+        "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel", "india", "juliet"
+    };
+
+    static String iri(int i) {
+        return NS + "thing/" + i;
+    }
+
+    static ImmutableList<String> iris(int size) {
+        var iris = ImmutableList.<String>builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) iris.add(iri(i));
+        return iris.build();
+    }
+
+    static ImmutableList<Thing> things(int size) {
+        return things(size, SEED);
+    }
+
+    static ImmutableList<Thing> things(int size, long seed) {
+        var random = new Random(seed);
+        var things = ImmutableList.<Thing>builderWithExpectedSize(size);
+        for (int i = 0; i < size; i++) things.add(thing(i, size, random));
+        return things.build();
+    }
+
+    private static Thing thing(int i, int size, Random random) {
+        var builder = ImmutableThing.builderWithExpectedSize(5);
+        builder.iri(iri(i));
+        builder.set(RDF_TYPE, new Link(NS + "Type" + random.nextInt(TYPES)));
+        builder.set(RDFS_LABEL, "Thing #" + i);
+        builder.set(RDFS_COMMENT, new LangString(sentence(random), "en"));
+        builder.set(INDEX, new Literal(Integer.toString(i), XSD_INTEGER));
+
+        var links = ImmutableSet.<Link>builder();
+        int n = random.nextInt(MAX_LINKS + 1);
+        for (int j = 0; j < n; j++) links.add(new Link(iri(random.nextInt(size))));
+        var linkSet = links.build();
+        if (!linkSet.isEmpty()) builder.set(LINKS, linkSet);
+
+        return builder.build();
+    }
+
+    private static String sentence(Random random) {
+        var sb = new StringBuilder();
+        int n = 3 + random.nextInt(10);
+        for (int i = 0; i < n; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+    /** Writes the Things as Turtle into a new in-memory Resource. */
+    static Resource turtle(Iterable<Thing> things) throws IOException {
+        var resource = new MemoryResource(RdfMediaTypes.TURTLE);
+        var handler = WritableResourceRDFHandler.create(resource).orElseThrow();
+        try (handler) {
+            var stream = ImmutableList.copyOf(things).stream();
+            var ignored = new JavaThingRdfConverter().convertInto(stream, handler);
+        }
+        return resource;
+    }
+
+    private SyntheticThings() {}
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building {@link ImmutableThing}s (i.e. <code>ImmutableObjects.build()</code>), and
+ * their <code>ThingHashCodeEqualsToString</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThingBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ImmutableList<Thing> things;
+    private ImmutableList<Thing> equalThings;
+
+    @Setup
+    public void setUp() {
+        things = SyntheticThings.things(size);
+        equalThings = SyntheticThings.things(size);
+    }
+
+    @Benchmark
+    @SuppressWarnings("Immutable") // Objects of Things are immutable
+    public void build(Blackhole bh) {
+        for (var thing : things) {
+            var predicateIRIs = thing.predicateIRIs();
+            var builder = ImmutableThing.builderWithExpectedSize(predicateIRIs.size());
+            builder.iri(thing.iri());
+            for (var predicateIRI : predicateIRIs) {
+                Object object = thing.get(predicateIRI);
+                builder.set(predicateIRI, object, thing.datatype(predicateIRI));
+            }
+            bh.consume(builder.build());
+        }
+    }
+
+    @Benchmark
+    public void copyAndBuild(Blackhole bh) {
+        for (var thing : things) bh.consume(thing.copy().build());
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        int hash = 0;
+        for (var thing : things) hash += thing.hashCode();
+        return hash;
+    }
+
+    @Benchmark
+    public int equalities() {
+        int equal = 0;
+        for (int i = 0; i < things.size(); i++) {
+            if (things.get(i).equals(equalThings.get(i))) equal++;
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public void toStrings(Blackhole bh) {
+        for (var thing : things) bh.consume(thing.toString());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.benchmark;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.thing.Thing;
+import dev.enola.thing.repo.ThingMemoryRepositoryRW;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** Benchmarks {@link ThingMemoryRepositoryRW#store(Object)} and {@code get(String)}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThingRepositoryBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private ImmutableList<Thing> things;
+    private ImmutableList<String> iris;
+    private ThingMemoryRepositoryRW repository;
+
+    @Setup
+    public void setUp() {
+        things = SyntheticThings.things(size);
+        iris = SyntheticThings.iris(size);
+        repository = new ThingMemoryRepositoryRW();
+        for (var thing : things) repository.store(thing);
+    }
+
+    @Benchmark
+    public ThingMemoryRepositoryRW store() {
+        var repository = new ThingMemoryRepositoryRW();
+        for (var thing : things) repository.store(thing);
+        return repository;
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        for (var iri : iris) bh.consume(repository.get(iri));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void getConcurrently(Blackhole bh) {
+        for (var iri : iris) bh.consume(repository.get(iri));
+    }
+}
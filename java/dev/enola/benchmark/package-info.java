@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * <a href="https://github.com/openjdk/jmh">JMH</a> benchmarks of Enola's hot paths, such as
+ * building, storing and converting {@link dev.enola.thing.Thing}s.
+ *
+ * <p>The benchmarks use reproducible synthetic datasets from <code>SyntheticThings</code>, and
+ * <code>BenchmarkReport</code> compares their results against a baseline.
+ */
+@NullMarked
+package dev.enola.benchmark;
+
+import org.jspecify.annotations.NullMarked;
@@ -29,7 +29,7 @@ import java.io.IOException;
  * <p>This interface could be implemented with:
  *
  * <ul>
- *   <li>just with simple non-distributed local files
+ *   <li>just with simple non-distributed local files, see {@link FileBlobStore}
  *   <li>Or into a Key Value Store
  *   <li>with <a href="https://github.com/systemd/casync/">systemd casync</a>
  *   <li>on <a href="https://ipfs.tech/">IPFS</a> in <a
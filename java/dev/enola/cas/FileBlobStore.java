@@ -0,0 +1,284 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.cas;
+
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.MoreFiles;
+
+import dev.enola.common.ByteSeq;
+
+import io.ipfs.cid.Cid;
+import io.ipfs.multihash.Multihash;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@link BlobStore} and {@link IdStore} in a local directory; without requiring an IPFS daemon.
+ *
+ * <p>Blobs are identified by CIDv1 with the Raw codec and a SHA2-256 multihash of their content.
+ * This is the same CID which {@link IPFSBlobStore} returns, at least for content smaller than the
+ * default IPFS chunk size (of 256 KiB); larger content is chunked into a DAG by IPFS.
+ *
+ * <p>The layout of the directory is:
+ *
+ * <ul>
+ *   <li><code>blobs/XY/CID</code> with the content (or <code>CID.gz</code>, if compressed), where
+ *       XY are the next-to-last 2 characters of the CID (like IPFS' <i>flatfs</i> datastore), so
+ *       that directories do not grow too large
+ *   <li><code>ids/XY/SHA256</code> with the CID linked to an ID, named by the (hex) SHA-256 of the
+ *       ID bytes
+ *   <li><code>tmp/</code> with content which is being written
+ * </ul>
+ *
+ * <p>Content is streamed to a temporary file while it is hashed, and then atomically moved into
+ * place; so blobs are never partially visible, and storing the same content again leaves the
+ * existing blob (there is only ever one copy), but updates its last modified time. Loading streams
+ * from the file, without buffering.
+ *
+ * <p>{@link #gc(Duration)} deletes blobs which no ID links to, unless they were (re-)stored more
+ * recently than its minimum age.
+ */
+public class FileBlobStore implements BlobStore, IdStore {
+
+    private static final String GZ = ".gz";
+
+    private final Path blobs;
+    private final Path ids;
+    private final Path tmp;
+    private final boolean compress;
+
+    /**
+     * Constructor.
+     *
+     * @param root directory of the store, created if it does not exist yet
+     * @param compress whether new blobs are written GZIP compressed; existing blobs can always be
+     *     loaded, no matter whether they were compressed or not
+     */
+    public FileBlobStore(Path root, boolean compress) throws IOException {
+        this.blobs = Files.createDirectories(root.resolve("blobs"));
+        this.ids = Files.createDirectories(root.resolve("ids"));
+        this.tmp = Files.createDirectories(root.resolve("tmp"));
+        this.compress = compress;
+    }
+
+    public FileBlobStore(Path root) throws IOException {
+        this(root, false);
+    }
+
+    @Override
+    @SuppressWarnings("UnstableApiUsage") // HashingInputStream is @Beta
+    public Cid store(ByteSource source) throws IOException {
+        var temp = Files.createTempFile(tmp, "blob", ".tmp");
+        try {
+            HashingInputStream in;
+            try (var original = source.openStream();
+                    var out = compress(Files.newOutputStream(temp))) {
+                in = new HashingInputStream(Hashing.sha256(), original);
+                ByteStreams.copy(in, out);
+            }
+            var hash = in.hash().asBytes();
+            var cid = Cid.buildCidV1(Cid.Codec.Raw, Multihash.Type.sha2_256, hash);
+
+            // Already stored (possibly differently compressed)
+            var existing = blob(cid);
+            if (existing != null && touch(existing)) return cid;
+
+            var target = path(blobs, cid.toString()).resolveSibling(cid + (compress ? GZ : ""));
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Concurrently stored; with the same content, by definition, so just keep that
+            }
+            return cid;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Updates the last modified time of an existing blob, so that {@link #gc(Duration)} treats it
+     * like a just stored one; returns false if it was concurrently deleted.
+     */
+    private static boolean touch(Path blob) throws IOException {
+        try {
+            Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    private OutputStream compress(OutputStream os) throws IOException {
+        return compress ? new GZIPOutputStream(os) : os;
+    }
+
+    @Override
+    public ByteSource load(Cid cid) throws IOException {
+        // Raw "identity" CIDs contain their content inline (but DagProtobuf ones are UnixFS)
+        if (cid.getType() == Multihash.Type.id && cid.codec == Cid.Codec.Raw)
+            return ByteSource.wrap(cid.getHash());
+
+        var blob = blob(cid);
+        if (blob == null) throw new NoSuchFileException(cid.toString());
+        if (!blob.getFileName().toString().endsWith(GZ)) return MoreFiles.asByteSource(blob);
+        return new ByteSource() {
+            @Override
+            public InputStream openStream() throws IOException {
+                return new GZIPInputStream(Files.newInputStream(blob));
+            }
+        };
+    }
+
+    public boolean contains(Cid cid) {
+        return blob(cid) != null;
+    }
+
+    private @Nullable Path blob(Cid cid) {
+        var path = path(blobs, cid.toString());
+        if (Files.exists(path)) return path;
+        var gz = path.resolveSibling(path.getFileName() + GZ);
+        if (Files.exists(gz)) return gz;
+        return null;
+    }
+
+    @Override
+    public void link(ByteSeq id, Cid cid) {
+        try {
+            var target = path(ids, idFileName(id));
+            Files.createDirectories(target.getParent());
+            var temp = Files.createTempFile(tmp, "id", ".tmp");
+            try {
+                Files.writeString(temp, cid.toString(), StandardCharsets.US_ASCII);
+                move(temp, target);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to link " + cid, e);
+        }
+    }
+
+    @Override
+    public @Nullable Cid get(ByteSeq id) {
+        var path = path(ids, idFileName(id));
+        try {
+            return Cid.decode(Files.readString(path, StandardCharsets.US_ASCII));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + path, e);
+        }
+    }
+
+    /**
+     * Deletes all blobs which no ID links to, as well as left-over temporary files.
+     *
+     * <p>Blobs (and temporary files) which are younger than the given minimum age are kept; this is
+     * so that blobs which were just stored, but are not yet {@link #link(ByteSeq, Cid) linked}, by
+     * a concurrent process, are not deleted.
+     *
+     * @return the number of deleted blobs
+     */
+    public int gc(Duration minimumAge) throws IOException {
+        var cutoff = FileTime.from(Instant.now().minus(minimumAge));
+
+        Set<String> referenced = new HashSet<>();
+        try (var paths = Files.walk(ids)) {
+            for (var path : (Iterable<Path>) paths::iterator) {
+                if (Files.isRegularFile(path))
+                    referenced.add(Files.readString(path, StandardCharsets.US_ASCII).trim());
+            }
+        }
+
+        int deleted = 0;
+        try (var paths = Files.walk(blobs)) {
+            for (var path : (Iterable<Path>) paths::iterator) {
+                if (!Files.isRegularFile(path)) continue;
+                var name = path.getFileName().toString();
+                if (name.endsWith(GZ)) name = name.substring(0, name.length() - GZ.length());
+                if (referenced.contains(name)) continue;
+                if (isYounger(path, cutoff)) continue;
+                if (Files.deleteIfExists(path)) ++deleted;
+            }
+        }
+
+        try (var paths = Files.list(tmp)) {
+            for (var path : (Iterable<Path>) paths::iterator) {
+                if (!isYounger(path, cutoff)) Files.deleteIfExists(path);
+            }
+        }
+        return deleted;
+    }
+
+    private static boolean isYounger(Path path, FileTime cutoff) throws IOException {
+        try {
+            return Files.getLastModifiedTime(path).compareTo(cutoff) > 0;
+        } catch (NoSuchFileException e) {
+            return true; // Concurrently deleted (or moved) - so leave it alone
+        }
+    }
+
+    private static String idFileName(ByteSeq id) {
+        return Hashing.sha256().hashBytes(id.toBytes()).toString();
+    }
+
+    private static Path path(Path dir, String name) {
+        // "next-to-last/2" sharding, because the first characters of CIDs are all the same
+        var shard = name.substring(name.length() - 3, name.length() - 1);
+        return dir.resolve(shard).resolve(name);
+    }
+
+    /**
+     * Moves the source to the target, replacing it if it exists.
+     *
+     * <p>This is atomic on POSIX file systems, where ATOMIC_MOVE always replaces the target. On
+     * platforms (such as Windows) where ATOMIC_MOVE fails if the target exists, it falls back to
+     * REPLACE_EXISTING, which is NOT guaranteed to be atomic; a concurrent {@link #get(ByteSeq)} of
+     * that ID may then fail, or not see the link (but never sees a partially written one). This is
+     * only used to re-link IDs; blobs are never replaced.
+     */
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.cas;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.io.ByteSource;
+
+import dev.enola.common.ByteSeq;
+
+import io.ipfs.cid.Cid;
+import io.ipfs.multihash.Multihash;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Random;
+
+public class FileBlobStoreTest {
+
+    // Same as in IPFSBlobStoreTest
+    String HELLO_CIDv1_RAW = "bafkreiefh74toyvanxn7oiwe5pu53vtnr5r53lvjp5jbypwmednhzf3aea";
+
+    ByteSource hello = ByteSource.wrap("hello, world\n".getBytes());
+
+    public @Rule TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void storeHello() throws IOException {
+        var store = new FileBlobStore(tempFolder.getRoot().toPath());
+        var cid = store.store(hello);
+        assertThat(cid.toString()).isEqualTo(HELLO_CIDv1_RAW);
+        assertThat(cid.codec).isEqualTo(Cid.Codec.Raw);
+        assertThat(cid.version).isEqualTo(1);
+        assertThat(store.load(cid).read()).isEqualTo(hello.read());
+    }
+
+    @Test
+    public void storeLoadRandom() throws IOException {
+        checkStoreLoadRandom(new FileBlobStore(tempFolder.getRoot().toPath()));
+    }
+
+    @Test
+    public void storeLoadRandomCompressed() throws IOException {
+        checkStoreLoadRandom(new FileBlobStore(tempFolder.getRoot().toPath(), true));
+    }
+
+    void checkStoreLoadRandom(FileBlobStore store) throws IOException {
+        var bytes = new byte[300_000];
+        new Random().nextBytes(bytes);
+        var cid = store.store(ByteSource.wrap(bytes));
+        assertThat(store.contains(cid)).isTrue();
+        assertThat(store.load(cid).read()).isEqualTo(bytes);
+    }
+
+    @Test
+    public void deduplicates() throws IOException {
+        var root = tempFolder.getRoot().toPath();
+        var cid1 = new FileBlobStore(root, true).store(hello);
+        var cid2 = new FileBlobStore(root, false).store(hello);
+        assertThat(cid2).isEqualTo(cid1);
+        try (var blobs = Files.walk(root.resolve("blobs"))) {
+            assertThat(blobs.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+        try (var tmp = Files.list(root.resolve("tmp"))) {
+            assertThat(tmp.count()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void storeAgainProtectsFromGC() throws IOException {
+        var root = tempFolder.getRoot().toPath();
+        var store = new FileBlobStore(root);
+        var cid = store.store(hello);
+        try (var blobs = Files.walk(root.resolve("blobs"))) {
+            var blob = blobs.filter(Files::isRegularFile).findFirst().orElseThrow();
+            var old = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+            Files.setLastModifiedTime(blob, old);
+
+            assertThat(store.store(hello)).isEqualTo(cid);
+            assertThat(Files.getLastModifiedTime(blob)).isGreaterThan(old);
+        }
+        assertThat(store.gc(Duration.ofHours(1))).isEqualTo(0);
+        assertThat(store.contains(cid)).isTrue();
+    }
+
+    @Test
+    public void loadMissing() throws IOException {
+        var store = new FileBlobStore(tempFolder.getRoot().toPath());
+        var cid = Cid.decode(HELLO_CIDv1_RAW);
+        assertThat(store.contains(cid)).isFalse();
+        assertThrows(NoSuchFileException.class, () -> store.load(cid));
+    }
+
+    @Test
+    public void loadIdentity() throws IOException {
+        var store = new FileBlobStore(tempFolder.getRoot().toPath());
+        var cid = Cid.buildCidV1(Cid.Codec.Raw, Multihash.Type.id, hello.read());
+        assertThat(store.load(cid).read()).isEqualTo(hello.read());
+    }
+
+    @Test
+    public void linkAndGC() throws IOException {
+        var store = new FileBlobStore(tempFolder.getRoot().toPath());
+        var helloCID = store.store(hello);
+        var otherCID = store.store(ByteSource.wrap("other".getBytes()));
+
+        var id = ByteSeq.from("hello");
+        assertThat(store.get(id)).isNull();
+        store.link(id, helloCID);
+        assertThat(store.get(id)).isEqualTo(helloCID);
+
+        // Too young to be collected
+        assertThat(store.gc(Duration.ofHours(1))).isEqualTo(0);
+        assertThat(store.contains(otherCID)).isTrue();
+
+        assertThat(store.gc(Duration.ZERO)).isEqualTo(1);
+        assertThat(store.contains(helloCID)).isTrue();
+        assertThat(store.contains(otherCID)).isFalse();
+    }
+}
@@ -17,12 +17,12 @@
  */
 package dev.enola.cas;
 
-import com.google.common.primitives.Bytes;
-
 import dev.enola.common.ByteSeq;
 
 import io.ipfs.cid.Cid;
 
+import org.jspecify.annotations.Nullable;
+
 /** IdStore stores links of IDs of bytes to CIDs. */
 public interface IdStore {
 
@@ -30,5 +30,5 @@ public interface IdStore {
 
     void link(ByteSeq bytes, Cid cid);
 
-    Cid get(Bytes link);
+    @Nullable Cid get(ByteSeq link);
 }
@@ -57,6 +57,15 @@ public class CanonicalizeCommand extends CommandWithResourceProvider {
             description = "Whether to 'pretty print' (format) output")
     boolean pretty;
 
+    @CommandLine.Option(
+            names = {"--max-statements-in-memory"},
+            defaultValue = "0",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description =
+                    "If > 0, sort RDF statements with an external merge sort through temporary"
+                            + " files, holding at most this many in memory")
+    int maxStatementsInMemory;
+
     private WritableResourcesProvider wrp;
     private Canonicalizer canonicalizer;
 
@@ -65,7 +74,7 @@ public class CanonicalizeCommand extends CommandWithResourceProvider {
         super.run();
         try (var ctx = TLC.open().push(URIs.ContextKeys.BASE, Paths.get("").toUri())) {
             wrp = new WritableResourcesProvider(rp);
-            canonicalizer = new Canonicalizer(rp);
+            canonicalizer = new Canonicalizer(rp, maxStatementsInMemory);
 
             var fgrp = new GlobResolvers();
             for (var globIRI : resources.load) {
@@ -17,25 +17,105 @@
  */
 package dev.enola.cli;
 
+import dev.enola.cas.FileBlobStore;
+import dev.enola.common.ByteSeq;
+import dev.enola.common.context.TLC;
+import dev.enola.common.io.iri.URIs;
+
 import io.ipfs.cid.Cid;
 
 import picocli.CommandLine;
 
-@CommandLine.Command(name = "cid", description = "Deconstructs a CID into its components")
-public class CidCommand implements Runnable {
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+@CommandLine.Command(
+        name = "cid",
+        description = {
+            "Deconstructs a CID into its components",
+            "With --store, also adds, loads and garbage collects content in a local CAS directory."
+        })
+public class CidCommand extends CommandWithResourceProvider {
 
     @CommandLine.Spec CommandLine.Model.CommandSpec spec;
 
-    @CommandLine.Parameters(index = "0", paramLabel = "cid", description = "CID")
+    @CommandLine.Parameters(index = "0", arity = "0..1", paramLabel = "cid", description = "CID")
     String cidString;
 
+    @CommandLine.Option(
+            names = {"--store"},
+            paramLabel = "dir",
+            description = "Directory of a local content-addressed store (created if missing)")
+    Path store;
+
+    @CommandLine.Option(
+            names = {"--compress"},
+            description = "Whether content added to --store is GZIP compressed")
+    boolean compress;
+
+    @CommandLine.Option(
+            names = {"--add"},
+            paramLabel = "url",
+            description = "Adds content of URL to --store, linked from the URL; prints its CID")
+    String add;
+
+    @CommandLine.Option(
+            names = {"--cat"},
+            description = "Writes the content of the CID from --store to standard output")
+    boolean cat;
+
+    @CommandLine.Option(
+            names = {"--gc"},
+            paramLabel = "minimumAge",
+            description =
+                    "Deletes content from --store which no URL links to, and is older than this"
+                            + " (e.g. PT1H)")
+    Duration gc;
+
     @Override
-    public void run() {
-        var cid = Cid.decode(cidString);
+    public Integer call() throws Exception {
         var pw = spec.commandLine().getOut();
-        pw.print("CID v" + cid.version + " - " + cid.codec.name());
-        if (cid.version > 0)
-            pw.print(" - " + MultihashCommand.toString(cidString, cid.bareMultihash()));
-        pw.println();
+        if (cidString != null && !cat) {
+            var cid = Cid.decode(cidString);
+            pw.print("CID v" + cid.version + " - " + cid.codec.name());
+            if (cid.version > 0)
+                pw.print(" - " + MultihashCommand.toString(cidString, cid.bareMultihash()));
+            pw.println();
+        }
+        if (store == null) {
+            if (add != null || cat || gc != null)
+                throw new CommandLine.ParameterException(
+                        spec.commandLine(), "--add, --cat and --gc require --store");
+            return 0;
+        }
+
+        var blobStore = new FileBlobStore(store, compress);
+        if (add != null) {
+            super.run();
+            try (var ctx = TLC.open().push(URIs.ContextKeys.BASE, Paths.get("").toUri())) {
+                var uri = URIs.parse(add);
+                var resource = rp.getResource(uri);
+                if (resource == null) {
+                    var scheme = uri.getScheme();
+                    System.err.println(scheme + " scheme unknown; see: enola info cid --help");
+                    return 1;
+                }
+                var cid = blobStore.store(resource.byteSource());
+                blobStore.link(ByteSeq.from(uri.toString()), cid);
+                pw.println(cid);
+            }
+        }
+        if (cat) {
+            if (cidString == null) {
+                var message = "--cat requires a CID";
+                throw new CommandLine.ParameterException(spec.commandLine(), message);
+            }
+            pw.flush();
+            blobStore.load(Cid.decode(cidString)).copyTo(System.out);
+            System.out.flush();
+        }
+        if (gc != null) pw.println("Deleted " + blobStore.gc(gc) + " unreferenced blobs");
+        return 0;
     }
 }
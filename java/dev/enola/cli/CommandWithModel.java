@@ -22,7 +22,6 @@ import com.google.common.collect.ImmutableList;
 import dev.enola.common.context.TLC;
 import dev.enola.common.io.iri.URIs;
 import dev.enola.common.io.resource.FileDescriptorResource;
-import dev.enola.common.io.resource.stream.GlobResolvers;
 import dev.enola.core.EnolaServiceProvider;
 import dev.enola.core.grpc.EnolaGrpcClientProvider;
 import dev.enola.core.grpc.EnolaGrpcInProcess;
@@ -37,6 +36,7 @@ import dev.enola.thing.impl.MutableThing;
 import dev.enola.thing.java.ProxyTBF;
 import dev.enola.thing.java.TBF;
 import dev.enola.thing.message.AlwaysThingProviderAdapter;
+import dev.enola.thing.metadata.CachingThingMetadataProvider;
 import dev.enola.thing.metadata.ThingMetadataProvider;
 import dev.enola.thing.proto.Thing;
 import dev.enola.thing.repo.*;
@@ -53,6 +53,7 @@ import picocli.CommandLine.Option;
 import picocli.CommandLine.Spec;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -72,6 +73,14 @@ public abstract class CommandWithModel extends CommandWithResourceProviderAndLoa
             description = "Whether validation errors in loaded models should stop & exit")
     boolean validate;
 
+    @CommandLine.Option(
+            names = {"--store"},
+            paramLabel = "dir",
+            description =
+                    "Directory of a persistent store to load Things into (created if missing),"
+                            + " instead of into memory; Things already in it are kept")
+    @Nullable Path store;
+
     private EnolaServiceBlockingStub gRPCService;
 
     // TODO Turn remote service encapsulation upside down (as-is this "exception" is strange)
@@ -90,10 +99,23 @@ public abstract class CommandWithModel extends CommandWithResourceProviderAndLoa
 
             // TODO Move elsewhere for continuous ("shell") mode, as this is "expensive".
             ServiceProvider grpc = null;
+            ThingSegmentRepositoryRW segmentStore = null;
             if (group.load != null) {
                 ImmutableList<Trigger<? extends dev.enola.thing.Thing>> triggers =
                         ImmutableList.of(new RDFSPropertyTrigger());
-                ThingMemoryRepositoryROBuilder store = new ThingMemoryRepositoryROBuilder(triggers);
+                ThingMemoryRepositoryROBuilder memoryStore = null;
+                ThingRepositoryStore store;
+                if (this.store != null) {
+                    store =
+                            segmentStore =
+                                    new ThingSegmentRepositoryRW(
+                                            this.store,
+                                            DatatypeRepository.CTX,
+                                            ThingSegmentRepositoryRW.DEFAULT_MAX_SEGMENT_SIZE,
+                                            triggers);
+                } else {
+                    store = memoryStore = new ThingMemoryRepositoryROBuilder(triggers);
+                }
                 for (var trigger : triggers) {
                     ((ThingTrigger<?>) trigger).setRepo(store);
                 }
@@ -102,19 +124,25 @@ public abstract class CommandWithModel extends CommandWithResourceProviderAndLoa
                     ctx2.push(ThingProvider.class, new AlwaysThingRepositoryStore(store));
                     ctx2.push(TBF.class, new ProxyTBF(MutableThing.FACTORY));
                     var loader = loader();
-                    var fgrp = new GlobResolvers();
+                    var fgrp = globResolver();
                     for (var globIRI : group.load) {
                         try (var stream = fgrp.get(globIRI)) {
                             loader.convertIntoOrThrow(stream, store);
                         }
                     }
                 }
-                var repo = store.build();
+                ThingRepository repo;
+                if (segmentStore != null) {
+                    segmentStore.flush();
+                    repo = segmentStore;
+                } else {
+                    repo = memoryStore.build();
+                }
 
                 if (validate) {
                     var c = new LoggingCollector();
                     var v = new Validators(repo);
-                    v.validate(repo, c);
+                    v.validateInParallel(repo.list(), c);
                     if (c.hasMessages()) {
                         System.err.println(
                                 "Loaded models have validation errors; use -v to show them (or use"
@@ -146,13 +174,15 @@ public abstract class CommandWithModel extends CommandWithResourceProviderAndLoa
                 run(gRPCService);
             } finally {
                 if (grpc != null) grpc.close();
+                if (segmentStore != null) segmentStore.close();
             }
         }
     }
 
     // TODO Move this to class EnolaProvider?
     protected ThingMetadataProvider getMetadataProvider(ProviderFromIRI<Thing> thingProvider) {
-        return new ThingMetadataProvider(
+        // Loaded models do not change anymore, so it is safe to cache their metadata
+        return new CachingThingMetadataProvider(
                 new AlwaysThingProviderAdapter(thingProvider, DatatypeRepository.CTX),
                 NamespaceConverter.CTX);
     }
@@ -23,6 +23,8 @@ import com.google.common.collect.ImmutableList;
 import dev.enola.cas.IPFSGatewayResource;
 import dev.enola.common.context.Context;
 import dev.enola.common.io.hashbrown.IntegrityValidatingDelegatingResource;
+import dev.enola.common.io.hashbrown.IntegrityValidatingDelegatingResource.Mode;
+import dev.enola.common.io.hashbrown.VerifiedContentCache;
 import dev.enola.common.io.iri.URIs;
 import dev.enola.common.io.resource.*;
 import dev.enola.data.iri.NamespaceConverter;
@@ -41,6 +43,9 @@ import java.util.concurrent.Callable;
 
 public abstract class CommandWithResourceProvider implements Callable<Integer> {
 
+    /** Memory for content whose ?integrity= was already verified, so it's not re-read. */
+    private static final long VERIFIED_CONTENT_CACHE_BYTES = 32L * 1024L * 1024L; // 32 MiB
+
     @CommandLine.Option(
             names = {"--http-scheme"},
             negatable = true,
@@ -92,6 +97,18 @@ public abstract class CommandWithResourceProvider implements Callable<Integer> {
             description = "See https://docs.enola.dev/use/fetch/#ipfs")
     String ipfsGateway;
 
+    @CommandLine.Option(
+            names = {"--integrity-streaming"},
+            negatable = true,
+            required = true,
+            defaultValue = "false",
+            fallbackValue = "true",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description =
+                    "Whether ?integrity= is verified while content is read, instead of before;"
+                            + " content which does not match then fails only once it was read")
+    boolean integrityStreaming;
+
     protected ResourceProvider rp;
 
     @Override
@@ -120,7 +137,16 @@ public abstract class CommandWithResourceProvider implements Callable<Integer> {
         if (classpath) builder.add(new ClasspathResource.Provider());
 
         var original = new ResourceProviders(builder.build());
-        rp = new IntegrityValidatingDelegatingResource.Provider(original);
+        var integrityMode = integrityStreaming ? Mode.STREAMING : Mode.EAGER;
+        var verifiedContentCache = new VerifiedContentCache(VERIFIED_CONTENT_CACHE_BYTES);
+        rp =
+                new IntegrityValidatingDelegatingResource.Provider(
+                        cache(original), integrityMode, verifiedContentCache);
+    }
+
+    /** Hook for subclasses to wrap the ResourceProvider into a cache; this default does not. */
+    protected ResourceProvider cache(ResourceProvider original) {
+        return original;
     }
 
     protected void setup(Context ctx) {
@@ -17,12 +17,18 @@
  */
 package dev.enola.cli;
 
+import com.google.common.collect.ImmutableList;
+
 import dev.enola.common.context.Context;
+import dev.enola.common.io.resource.stream.FileGlobResolver;
+import dev.enola.common.io.resource.stream.GlobResolver;
+import dev.enola.common.io.resource.stream.GlobResolvers;
 import dev.enola.format.tika.TikaThingConverter;
 import dev.enola.format.xml.XmlThingConverter;
 import dev.enola.model.enola.files.FileThingConverter;
 import dev.enola.model.enola.mediatype.TikaMediaTypesThingConverter;
 import dev.enola.rdf.io.RdfResourceIntoThingConverter;
+import dev.enola.thing.io.BinaryThingsIntoThingConverter;
 import dev.enola.thing.io.Loader;
 import dev.enola.thing.io.UriIntoThingConverter;
 import dev.enola.thing.io.UriIntoThingConverters;
@@ -30,6 +36,7 @@ import dev.enola.thing.io.UriIntoThingConverters;
 import picocli.CommandLine;
 
 import java.util.ArrayList;
+import java.util.List;
 
 public abstract class CommandWithResourceProviderAndLoader extends CommandWithResourceProvider {
 
@@ -53,17 +60,59 @@ public abstract class CommandWithResourceProviderAndLoader extends CommandWithRe
             description = "Whether resources are loaded with Tika parsers to create Things")
     boolean tikaLoader;
 
+    @CommandLine.Option(
+            names = {"--rdf-streaming"},
+            negatable = true,
+            required = true,
+            defaultValue = "false",
+            fallbackValue = "true",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description =
+                    "Whether RDF resources are stored while they are parsed (uses less memory)")
+    boolean rdfStreaming;
+
+    @CommandLine.Option(
+            names = {"--loader-parallelism"},
+            required = true,
+            defaultValue = "1",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description =
+                    "How many resources to load concurrently; 1 loads them one after the other")
+    int loaderParallelism;
+
+    @CommandLine.Option(
+            names = {"--gitignore"},
+            negatable = true,
+            required = true,
+            defaultValue = "false",
+            fallbackValue = "true",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description = "Whether globs skip what .gitignore files ignore")
+    boolean gitIgnore;
+
+    @CommandLine.Option(
+            names = {"--exclude"},
+            description = ".gitignore-style pattern of files which globs skip (repeatable)")
+    List<String> excludes = List.of();
+
+    protected GlobResolver globResolver() {
+        var options =
+                new FileGlobResolver.Options(gitIgnore, ImmutableList.copyOf(excludes), true, true);
+        return new GlobResolvers(options);
+    }
+
     protected Loader loader() {
         // TODO Move this (and other) initialization out of CLI, to a dev.enola.Enola...
-        var uriIntoThingConverters = new ArrayList<UriIntoThingConverter>(7);
-        uriIntoThingConverters.add(new RdfResourceIntoThingConverter<>());
+        var uriIntoThingConverters = new ArrayList<UriIntoThingConverter>(8);
+        uriIntoThingConverters.add(new RdfResourceIntoThingConverter<>(rdfStreaming));
+        uriIntoThingConverters.add(new BinaryThingsIntoThingConverter());
         uriIntoThingConverters.add(new XmlThingConverter(rp));
         if (fileLoader) uriIntoThingConverters.add(new FileThingConverter());
         if (tikaLoader) uriIntoThingConverters.add(new TikaThingConverter(rp));
         uriIntoThingConverters.add(new TikaMediaTypesThingConverter());
 
         var ritc = new UriIntoThingConverters(uriIntoThingConverters);
-        return new Loader(ritc);
+        return new Loader(ritc, loaderParallelism);
     }
 
     @Override
@@ -83,6 +83,20 @@ public class DocGenCommand extends CommandWithModelAndOutput {
             description = "Whether index.md should be generated")
     boolean generateIndexFile;
 
+    @Option(
+            names = {"--parallel"},
+            defaultValue = "1",
+            description = "Number of threads used to generate Markdown (default: ${DEFAULT-VALUE})")
+    int parallelism;
+
+    @Option(
+            names = {"--incremental"},
+            negatable = true,
+            defaultValue = "false",
+            fallbackValue = "true",
+            description = "Whether to skip rewriting files whose content did not change")
+    boolean incremental;
+
     @Override
     public void run(EnolaServiceBlockingStub service) throws Exception {
         multipleMDDocsForThings(service, generateIndexFile);
@@ -102,7 +116,15 @@ public class DocGenCommand extends CommandWithModelAndOutput {
         var map = things.stream().collect(Collectors.toMap(Thing::getIri, Function.identity()));
         CheckedPredicate<String, IOException> isDocumentedIRI =
                 iri -> templateService.get(iri) != null;
-        mdsg.generate(things, map::get, isDocumentedIRI, templateService, generateIndexFile, true);
+        mdsg.generate(
+                things,
+                map::get,
+                isDocumentedIRI,
+                templateService,
+                generateIndexFile,
+                true,
+                parallelism,
+                incremental);
     }
 
     private Collection<Thing> getThings(EnolaServiceBlockingStub service, String iri)
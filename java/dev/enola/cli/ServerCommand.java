@@ -20,25 +20,72 @@ package dev.enola.cli;
 import dev.enola.ai.adk.web.AdkHttpServer;
 import dev.enola.chat.sshd.EnolaSshServer;
 import dev.enola.common.FreedesktopDirectories;
+import dev.enola.common.concurrent.Executors;
 import dev.enola.common.context.TLC;
+import dev.enola.common.io.resource.ResourceProvider;
+import dev.enola.common.io.resource.cache.ContentCachingResourceProvider;
 import dev.enola.core.grpc.EnolaGrpcServer;
 import dev.enola.core.proto.EnolaServiceGrpc;
 import dev.enola.web.*;
 import dev.enola.web.netty.NettyHttpServer;
 
 import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import picocli.CommandLine;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
 @CommandLine.Command(name = "server", description = "Start HTTP, SSH and/or gRPC Server/s")
 public class ServerCommand extends CommandWithModel {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ServerCommand.class);
+
     @CommandLine.ArgGroup(exclusive = false, multiplicity = "1")
     HttpAndOrGrpcPorts ports;
 
     @CommandLine.ArgGroup(exclusive = false)
     @Nullable AiOptions aiOptions;
 
+    @CommandLine.Option(
+            names = {"--resource-cache-size"},
+            defaultValue = "0",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description = "Maximum MiB of fetched resources to keep in memory; 0 disables caching")
+    long resourceCacheSize;
+
+    @CommandLine.Option(
+            names = {"--resource-cache-ttl"},
+            defaultValue = "PT5M",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description = "How long cached resources are used before checking if they changed")
+    Duration resourceCacheTTL;
+
+    @CommandLine.Option(
+            names = {"--resource-cache-dir"},
+            description = "Directory to spill cached resources evicted from memory into")
+    @Nullable Path resourceCacheDir;
+
+    @CommandLine.Option(
+            names = {"--resource-cache-dir-size"},
+            defaultValue = "1024",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description =
+                    "Maximum MiB of the --resource-cache-dir; least recently used files are"
+                            + " deleted beyond that")
+    long resourceCacheDirSize;
+
+    @CommandLine.Option(
+            names = {"--resource-cache-stats"},
+            defaultValue = "PT15M",
+            showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+            description = "How often to log statistics of the resource cache; PT0S disables it")
+    Duration resourceCacheStats;
+
     @CommandLine.Option(
             names = {"--immediateExitOnlyForTest"},
             defaultValue = "false",
@@ -49,6 +96,21 @@ public class ServerCommand extends CommandWithModel {
     private @Nullable WebServer httpServer;
     private @Nullable AutoCloseable chatServer;
     private @Nullable EnolaSshServer sshServer;
+    private @Nullable ContentCachingResourceProvider resourceCache;
+    private @Nullable ScheduledExecutorService resourceCacheStatsExecutor;
+
+    @Override
+    protected ResourceProvider cache(ResourceProvider original) {
+        if (resourceCacheSize <= 0) return original;
+        var options =
+                new ContentCachingResourceProvider.Options(
+                        resourceCacheSize * 1024 * 1024,
+                        resourceCacheTTL,
+                        resourceCacheDir,
+                        resourceCacheDirSize * 1024 * 1024);
+        resourceCache = new ContentCachingResourceProvider(original, options);
+        return resourceCache;
+    }
 
     @Override
     protected void run(EnolaServiceGrpc.EnolaServiceBlockingStub service) throws Exception {
@@ -61,6 +123,20 @@ public class ServerCommand extends CommandWithModel {
     private void runInContext(EnolaServiceGrpc.EnolaServiceBlockingStub service) throws Exception {
         var out = spec.commandLine().getOut();
 
+        // Resource Cache Statistics
+        var cache = resourceCache;
+        if (cache != null && resourceCacheStats.isPositive()) {
+            var executor = Executors.newListeningSingleThreadScheduledExecutor("CacheStats", LOG);
+            var period = resourceCacheStats.toMillis();
+            var ignored =
+                    executor.scheduleAtFixedRate(
+                            () -> LOG.info("Resource cache: {}", cache.stats()),
+                            period,
+                            period,
+                            TimeUnit.MILLISECONDS);
+            resourceCacheStatsExecutor = executor;
+        }
+
         // gRPC API
         if (ports.grpcPort != null) {
             grpcServer = new EnolaGrpcServer(esp, esp.getEnolaService());
@@ -119,6 +195,9 @@ public class ServerCommand extends CommandWithModel {
         if (sshServer != null) {
             sshServer.close();
         }
+        if (resourceCacheStatsExecutor != null) {
+            Executors.shutdownAndAwaitTermination(resourceCacheStatsExecutor);
+        }
         // TODO Thread.currentThread().interrupt();
     }
 
@@ -52,7 +52,18 @@ public class Canonicalizer implements ResourceConverter {
     private final RdfCanonicalizer rdfCanonicalizer;
 
     public Canonicalizer(ResourceProvider rp) {
-        rdfCanonicalizer = new RdfCanonicalizer(rp);
+        this(rp, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rp ResourceProvider
+     * @param maxRdfStatementsInMemory see {@link
+     *     RdfCanonicalizer#RdfCanonicalizer(ResourceProvider, int)}
+     */
+    public Canonicalizer(ResourceProvider rp, int maxRdfStatementsInMemory) {
+        rdfCanonicalizer = new RdfCanonicalizer(rp, maxRdfStatementsInMemory);
     }
 
     public void canonicalize(ReadableResource in, WritableResource out, boolean pretty)
@@ -78,7 +89,8 @@ public class Canonicalizer implements ResourceConverter {
             out.charSink().write(HTML.canonicalize(in, outCharset, pretty));
 
         } else if (normalizedNoParamsEquals(inMT, RdfMediaTypes.TURTLE)
-                || normalizedNoParamsEquals(inMT, RdfMediaTypes.JSON_LD)) {
+                || normalizedNoParamsEquals(inMT, RdfMediaTypes.JSON_LD)
+                || normalizedNoParamsEquals(inMT, RdfMediaTypes.N_TRIPLES)) {
             rdfCanonicalizer.canonicalize(in, out);
 
         } else if (normalizedNoParamsEquals(inMT, MarkdownMediaTypes.MARKDOWN_UTF_8)
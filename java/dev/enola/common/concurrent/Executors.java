@@ -22,7 +22,8 @@ import com.google.common.util.concurrent.ListeningScheduledExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
-import dev.enola.common.context.ContextAwareThreadFactory;
+import dev.enola.common.context.ContextAwareExecutorService;
+import dev.enola.common.context.ContextAwareScheduledExecutorService;
 
 import org.slf4j.Logger;
 
@@ -36,7 +37,8 @@ import java.util.concurrent.TimeUnit;
  * <p>Use this instead of {@link java.util.concurrent.Executors}, because it ensures that:
  *
  * <ul>
- *   <li>the {@link dev.enola.common.context.TLC} is correctly propagated
+ *   <li>the {@link dev.enola.common.context.TLC} of the caller is propagated to each task, see
+ *       {@link ContextAwareExecutorService} and {@link ContextAwareScheduledExecutorService}
  *   <li>the returned Executor uses a {@link ThreadFactory} that is named,
  *   <li>has an UncaughtExceptionHandler which logs to SLF4j
  *   <li>can return (Guava's) ListenableFuture.
@@ -81,14 +83,13 @@ public final class Executors {
      */
     public static ListeningExecutorService newListeningSingleThreadExecutor(
             String namePrefix, Logger logger) {
-        return MoreExecutors.listeningDecorator(
+        return new ContextAwareExecutorService(
                 java.util.concurrent.Executors.newSingleThreadExecutor(
                         createThreadFactory(namePrefix, logger)));
     }
 
     public static ExecutorService newSingleThreadExecutor(String namePrefix, Logger logger) {
-        return java.util.concurrent.Executors.newSingleThreadExecutor(
-                createThreadFactory(namePrefix, logger));
+        return newListeningSingleThreadExecutor(namePrefix, logger);
     }
 
     /**
@@ -96,14 +97,13 @@ public final class Executors {
      */
     public static ListeningExecutorService newListeningFixedThreadPool(
             int size, String namePrefix, Logger logger) {
-        return MoreExecutors.listeningDecorator(
+        return new ContextAwareExecutorService(
                 java.util.concurrent.Executors.newFixedThreadPool(
                         size, createThreadFactory(namePrefix, logger)));
     }
 
     public static ExecutorService newFixedThreadPool(int size, String namePrefix, Logger logger) {
-        return java.util.concurrent.Executors.newFixedThreadPool(
-                size, createThreadFactory(namePrefix, logger));
+        return newListeningFixedThreadPool(size, namePrefix, logger);
     }
 
     /**
@@ -111,14 +111,27 @@ public final class Executors {
      */
     public static ListeningExecutorService newListeningCachedThreadPool(
             String namePrefix, Logger logger) {
-        return MoreExecutors.listeningDecorator(
+        return new ContextAwareExecutorService(
                 java.util.concurrent.Executors.newCachedThreadPool(
                         createThreadFactory(namePrefix, logger)));
     }
 
     public static ExecutorService newCachedThreadPool(String namePrefix, Logger logger) {
-        return java.util.concurrent.Executors.newCachedThreadPool(
-                createThreadFactory(namePrefix, logger));
+        return newListeningCachedThreadPool(namePrefix, logger);
+    }
+
+    /**
+     * Creates an executor which starts a new virtual thread for each task. This is well suited for
+     * (many) I/O bound tasks; use a bounded {@link #newListeningFixedThreadPool(int, String,
+     * Logger)} for CPU bound ones.
+     *
+     * @see java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()
+     */
+    public static ListeningExecutorService newListeningVirtualThreadPerTaskExecutor(
+            String namePrefix, Logger logger) {
+        return new ContextAwareExecutorService(
+                java.util.concurrent.Executors.newThreadPerTaskExecutor(
+                        createVirtualThreadFactory(namePrefix, logger)));
     }
 
     /**
@@ -126,7 +139,7 @@ public final class Executors {
      */
     public static ListeningScheduledExecutorService newListeningSingleThreadScheduledExecutor(
             String namePrefix, Logger logger) {
-        return MoreExecutors.listeningDecorator(
+        return new ContextAwareScheduledExecutorService(
                 java.util.concurrent.Executors.unconfigurableScheduledExecutorService(
                         java.util.concurrent.Executors.newSingleThreadScheduledExecutor(
                                 createThreadFactory(namePrefix, logger))));
@@ -137,7 +150,7 @@ public final class Executors {
      */
     public static ListeningScheduledExecutorService newListeningScheduledThreadPool(
             int corePoolSize, String namePrefix, Logger logger) {
-        return MoreExecutors.listeningDecorator(
+        return new ContextAwareScheduledExecutorService(
                 java.util.concurrent.Executors.newScheduledThreadPool(
                         corePoolSize, createThreadFactory(namePrefix, logger)));
     }
@@ -153,12 +166,21 @@ public final class Executors {
                         .setNameFormat(namePrefix + "-%d")
                         .setUncaughtExceptionHandler(
                                 LoggingThreadUncaughtExceptionHandler.toLogger(logger))
-                        .setDaemon(true)
-                        .setThreadFactory(new ContextAwareThreadFactory());
+                        .setDaemon(true);
         // priority.ifPresent(guavaBuilder::setPriority);
         // logger.info("ThreadFactory created: {}", namePrefix);
         return guavaBuilder.build();
     }
 
+    private static ThreadFactory createVirtualThreadFactory(String namePrefix, Logger logger) {
+        var virtualThreadFactory =
+                Thread.ofVirtual()
+                        .name(namePrefix + "-", 0)
+                        .uncaughtExceptionHandler(
+                                LoggingThreadUncaughtExceptionHandler.toLogger(logger))
+                        .factory();
+        return virtualThreadFactory;
+    }
+
     private Executors() {}
 }
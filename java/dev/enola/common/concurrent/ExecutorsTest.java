@@ -26,7 +26,9 @@ import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class ExecutorsTest {
@@ -49,6 +51,96 @@ public class ExecutorsTest {
         }
     }
 
+    @Test
+    public void virtualThreadTLC() throws ExecutionException, InterruptedException {
+        try (var executor =
+                Executors.newListeningVirtualThreadPerTaskExecutor("ExecutorsTest", LOG)) {
+            try (var ctx = TLC.open()) {
+                ctx.push(TestCtxKey.MAGIC, 456);
+
+                var atomic = new AtomicInteger();
+                Runnable runnable = () -> atomic.set(TLC.get(TestCtxKey.MAGIC));
+
+                executor.submit(runnable).get();
+
+                assertThat(atomic.get()).isEqualTo(456);
+            }
+        }
+    }
+
+    @Test
+    public void pooledThreadTLC() throws ExecutionException, InterruptedException {
+        try (var executor = Executors.newListeningSingleThreadExecutor("ExecutorsTest", LOG)) {
+            // The same (single) thread must run each task with the TLC of its submitter
+            for (int i = 1; i <= 3; i++) {
+                try (var ctx = TLC.open()) {
+                    ctx.push(TestCtxKey.MAGIC, i);
+                    var result = executor.submit(() -> TLC.get(TestCtxKey.MAGIC)).get();
+                    assertThat(result).isEqualTo(i);
+                }
+            }
+            // ...and without any TLC (of previous tasks) "leaking" outside of them
+            assertThat(executor.submit(() -> TLC.optional(TestCtxKey.MAGIC)).get()).isEmpty();
+        }
+    }
+
+    @Test
+    public void scheduledTLC() throws ExecutionException, InterruptedException {
+        var executor = Executors.newListeningSingleThreadScheduledExecutor("ExecutorsTest", LOG);
+        try {
+            // The same (single) thread must run each task with the TLC of its submitter
+            for (int i = 1; i <= 3; i++) {
+                try (var ctx = TLC.open()) {
+                    ctx.push(TestCtxKey.MAGIC, i);
+                    var result =
+                            executor.schedule(
+                                            () -> TLC.get(TestCtxKey.MAGIC),
+                                            1,
+                                            TimeUnit.MILLISECONDS)
+                                    .get();
+                    assertThat(result).isEqualTo(i);
+                }
+            }
+
+            try (var ctx = TLC.open()) {
+                ctx.push(TestCtxKey.MAGIC, 789);
+                var atomic = new AtomicInteger();
+                var latch = new CountDownLatch(2);
+                Runnable runnable =
+                        () -> {
+                            atomic.set(TLC.get(TestCtxKey.MAGIC));
+                            latch.countDown();
+                        };
+                var future = executor.scheduleAtFixedRate(runnable, 0, 1, TimeUnit.MILLISECONDS);
+                latch.await();
+                future.cancel(false);
+                assertThat(atomic.get()).isEqualTo(789);
+            }
+        } finally {
+            Executors.shutdownAndAwaitTermination(executor);
+        }
+    }
+
+    @Test
+    public void shutdownNowReturnsOriginalTasks() throws InterruptedException {
+        var executor = Executors.newListeningSingleThreadExecutor("ExecutorsTest", LOG);
+        var started = new CountDownLatch(1);
+        var blocker = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    started.countDown();
+                    try {
+                        blocker.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        started.await();
+        Runnable queued = () -> {};
+        executor.execute(queued);
+        assertThat(executor.shutdownNow()).containsExactly(queued);
+    }
+
     private enum TestCtxKey implements Context.Key<Integer> {
         MAGIC
     }
@@ -24,14 +24,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Contexts 🧿 put things into perspective!
  *
  * <p>Contexts are "hierarchical", and child contexts "mask" keys in their parent.
  *
- * <p>This class is NOT thread safe. Might you want to use {@link TLC} instead?
+ * <p>This class is NOT thread safe for {@link #push(Class, Object)}. Lookups (but not pushes) may
+ * happen concurrently, such as when a context is propagated to tasks of an executor by {@link
+ * ContextAwareExecutorService}. Might you want to use {@link TLC} instead?
  *
  * @author <a href="http://www.vorburger.ch">Michael Vorburger.ch</a>
  */
@@ -45,13 +50,31 @@ public class Context implements AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(Context.class);
 
+    /**
+     * Incremented whenever a Context which has children is modified; the {@link #cache} of any
+     * context is only valid for the generation it was filled in. Contexts are typically only
+     * modified before they get children, so this rarely changes.
+     */
+    private static final AtomicLong generation = new AtomicLong();
+
+    /** Marks keys which are not in this context nor its parents, in {@link #cache}. */
+    private static final Object ABSENT = new Object();
+
     private final @Nullable Context parent;
 
     @Nullable Entry last = null;
     private boolean closed = false;
 
+    private volatile boolean hasChildren = false;
+
+    /** Flattened lookups, of keys in this context and its parents. */
+    private final Map<Object, Object> cache = new ConcurrentHashMap<>();
+
+    private volatile long cacheGeneration = generation.get();
+
     public Context(Context parent) {
         this.parent = requireNonNull(parent);
+        parent.hasChildren = true;
     }
 
     public Context() {
@@ -85,9 +108,15 @@ public class Context implements AutoCloseable {
             throw new IllegalStateException(
                     "Use nesting; this Context already has another value for: #" + key);
         last = new Entry(key, value, last);
+        modified();
         return this;
     }
 
+    private void modified() {
+        if (hasChildren) generation.incrementAndGet();
+        cache.clear();
+    }
+
     private Object _get(Object key) {
         if (isEmpty()) throw new IllegalStateException("Context is empty, no: " + key);
         var object = _getRecursive(key);
@@ -153,6 +182,21 @@ public class Context implements AutoCloseable {
 
     private @Nullable Object _getRecursive(Object key) {
         check();
+        var currentGeneration = generation.get();
+        if (cacheGeneration != currentGeneration) {
+            cache.clear();
+            cacheGeneration = currentGeneration;
+        }
+        var cached = cache.get(key);
+        if (cached != null) return cached != ABSENT ? cached : null;
+
+        var value = _getUncached(key);
+        // Don't cache what may have been looked up before a concurrent modification
+        if (generation.get() == currentGeneration) cache.put(key, value != null ? value : ABSENT);
+        return value;
+    }
+
+    private @Nullable Object _getUncached(Object key) {
         var current = last;
         while (current != null) {
             if (current.key.equals(key)) {
@@ -202,6 +246,8 @@ public class Context implements AutoCloseable {
     @Override
     public void close() {
         closed = true;
+        // Children must not use lookups cached before this was closed
+        modified();
         TLC.reset(parent);
 
         // NB: It's tempting to do "last = null" here, intending to free up memory;
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.context;
+
+import com.google.common.util.concurrent.AbstractListeningExecutorService;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutorService which runs each task with the {@link TLC} of the thread which submitted it.
+ *
+ * <p>This is unlike {@link ContextAwareThreadFactory}, which propagates the TLC of whichever thread
+ * happens to cause a new thread to be created, to all tasks which that (possibly pooled) thread
+ * will ever run.
+ *
+ * <p>Tasks submitted from a thread without a TLC run with the TLC which was current when this
+ * executor was created (if any).
+ *
+ * @see ContextAwareScheduledExecutorService
+ */
+public final class ContextAwareExecutorService extends AbstractListeningExecutorService {
+
+    private final ExecutorService delegate;
+    private final @Nullable Context creationContext;
+
+    public ContextAwareExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+        this.creationContext = TLC.get();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(TLC.wrap(command, context(creationContext)));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return unwrap(delegate.shutdownNow());
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /* package-local */ static @Nullable Context context(@Nullable Context creationContext) {
+        var context = TLC.get();
+        return context != null ? context : creationContext;
+    }
+
+    /** Returns the originally submitted tasks, instead of their TLC wrappers. */
+    /* package-local */ static List<Runnable> unwrap(List<Runnable> tasks) {
+        var originals = new ArrayList<Runnable>(tasks.size());
+        for (var task : tasks) {
+            if (task instanceof TLC.WrappedRunnable wrapped) originals.add(wrapped.runnable());
+            else originals.add(task);
+        }
+        return originals;
+    }
+}
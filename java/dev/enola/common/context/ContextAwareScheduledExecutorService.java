@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.context;
+
+import com.google.common.util.concurrent.AbstractListeningExecutorService;
+import com.google.common.util.concurrent.ListenableScheduledFuture;
+import com.google.common.util.concurrent.ListeningScheduledExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScheduledExecutorService which runs each task, including scheduled and periodic ones, with the
+ * {@link TLC} of the thread which submitted it; like {@link ContextAwareExecutorService}.
+ */
+public final class ContextAwareScheduledExecutorService extends AbstractListeningExecutorService
+        implements ListeningScheduledExecutorService {
+
+    private final ListeningScheduledExecutorService delegate;
+    private final @Nullable Context creationContext;
+
+    public ContextAwareScheduledExecutorService(ScheduledExecutorService delegate) {
+        this.delegate = MoreExecutors.listeningDecorator(delegate);
+        this.creationContext = TLC.get();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(wrap(command));
+    }
+
+    @Override
+    public ListenableScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        return delegate.schedule(wrap(command), delay, unit);
+    }
+
+    @Override
+    public <V> ListenableScheduledFuture<V> schedule(
+            Callable<V> callable, long delay, TimeUnit unit) {
+        var context = ContextAwareExecutorService.context(creationContext);
+        return delegate.schedule(TLC.wrap(callable, context), delay, unit);
+    }
+
+    @Override
+    public ListenableScheduledFuture<?> scheduleAtFixedRate(
+            Runnable command, long initialDelay, long period, TimeUnit unit) {
+        return delegate.scheduleAtFixedRate(wrap(command), initialDelay, period, unit);
+    }
+
+    @Override
+    public ListenableScheduledFuture<?> scheduleWithFixedDelay(
+            Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        return delegate.scheduleWithFixedDelay(wrap(command), initialDelay, delay, unit);
+    }
+
+    private Runnable wrap(Runnable command) {
+        return TLC.wrap(command, ContextAwareExecutorService.context(creationContext));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return ContextAwareExecutorService.unwrap(delegate.shutdownNow());
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
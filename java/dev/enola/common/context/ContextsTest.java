@@ -28,6 +28,7 @@ import org.junit.Test;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.concurrent.Callable;
 
 public class ContextsTest {
 
@@ -125,6 +126,43 @@ public class ContextsTest {
         }
     }
 
+    @Test
+    public void parentModifiedAfterChildLookup() {
+        try (var ctx1 = TLC.open()) {
+            try (var ctx2 = TLC.open()) {
+                assertThat(TLC.optional(FOO)).isEmpty();
+                ctx1.push(FOO, "bar");
+                assertThat(TLC.get(FOO)).isEqualTo("bar");
+            }
+        }
+    }
+
+    @Test
+    public void useAfterParentClose() {
+        Context ctx1 = TLC.open();
+        ctx1.push(FOO, "bar");
+        Context ctx2 = new Context(ctx1);
+        assertThat(ctx2.get(FOO)).isEqualTo("bar");
+        ctx1.close();
+        assertThrows(IllegalStateException.class, () -> ctx2.get(FOO));
+    }
+
+    @Test
+    public void wrap() throws Exception {
+        var executor = java.util.concurrent.Executors.newSingleThreadExecutor();
+        try (var ctx = TLC.open()) {
+            ctx.push(FOO, "bar");
+            Runnable runnable = () -> assertThat(TLC.get(FOO)).isEqualTo("bar");
+            executor.submit(TLC.wrap(runnable)).get();
+            Callable<String> callable = () -> TLC.get(FOO);
+            assertThat(executor.submit(TLC.wrap(callable)).get()).isEqualTo("bar");
+            // The executor's thread does not keep the TLC of a wrapped task
+            assertThat(executor.submit(() -> TLC.optional(FOO)).get()).isEmpty();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     // TODO Truth's ThrowableSubject is missing throwable support; add it!
     private String stackTrace(Throwable e) {
         var sw = new StringWriter();
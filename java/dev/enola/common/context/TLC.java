@@ -22,6 +22,7 @@ import com.google.errorprone.annotations.ThreadSafe;
 import org.jspecify.annotations.Nullable;
 
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 /**
  * TLC is the Thread Local {@link Context}. (Also known as "Tender Loving Care".)
@@ -37,6 +38,8 @@ public final class TLC {
 
     // TODO Use Java 21+ e JEP 446 --preview ScopedValue instead of ThreadLocal
     // https://docs.oracle.com/en/java/javase/21/docs/api/java.base/java/lang/ScopedValue.html
+    // (once it's no longer a preview feature in the Java version used to build this project);
+    // until then, wrap() and ContextAwareExecutorService are the equivalent of its "inheritance".
 
     private static final ThreadLocal<Context> threadLocalContext = new ThreadLocal<>();
 
@@ -99,6 +102,57 @@ public final class TLC {
         return tlc;
     }
 
+    /**
+     * Wraps a Runnable to run with the {@link Context} which is current when this is called (if
+     * any), no matter on which thread it is later run; the context of that thread is restored
+     * afterwards.
+     *
+     * <p>This is useful for work which is handed to other threads, e.g. when forking subtasks (also
+     * virtual threads, such as for structured concurrency). {@link ContextAwareExecutorService}
+     * (which {@code dev.enola.common.concurrent.Executors} uses) already does this for all tasks
+     * submitted to it.
+     */
+    public static Runnable wrap(Runnable runnable) {
+        return wrap(runnable, threadLocalContext.get());
+    }
+
+    /** Wraps a Callable, like {@link #wrap(Runnable)}. */
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        return wrap(callable, threadLocalContext.get());
+    }
+
+    /* package-local */ static <T> Callable<T> wrap(
+            Callable<T> callable, @Nullable Context context) {
+        return () -> {
+            var previous = threadLocalContext.get();
+            threadLocalContext.set(context);
+            try {
+                return callable.call();
+            } finally {
+                threadLocalContext.set(previous);
+            }
+        };
+    }
+
+    /* package-local */ static Runnable wrap(Runnable runnable, @Nullable Context context) {
+        return new WrappedRunnable(runnable, context);
+    }
+
+    /** Runnable returned by wrap(), which keeps the original, e.g. for shutdownNow(). */
+    /* package-local */ record WrappedRunnable(Runnable runnable, @Nullable Context context)
+            implements Runnable {
+        @Override
+        public void run() {
+            var previous = threadLocalContext.get();
+            threadLocalContext.set(context);
+            try {
+                runnable.run();
+            } finally {
+                threadLocalContext.set(previous);
+            }
+        }
+    }
+
     /* package-local, always keep; never make public! */
     static void reset(@Nullable Context context) {
         threadLocalContext.set(context);
@@ -18,12 +18,16 @@
 package dev.enola.common.io.hashbrown;
 
 import com.google.common.io.ByteSource;
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharSource;
 
 import dev.enola.common.io.iri.URIs;
 import dev.enola.common.io.resource.*;
 
+import org.jspecify.annotations.Nullable;
+
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.URI;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -35,11 +39,41 @@ public class IntegrityValidatingDelegatingResource extends DelegatingResource {
     // TODO This needs to improved to re-hash() when Resource.version() [content] changes!
     // (For both scenarios; when it was valid, and when it was not.)
 
+    /** When the content of the delegate is checked against the expected hash. */
+    public enum Mode {
+        /**
+         * Reads (and hashes) all of the delegate's content before returning its {@link
+         * #byteSource()}. Content is never used before it was checked. If it fits into the {@link
+         * VerifiedContentCache}, it is then served from there; otherwise it's read again.
+         */
+        EAGER,
+
+        /**
+         * Hashes while the consumer reads, and throws an {@link IntegrityViolationException} at the
+         * end of the stream if the hash does not match; this avoids reading the content twice (e.g.
+         * downloading it twice via HTTP), but consumers may already have processed some of the
+         * (invalid) content when that happens. Streams which are not read until the end are not
+         * checked.
+         */
+        STREAMING
+    }
+
     public static class Provider implements ResourceProvider {
         private final ResourceProvider delegatingResourceProvider;
+        private final Mode mode;
+        private final @Nullable VerifiedContentCache cache;
 
         public Provider(ResourceProvider delegatingResourceProvider) {
+            this(delegatingResourceProvider, Mode.EAGER, null);
+        }
+
+        public Provider(
+                ResourceProvider delegatingResourceProvider,
+                Mode mode,
+                @Nullable VerifiedContentCache cache) {
             this.delegatingResourceProvider = delegatingResourceProvider;
+            this.mode = mode;
+            this.cache = cache;
         }
 
         @Override
@@ -49,32 +83,64 @@ public class IntegrityValidatingDelegatingResource extends DelegatingResource {
             var integrity = URIs.getQueryMap(uri).get("integrity");
             if (integrity == null) return original;
             var multihash = MultihashWithMultibase.decode(integrity);
-            return new IntegrityValidatingDelegatingResource(original, multihash);
+            return new IntegrityValidatingDelegatingResource(original, multihash, mode, cache);
         }
     }
 
     private final MultihashWithMultibase expectedHash;
+    private final Mode mode;
+    private final @Nullable VerifiedContentCache cache;
     private final AtomicBoolean validated = new AtomicBoolean(false);
     private final Lock validationLock = new ReentrantLock();
 
     public IntegrityValidatingDelegatingResource(
             Resource delegate, MultihashWithMultibase expectedHash) {
+        this(delegate, expectedHash, Mode.EAGER, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param cache optional; if not null, verified content is served from it (without reading the
+     *     delegate at all), and what was verified is put into it.
+     */
+    public IntegrityValidatingDelegatingResource(
+            Resource delegate,
+            MultihashWithMultibase expectedHash,
+            Mode mode,
+            @Nullable VerifiedContentCache cache) {
         super(delegate);
         this.expectedHash = expectedHash;
+        this.mode = mode;
+        this.cache = cache;
     }
 
     @Override
     public ByteSource byteSource() {
+        var cached = cached();
+        if (cached != null) return cached;
+        if (mode == Mode.STREAMING && !validated.get()) return new VerifyingByteSource();
+
         ensureValidated();
-        return delegate.byteSource();
+        cached = cached();
+        return cached != null ? cached : delegate.byteSource();
     }
 
     @Override
     public CharSource charSource() {
+        var charset = mediaType().charset().orNull();
+        if (charset != null && mode == Mode.STREAMING) return byteSource().asCharSource(charset);
+
         ensureValidated();
+        var cached = cached();
+        if (charset != null && cached != null) return cached.asCharSource(charset);
         return delegate.charSource();
     }
 
+    private @Nullable ByteSource cached() {
+        return cache != null ? cache.get(expectedHash.multihash()) : null;
+    }
+
     private void ensureValidated() {
         if (validated.get()) {
             return;
@@ -93,6 +159,14 @@ public class IntegrityValidatingDelegatingResource extends DelegatingResource {
 
     private void validate() {
         try {
+            if (cache != null) {
+                // Hashes and captures the content in one read, see verified()
+                try (var in = new VerifyingByteSource().openStream()) {
+                    ByteStreams.exhaust(in);
+                }
+                return;
+            }
+
             var resourceHasher = new ResourceHasher();
             var actualHash = resourceHasher.hash(delegate, expectedHash.multihash().getType());
             if (!expectedHash.multihash().equals(actualHash)) {
@@ -106,4 +180,27 @@ public class IntegrityValidatingDelegatingResource extends DelegatingResource {
             throw new UncheckedIOException(e);
         }
     }
+
+    private void verified(byte @Nullable [] content) {
+        validated.set(true);
+        if (cache != null && content != null) cache.put(expectedHash.multihash(), content);
+    }
+
+    private class VerifyingByteSource extends ByteSource {
+        @Override
+        public InputStream openStream() throws IOException {
+            var maximumCapturedBytes = cache != null ? cache.maximumEntryBytes() : 0;
+            var in = delegate.byteSource().openStream();
+            return new VerifyingInputStream(
+                    in,
+                    expectedHash,
+                    maximumCapturedBytes,
+                    IntegrityValidatingDelegatingResource.this::verified);
+        }
+
+        @Override
+        public com.google.common.base.Optional<Long> sizeIfKnown() {
+            return delegate.byteSource().sizeIfKnown();
+        }
+    }
 }
@@ -23,13 +23,24 @@ import static dev.enola.common.context.testlib.SingletonRule.$;
 
 import static org.junit.Assert.assertThrows;
 
+import com.google.common.io.ByteSource;
+
 import dev.enola.common.context.testlib.SingletonRule;
+import dev.enola.common.io.hashbrown.IntegrityValidatingDelegatingResource.Mode;
 import dev.enola.common.io.mediatype.MediaTypeProviders;
 import dev.enola.common.io.resource.*;
 
+import io.ipfs.multibase.Multibase;
+import io.ipfs.multihash.Multihash;
+
+import org.jspecify.annotations.Nullable;
 import org.junit.Rule;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class IntegrityValidatingDelegatingResourceTest {
 
     ResourceProvider rp =
@@ -66,4 +77,113 @@ public class IntegrityValidatingDelegatingResourceTest {
     void check(String hash) {
         rp.get("classpath:/test.png?integrity=" + hash).byteSource();
     }
+
+    @Test
+    public void streamingGood() throws IOException {
+        var resource = streaming(StringResource.of("hello, world"), hash("hello, world"), null);
+        assertThat(resource.charSource().read()).isEqualTo("hello, world");
+        assertThat(resource.charSource().read()).isEqualTo("hello, world");
+    }
+
+    @Test
+    public void streamingBad() {
+        var resource = streaming(StringResource.of("hello, world"), hash("bye, world"), null);
+        var byteSource = resource.byteSource(); // NOT (yet) an exception
+        assertThrows(IntegrityViolationException.class, byteSource::read);
+        // Still fails, the failed read must not have marked it as validated
+        assertThrows(IntegrityViolationException.class, () -> resource.byteSource().read());
+    }
+
+    @Test
+    public void streamingPartialRead() throws IOException {
+        var resource = streaming(StringResource.of("hello, world"), hash("bye, world"), null);
+        // Does not check (nor fail), because it's not read until the end
+        try (var in = resource.byteSource().openStream()) {
+            assertThat(in.read()).isEqualTo((int) 'h');
+        }
+    }
+
+    @Test
+    public void cache() throws IOException {
+        var cache = new VerifiedContentCache(1024);
+        var hash = hash("hello, world");
+        assertThat(cache.get(hash.multihash())).isNull();
+
+        streaming(StringResource.of("hello, world"), hash, cache).byteSource().read();
+        var cached = cache.get(hash.multihash());
+        assertThat(cached).isNotNull();
+        assertThat(cached.asCharSource(StandardCharsets.UTF_8).read()).isEqualTo("hello, world");
+
+        // Verified content is served from the cache, without reading the delegate again
+        var resource = streaming(ErrorResource.INSTANCE, hash, cache);
+        assertThat(resource.byteSource().asCharSource(StandardCharsets.UTF_8).read())
+                .isEqualTo("hello, world");
+    }
+
+    @Test
+    public void cacheDoesNotKeepInvalidOrTooLargeContent() throws IOException {
+        var cache = new VerifiedContentCache(3);
+        var hash = hash("hello, world");
+        streaming(StringResource.of("hello, world"), hash, cache).byteSource().read();
+        assertThat(cache.get(hash.multihash())).isNull();
+
+        var badHash = hash("bye");
+        var bad = streaming(StringResource.of("bad"), badHash, cache).byteSource();
+        assertThrows(IntegrityViolationException.class, bad::read);
+        assertThat(cache.get(badHash.multihash())).isNull();
+    }
+
+    @Test
+    public void eagerReadsDelegateOnlyOnce() throws IOException {
+        var reads = new AtomicInteger();
+        var delegate =
+                new DelegatingResource(StringResource.of("hello, world")) {
+                    @Override
+                    public ByteSource byteSource() {
+                        reads.incrementAndGet();
+                        return super.byteSource();
+                    }
+                };
+        var cache = new VerifiedContentCache(1024);
+        var hash = hash("hello, world");
+        var resource = new IntegrityValidatingDelegatingResource(delegate, hash, Mode.EAGER, cache);
+        assertThat(resource.charSource().read()).isEqualTo("hello, world");
+        assertThat(resource.byteSource().asCharSource(StandardCharsets.UTF_8).read())
+                .isEqualTo("hello, world");
+        assertThat(reads.get()).isEqualTo(1);
+
+        // The verified content is also served to other resources with the same hash
+        var again = new IntegrityValidatingDelegatingResource(delegate, hash, Mode.EAGER, cache);
+        assertThat(again.byteSource().asCharSource(StandardCharsets.UTF_8).read())
+                .isEqualTo("hello, world");
+        assertThat(reads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void eagerBadWithCache() {
+        var cache = new VerifiedContentCache(1024);
+        var badHash = hash("bye, world");
+        var resource =
+                new IntegrityValidatingDelegatingResource(
+                        StringResource.of("hello, world"), badHash, Mode.EAGER, cache);
+        assertThrows(IntegrityViolationException.class, resource::byteSource);
+        assertThrows(IntegrityViolationException.class, resource::byteSource);
+        assertThat(cache.get(badHash.multihash())).isNull();
+    }
+
+    Resource streaming(
+            Resource resource, MultihashWithMultibase hash, @Nullable VerifiedContentCache cache) {
+        return new IntegrityValidatingDelegatingResource(resource, hash, Mode.STREAMING, cache);
+    }
+
+    MultihashWithMultibase hash(String text) {
+        try {
+            var bytes = ByteSource.wrap(text.getBytes(StandardCharsets.UTF_8));
+            var multihash = Multihashes.hash(bytes, Multihash.Type.sha2_512);
+            var string = Multihashes.toString(multihash, Multibase.Base.Base58BTC);
+            return MultihashWithMultibase.decode(string);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.io.hashbrown;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.io.ByteSource;
+
+import io.ipfs.multihash.Multihash;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * In-memory cache of content which has already been verified to match its {@link Multihash}.
+ *
+ * <p>Because the key is the hash of the content, a hit is valid no matter which resource it came
+ * from, and does not need to be re-hashed (or even re-read). The cache is bounded by the total size
+ * of the cached bytes.
+ *
+ * @see IntegrityValidatingDelegatingResource
+ */
+public class VerifiedContentCache {
+
+    private final Cache<Multihash, byte[]> cache;
+    private final long maximumBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumBytes total size of content to keep in memory; content larger than this (or
+     *     than {@link Integer#MAX_VALUE}) is never cached.
+     */
+    public VerifiedContentCache(long maximumBytes) {
+        if (maximumBytes <= 0) throw new IllegalArgumentException("maximumBytes must be > 0");
+        this.maximumBytes = Math.min(maximumBytes, Integer.MAX_VALUE);
+        this.cache =
+                CacheBuilder.newBuilder()
+                        // Segments would each only get a fraction of maximumBytes
+                        .concurrencyLevel(1)
+                        .maximumWeight(maximumBytes)
+                        .<Multihash, byte[]>weigher((multihash, bytes) -> bytes.length)
+                        .build();
+    }
+
+    public @Nullable ByteSource get(Multihash multihash) {
+        var bytes = cache.getIfPresent(multihash);
+        return bytes != null ? ByteSource.wrap(bytes) : null;
+    }
+
+    /** Largest content (in bytes) which {@link #put(Multihash, byte[])} would accept. */
+    long maximumEntryBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * Caches content; callers MUST have verified that {@code bytes} hash to {@code multihash}. The
+     * array is kept as is, so it must not be modified afterwards.
+     */
+    void put(Multihash multihash, byte[] bytes) {
+        if (bytes.length <= maximumBytes) cache.put(multihash, bytes);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
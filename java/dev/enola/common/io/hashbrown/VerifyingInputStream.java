@@ -0,0 +1,142 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.io.hashbrown;
+
+import com.google.common.hash.Hasher;
+
+import io.ipfs.multihash.Multihash;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * InputStream which hashes what is read through it, and checks the hash when the end of the
+ * underlying stream is reached. On a mismatch, the final {@code read()} throws an {@link
+ * IntegrityViolationException} instead of returning -1; streams which are closed before their end
+ * are never checked.
+ */
+final class VerifyingInputStream extends FilterInputStream {
+
+    private final MultihashWithMultibase expectedHash;
+    private final Hasher hasher;
+    private final Consumer<byte @Nullable []> onVerified;
+    private final long maximumCapturedBytes;
+    private @Nullable ByteArrayOutputStream captured;
+    private boolean checked;
+    private @Nullable String mismatch;
+
+    /**
+     * Constructor.
+     *
+     * @param onVerified called once at the end of the stream after a successful check, with all
+     *     bytes read; these are only captured if there are at most {@code maximumCapturedBytes},
+     *     otherwise the callback receives {@code null}.
+     */
+    VerifyingInputStream(
+            InputStream in,
+            MultihashWithMultibase expectedHash,
+            long maximumCapturedBytes,
+            Consumer<byte @Nullable []> onVerified) {
+        super(in);
+        this.expectedHash = expectedHash;
+        var type = expectedHash.multihash().getType();
+        this.hasher = Multihashes.toGuavaHashFunction(type).newHasher();
+        this.maximumCapturedBytes = maximumCapturedBytes;
+        this.captured = maximumCapturedBytes > 0 ? new ByteArrayOutputStream() : null;
+        this.onVerified = onVerified;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b == -1) verify();
+        else {
+            hasher.putByte((byte) b);
+            capture(new byte[] {(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n == -1) verify();
+        else if (n > 0) {
+            hasher.putBytes(b, off, n);
+            capture(b, off, n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes must still be hashed, so they are read (and discarded)
+        var buffer = new byte[(int) Math.min(n, 8192)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(n - skipped, buffer.length));
+            if (read == -1) break;
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {}
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    private void capture(byte[] b, int off, int len) {
+        if (captured == null) return;
+        if (captured.size() + (long) len > maximumCapturedBytes) captured = null;
+        else captured.write(b, off, len);
+    }
+
+    private void verify() {
+        if (!checked) {
+            checked = true;
+            var type = expectedHash.multihash().getType();
+            var actualHash = new Multihash(type, hasher.hash().asBytes());
+            if (expectedHash.multihash().equals(actualHash)) {
+                onVerified.accept(captured != null ? captured.toByteArray() : null);
+            } else {
+                mismatch =
+                        "Expected "
+                                + expectedHash
+                                + " but got "
+                                + Multihashes.toString(actualHash, expectedHash.multibase());
+            }
+            captured = null;
+        }
+        // Repeated reads at the end of the stream must keep failing
+        if (mismatch != null) throw new IntegrityViolationException(mismatch);
+    }
+}
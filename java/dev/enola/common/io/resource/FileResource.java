@@ -115,6 +115,11 @@ public class FileResource extends BaseResource implements Resource {
         else return Arrays.copyOf(openOptions, openOptions.length);
     }
 
+    /** The local file of this resource; e.g. to send it with zero-copy I/O. */
+    public Path path() {
+        return path;
+    }
+
     @Override
     public ByteSink byteSink() {
         var parentDirectoryPath = path.getParent();
@@ -17,8 +17,11 @@
  */
 package dev.enola.common.io.resource;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import com.google.common.io.ByteSource;
 import com.google.common.net.MediaType;
+import com.google.common.primitives.Ints;
 
 import dev.enola.common.FreedesktopDirectories;
 
@@ -30,22 +33,49 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.lang.ref.Cleaner;
 import java.net.URI;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
-import java.util.function.Supplier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Resource implemented with <a href="https://square.github.io/okhttp/">OkHttp</a>.
  *
  * <p>Prefer this over {@link UrlResource} (in general).
+ *
+ * <p>The first use of either {@link #mediaType()} or of the {@link #byteSource()} makes a single
+ * GET request (even if used concurrently), whose body is buffered (in memory, or in a temporary
+ * file if it is large); so that the media type and any number of {@link ByteSource#openStream()}
+ * never download it again. Constructing an OkHttpResource, or calling {@link #byteSource()}, does
+ * no network I/O. Failed requests are not remembered, but retried on the next use.
+ *
+ * <p>The buffered bodies of all OkHttpResources share a cache of bounded total size, from which
+ * bodies are also removed (and their temporary files deleted) when they have not been used for a
+ * while, or when their OkHttpResource is garbage collected. A resource whose body was removed GETs
+ * it again, typically from the HTTP cache described below. A body which is too big for this cache
+ * is only kept for the first {@link ByteSource#openStream()} (which then deletes its temporary
+ * file); later ones GET it again.
+ *
+ * <p>Responses are stored in a shared HTTP cache. Stale responses with an <code>ETag</code> or
+ * <code>Last-Modified</code> header are revalidated with a conditional request, so unchanged
+ * resources are not downloaded again, even across JVM runs.
+ *
+ * <p>Connections to each host are pooled and kept alive, and the number of concurrent requests to
+ * each host is limited; see {@link Provider#Provider(int, int)}.
  */
 public class OkHttpResource extends BaseResource implements ReadableResource {
 
-    // TODO Fix potential resource leaks! See details in #byteSource().
-
-    // TODO Re-design to open 1 instead 2 separate connections for mediaType & byteSource - how?!
-
     // TODO Better cache failed URLs instead of keep retrying! (If it is? Test...)
 
     // TODO java.net.http <https://openjdk.org/groups/net/httpclient/intro.html> alternative!
@@ -59,6 +89,33 @@ public class OkHttpResource extends BaseResource implements ReadableResource {
     // This must be increased if there are test failures on slow CI servers :(
     private static final Duration t = Duration.ofMillis(7500);
 
+    /** Bodies larger than this are buffered in a temporary file instead of in memory. */
+    private static final int MAX_IN_MEMORY_BODY_SIZE = 4 * 1024 * 1024; // 4 MiB
+
+    /** Maximum total size of all buffered bodies, in memory and in temporary files. */
+    private static final long MAX_BUFFERED_BODIES_SIZE = 256L * 1024L * 1024L; // 256 MiB
+
+    /** Buffered bodies not used for this long are removed. */
+    private static final Duration BUFFERED_BODY_EXPIRY = Duration.ofMinutes(10);
+
+    // Weakly keyed (by identity) on the Fetcher of each OkHttpResource
+    private static final com.google.common.cache.Cache<Fetcher, Body> bodies =
+            CacheBuilder.newBuilder()
+                    // A single segment, because Guava splits the maximum weight across them,
+                    // and would otherwise evict bodies much smaller than MAX_BUFFERED_BODIES_SIZE.
+                    .concurrencyLevel(1)
+                    .weakKeys()
+                    .maximumWeight(MAX_BUFFERED_BODIES_SIZE)
+                    .<Fetcher, Body>weigher((fetcher, body) -> Ints.saturatedCast(body.size()))
+                    .expireAfterAccess(BUFFERED_BODY_EXPIRY)
+                    .removalListener(OkHttpResource::onRemoval)
+                    .build();
+
+    // Same defaults as OkHttp's own Dispatcher and ConnectionPool
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
+    private static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    private static final Duration KEEP_ALIVE = Duration.ofMinutes(5);
+
     // https://square.github.io/okhttp/features/caching/
     private static final File cacheDir =
             new File(FreedesktopDirectories.CACHE_FILE, OkHttpResource.class.getSimpleName());
@@ -67,12 +124,14 @@ public class OkHttpResource extends BaseResource implements ReadableResource {
     private static final OkHttpClient client =
             new OkHttpClient.Builder()
                     .cache(cache)
+                    .connectionPool(connectionPool(DEFAULT_MAX_IDLE_CONNECTIONS))
                     .addInterceptor(httpLog)
                     .callTimeout(t)
                     .connectTimeout(t)
                     .readTimeout(t)
                     .writeTimeout(t)
                     .build();
+    private static final HostLimiter limiter = new HostLimiter(DEFAULT_MAX_REQUESTS_PER_HOST);
 
     static {
         httpLog.redactHeader("Authorization");
@@ -88,21 +147,64 @@ public class OkHttpResource extends BaseResource implements ReadableResource {
 
     private static final MediaTypeDetector mtd = new MediaTypeDetector();
 
+    private static final Cleaner cleaner = Cleaner.create();
+
     public static class Provider implements ResourceProvider {
+
+        private final OkHttpClient client;
+        private final HostLimiter limiter;
+
+        public Provider() {
+            this.client = OkHttpResource.client;
+            this.limiter = OkHttpResource.limiter;
+        }
+
+        /**
+         * Constructor for a Provider with its own connection pool and limits. It still shares the
+         * HTTP cache with all other OkHttpResources.
+         *
+         * @param maxRequestsPerHost maximum number of concurrent requests to each host
+         * @param maxIdleConnections maximum number of idle connections kept alive in the pool
+         */
+        public Provider(int maxRequestsPerHost, int maxIdleConnections) {
+            this.client =
+                    OkHttpResource.client
+                            .newBuilder()
+                            .connectionPool(connectionPool(maxIdleConnections))
+                            .build();
+            this.limiter = new HostLimiter(maxRequestsPerHost);
+        }
+
         @Override
         public @Nullable Resource getResource(URI uri) {
             if (uri.getScheme().startsWith("http")) {
-                return new ReadableButNotWritableDelegatingResource(new OkHttpResource(uri));
+                return new ReadableButNotWritableDelegatingResource(
+                        new OkHttpResource(uri, client, limiter));
             } else return null;
         }
     }
 
+    private final Fetcher fetcher;
+
     public OkHttpResource(String url) {
-        super(URI.create(url), () -> mediaType(url));
+        this(URI.create(url));
     }
 
     public OkHttpResource(URI uri) {
-        super(uri, () -> mediaType(uri.toString()));
+        this(uri, client, limiter);
+    }
+
+    private OkHttpResource(URI uri, OkHttpClient client, HostLimiter limiter) {
+        this(new Fetcher(uri, client, limiter));
+    }
+
+    private OkHttpResource(Fetcher fetcher) {
+        super(fetcher.uri, fetcher::mediaType);
+        this.fetcher = fetcher;
+    }
+
+    private static ConnectionPool connectionPool(int maxIdleConnections) {
+        return new ConnectionPool(maxIdleConnections, KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     private static Request newRequest(String url) {
@@ -116,20 +218,45 @@ public class OkHttpResource extends BaseResource implements ReadableResource {
     }
 
     // See also UrlResource#mediaType(URL url)
-    private static MediaType mediaType(String url) {
+    private static Body fetch(String url, OkHttpClient client, HostLimiter limiter)
+            throws IOException {
         Request request = newRequest(url);
+        var permits = limiter.semaphore(request.url().host());
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(url);
+        }
         try (var response = client.newCall(request).execute()) {
             if (!response.isSuccessful())
                 throw new IllegalArgumentException(unsuccessfulMessage(url, response));
-            var mt = response.body().contentType();
-            if (mt != null) {
-                return mtd.overwrite(URI.create(url), okToGuavaMediaType(mt));
-            } else {
-                throw new IllegalStateException("Success, but no Content-Type header: " + url);
+            if (response.networkResponse() != null && response.cacheResponse() != null)
+                LOG.debug("Revalidated cached {}", url);
+
+            var body = response.body();
+            var mt = body.contentType();
+            @Nullable MediaType mediaType = null;
+            if (mt != null) mediaType = mtd.overwrite(URI.create(url), okToGuavaMediaType(mt));
+
+            // The body must be read completely for OkHttp to be able to cache the response
+            try (var inputStream = body.byteStream()) {
+                var head = inputStream.readNBytes(MAX_IN_MEMORY_BODY_SIZE + 1);
+                if (head.length <= MAX_IN_MEMORY_BODY_SIZE)
+                    return new Body(mediaType, head, null, head.length);
+
+                var file = Files.createTempFile(OkHttpResource.class.getSimpleName(), ".body");
+                try (var outputStream = Files.newOutputStream(file)) {
+                    outputStream.write(head);
+                    inputStream.transferTo(outputStream);
+                } catch (IOException e) {
+                    Files.deleteIfExists(file);
+                    throw e;
+                }
+                return new Body(mediaType, new byte[0], file, Files.size(file));
             }
-
-        } catch (IOException e) {
-            throw new UncheckedIOException("IOException on " + url, e);
+        } finally {
+            permits.release();
         }
     }
 
@@ -139,144 +266,153 @@ public class OkHttpResource extends BaseResource implements ReadableResource {
     }
 
     @Override
-    // TODO Re-design to fix resource leak... as-is, if you call this but then never call
-    // the returned ByteSource's openStream(), then the OkHttp Response will never be closed! :(
-    // This could be fixed by postponing actually opening the connection "down" into openStream().
     public ByteSource byteSource() {
-        String url = uri().toString();
-        Request request = newRequest(url);
-        try {
-            // Intentional not try-with-resource (but that's leaky & NOK; see above)
-            var response = client.newCall(request).execute();
-
-            // TODO How can this propagate connection errors and timeouts more clearly?
-            if (response.isSuccessful())
-                return new InputStreamByteSource(
-                        () -> response.body().byteStream(), response::close);
-            else return new ErrorByteSource(new IOException(unsuccessfulMessage(url, response)));
-        } catch (IOException e) {
-            return new ErrorByteSource(e);
-        }
+        return new ByteSource() {
+            @Override
+            public InputStream openStream() throws IOException {
+                return fetcher.openStream();
+            }
+        };
     }
 
     private static String unsuccessfulMessage(String url, Response response) {
         return response.code() + " " + url + " : " + response.message();
     }
 
-    private static class InputStreamByteSource extends ByteSource {
-        private final Supplier<InputStream> inputStreamSupplier;
-        private final Runnable closer;
-
-        InputStreamByteSource(Supplier<InputStream> inputStreamSupplier, Runnable closer) {
-            this.inputStreamSupplier = inputStreamSupplier;
-            this.closer = closer;
-        }
-
-        @Override
-        public InputStream openStream() throws IOException {
-            return new DelegatingClosingInputStream(inputStreamSupplier.get(), closer);
-        }
+    private static void onRemoval(RemovalNotification<Fetcher, Body> notification) {
+        var body = notification.getValue();
+        if (body != null) body.delete();
     }
 
-    private static class DelegatingClosingInputStream extends DelegatingInputStream {
-        private final Runnable closer;
+    /** GETs the body of an OkHttpResource, unless it's still in the shared cache of bodies. */
+    private static final class Fetcher {
 
-        protected DelegatingClosingInputStream(InputStream delegate, Runnable closer) {
-            super(delegate);
-            this.closer = closer;
-        }
+        private final URI uri;
+        private final OkHttpClient client;
+        private final HostLimiter limiter;
 
-        @Override
-        public void close() throws IOException {
-            super.close();
-            closer.run();
-        }
-    }
+        // Not synchronized, because that would pin virtual threads while fetching
+        private final Lock lock = new ReentrantLock();
 
-    private static class DelegatingInputStream extends InputStream {
+        // A body too big for the shared cache, kept until the next openStream() takes it
+        private final AtomicReference<@Nullable Body> handOver = new AtomicReference<>();
 
-        private final InputStream delegate;
+        // The Content-Type of the first successful response; set before fetched
+        private @Nullable MediaType contentType;
+        private volatile boolean fetched;
 
-        protected DelegatingInputStream(InputStream delegate) {
-            this.delegate = delegate;
+        Fetcher(URI uri, OkHttpClient client, HostLimiter limiter) {
+            this.uri = uri;
+            this.client = client;
+            this.limiter = limiter;
+            var handOver = this.handOver;
+            cleaner.register(this, () -> delete(handOver.getAndSet(null)));
         }
 
-        @Override
-        public int available() throws IOException {
-            return delegate.available();
-        }
-
-        @Override
-        public void close() throws IOException {
-            delegate.close();
-        }
-
-        @Override
-        public void mark(int readlimit) {
-            delegate.mark(readlimit);
+        MediaType mediaType() {
+            if (!fetched) {
+                lock.lock();
+                try {
+                    if (!fetched) {
+                        var body = fetch();
+                        if (!body.isCacheable()) delete(handOver.getAndSet(body));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("IOException on " + uri, e);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            if (contentType == null)
+                throw new IllegalStateException("Success, but no Content-Type header: " + uri);
+            return contentType;
         }
 
-        @Override
-        public boolean markSupported() {
-            return delegate.markSupported();
+        InputStream openStream() throws IOException {
+            try {
+                return open(body());
+            } catch (NoSuchFileException e) {
+                // The body was removed from the cache (and its file deleted) since body() returned
+                return open(body());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage(), e);
+            }
         }
 
-        public static InputStream nullInputStream() {
-            return InputStream.nullInputStream();
+        private static InputStream open(Body body) throws IOException {
+            // A body which is not in the cache deletes its temporary file itself, once read
+            if (body.isCacheable()) return body.openStream();
+            else return body.openStream(StandardOpenOption.DELETE_ON_CLOSE);
         }
 
-        public int read() throws IOException {
-            return delegate.read();
+        private Body body() throws IOException {
+            var body = bodies.getIfPresent(this);
+            if (body != null) return body;
+
+            lock.lock();
+            try {
+                // Another thread may have fetched it while this one was waiting for the lock
+                body = bodies.getIfPresent(this);
+                if (body != null) return body;
+                body = handOver.getAndSet(null);
+                if (body != null) return body;
+                return fetch();
+            } finally {
+                lock.unlock();
+            }
         }
 
-        @Override
-        public int read(byte[] b) throws IOException {
-            return delegate.read(b);
+        private Body fetch() throws IOException {
+            // Failures are intentionally not cached, so that they are retried
+            var body = OkHttpResource.fetch(uri.toString(), client, limiter);
+            contentType = body.contentType();
+            fetched = true;
+            if (body.isCacheable()) bodies.put(this, body);
+            return body;
         }
 
-        @Override
-        public int read(byte[] b, int off, int len) throws IOException {
-            return delegate.read(b, off, len);
+        private static void delete(@Nullable Body body) {
+            if (body != null) body.delete();
         }
+    }
 
-        @Override
-        public byte[] readAllBytes() throws IOException {
-            return delegate.readAllBytes();
-        }
+    /** A buffered response body; either in memory, or in a temporary file. */
+    private record Body(
+            @Nullable MediaType contentType, byte[] bytes, @Nullable Path file, long size) {
 
-        @Override
-        public int readNBytes(byte[] b, int off, int len) throws IOException {
-            return delegate.readNBytes(b, off, len);
+        boolean isCacheable() {
+            return size <= MAX_BUFFERED_BODIES_SIZE;
         }
 
-        @Override
-        public byte[] readNBytes(int len) throws IOException {
-            return delegate.readNBytes(len);
+        InputStream openStream(OpenOption... options) throws IOException {
+            if (file == null) return new ByteArrayInputStream(bytes);
+            return Files.newInputStream(file, options);
         }
 
-        @Override
-        public void reset() throws IOException {
-            delegate.reset();
+        void delete() {
+            if (file == null) return;
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete buffered body {}", file, e);
+            }
         }
+    }
 
-        @Override
-        public long skip(long n) throws IOException {
-            return delegate.skip(n);
-        }
+    /** Limits the number of concurrent requests to each host. */
+    private static final class HostLimiter {
 
-        @Override
-        public void skipNBytes(long n) throws IOException {
-            delegate.skipNBytes(n);
-        }
+        private final int maxRequestsPerHost;
+        private final Map<String, Semaphore> semaphores = new ConcurrentHashMap<>();
 
-        @Override
-        public long transferTo(OutputStream out) throws IOException {
-            return delegate.transferTo(out);
+        HostLimiter(int maxRequestsPerHost) {
+            if (maxRequestsPerHost < 1)
+                throw new IllegalArgumentException("maxRequestsPerHost < 1: " + maxRequestsPerHost);
+            this.maxRequestsPerHost = maxRequestsPerHost;
         }
 
-        @Override
-        public String toString() {
-            return "DelegatingInputStream{" + "delegate=" + delegate + '}';
+        Semaphore semaphore(String host) {
+            return semaphores.computeIfAbsent(host, h -> new Semaphore(maxRequestsPerHost, true));
         }
     }
 }
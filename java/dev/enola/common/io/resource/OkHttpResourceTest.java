@@ -21,9 +21,14 @@ import static com.google.common.truth.Truth.assertThat;
 
 import static dev.enola.common.context.testlib.SingletonRule.$;
 
+import static org.junit.Assert.assertThrows;
+
 import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.google.common.base.Strings;
 import com.google.common.net.MediaType;
+import com.sun.net.httpserver.HttpServer;
 
 import dev.enola.common.context.testlib.SingletonRule;
 import dev.enola.common.io.mediatype.MediaTypeProviders;
@@ -33,6 +38,12 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class OkHttpResourceTest {
 
@@ -40,8 +51,12 @@ public class OkHttpResourceTest {
 
     // TODO Use https://square.github.io/okhttp/#mockwebserver
 
-    // TODO Add test coverage to ensure that simply constructing an OkHttpResource object
-    //   does not cause any network activity, as the mediaType must be obtained lazily, on demand!
+    @Test
+    public void noNetworkUntilRead() {
+        // NB: 203.0.113.1 is a non-routable IPv4 address; this would time out if it connected
+        var r = new OkHttpResource("http://203.0.113.1");
+        assertThat(r.byteSource()).isNotNull();
+    }
 
     @Test
     public void google() throws IOException {
@@ -51,6 +66,13 @@ public class OkHttpResourceTest {
         assertThat(r.mediaType()).isEqualTo(MediaType.HTML_UTF_8.withCharset(ISO_8859_1));
     }
 
+    @Test
+    public void readTwiceFetchesOnce() throws IOException {
+        // Google's home page is different for every request (e.g. nonces)
+        var r = new OkHttpResource("http://www.google.com");
+        assertThat(r.charSource().read()).isEqualTo(r.charSource().read());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void google404() throws IOException {
         new OkHttpResource("http://www.google.com/bad").charSource().read();
@@ -61,4 +83,102 @@ public class OkHttpResourceTest {
         // NB: 203.0.113.1 is a non-routable IPv4 address; the cause includes Timeout
         new OkHttpResource("http://203.0.113.1").charSource().read();
     }
+
+    @Test
+    public void failureIsRetried() throws IOException {
+        var requests = new AtomicInteger();
+        var server = server(requests, "hello");
+        try {
+            var r = new OkHttpResource(url(server));
+            assertThrows(IllegalArgumentException.class, () -> r.charSource().read());
+            assertThat(r.charSource().read()).isEqualTo("hello");
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void bigBodyIsFetchedOnce() throws IOException {
+        // Bigger than OkHttpResource.MAX_IN_MEMORY_BODY_SIZE, so buffered in a temporary file
+        var big = Strings.repeat("0123456789abcdef", 300_000);
+        var requests = new AtomicInteger(1); // Skip the failure of the first request
+        var server = server(requests, big);
+        try {
+            var r = new OkHttpResource(url(server));
+            assertThat(r.charSource().read()).isEqualTo(big);
+            assertThat(r.charSource().read()).isEqualTo(big);
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void mediaTypeAndReadFetchOnce() throws IOException {
+        var requests = new AtomicInteger(1); // Skip the failure of the first request
+        var server = server(requests, "hello");
+        try {
+            var r = new OkHttpResource(url(server));
+            assertThat(r.mediaType()).isEqualTo(MediaType.PLAIN_TEXT_UTF_8);
+            assertThat(r.charSource().read()).isEqualTo("hello");
+            assertThat(r.mediaType()).isEqualTo(MediaType.PLAIN_TEXT_UTF_8);
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void concurrentReadsFetchOnce() throws Exception {
+        var requests = new AtomicInteger(1); // Skip the failure of the first request
+        // Slow responses, so that all reads start while the first request is still ongoing
+        var server = server(requests, "hello", Duration.ofMillis(500));
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            var r = new OkHttpResource(url(server));
+            var reads = new ArrayList<Future<String>>();
+            for (int i = 0; i < 8; i++)
+                reads.add(executor.submit(() -> r.byteSource().asCharSource(UTF_8).read()));
+            for (var read : reads) assertThat(read.get()).isEqualTo("hello");
+            assertThat(requests.get()).isEqualTo(2);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static HttpServer server(AtomicInteger requests, String body) throws IOException {
+        return server(requests, body, Duration.ZERO);
+    }
+
+    /** Server which fails the first request, and responds with the body to all later ones. */
+    private static HttpServer server(AtomicInteger requests, String body, Duration delay)
+            throws IOException {
+        var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(
+                "/",
+                exchange -> {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    var bytes = body.getBytes(UTF_8);
+                    exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+                    exchange.getResponseHeaders().set("Cache-Control", "no-store");
+                    if (requests.getAndIncrement() == 0) {
+                        exchange.sendResponseHeaders(503, -1);
+                    } else {
+                        exchange.sendResponseHeaders(200, bytes.length);
+                        exchange.getResponseBody().write(bytes);
+                    }
+                    exchange.close();
+                });
+        server.start();
+        return server;
+    }
+
+    private static String url(HttpServer server) {
+        return "http://localhost:" + server.getAddress().getPort() + "/";
+    }
 }
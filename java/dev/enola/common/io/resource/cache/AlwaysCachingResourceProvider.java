@@ -35,6 +35,9 @@ import java.util.Optional;
  * <p>Note that if the delegate ResourceProvider returns null because it could not get the resource,
  * this is cached as well ("persistent cache miss") - and not retried! (Unless Cache flows over, or
  * entry expires; of course.)
+ *
+ * <p>This only caches resource "handles"; see {@link ContentCachingResourceProvider} for a cache of
+ * their content.
  */
 public class AlwaysCachingResourceProvider implements ResourceProvider {
 
@@ -0,0 +1,507 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.io.resource.cache;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteSink;
+import com.google.common.io.ByteSource;
+import com.google.common.net.MediaType;
+
+import dev.enola.common.io.resource.BaseResource;
+import dev.enola.common.io.resource.ChangeToken;
+import dev.enola.common.io.resource.ReadableButNotWritableResource;
+import dev.enola.common.io.resource.Resource;
+import dev.enola.common.io.resource.ResourceProvider;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.InstantSource;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ContentCachingResourceProvider is a {@link ResourceProvider} which caches the <i>content</i> (the
+ * bytes and media type) of resources, and not just their handles, like {@link
+ * AlwaysCachingResourceProvider} does.
+ *
+ * <p>The in-memory cache is bounded by the total size of the cached bytes. Resources larger than
+ * that are streamed from the delegate, uncached. Resources whose size is not known up front are
+ * streamed as well, and only cached if they turned out to fit once read to the end. Media types are
+ * obtained from the delegate (or the cache), without reading any content. Entries older than the
+ * TTL are revalidated against the delegate with their {@link ChangeToken} before being re-used;
+ * they are only re-loaded if they changed.
+ *
+ * <p>Entries evicted from memory due to size can be "spilled" into a local directory, from where
+ * they are read back on the next request (and then revalidated like in-memory entries). That
+ * directory is bounded by its own maximum size: whenever a spill exceeds it, the least recently
+ * used files are deleted. Files are otherwise kept, also across restarts; the directory may be
+ * deleted whenever no provider uses it. Only one provider may use a given directory at any time.
+ *
+ * <p>Resources which could not be obtained from the delegate (null) are NOT cached. Writing to a
+ * resource through this provider invalidates its cached content.
+ *
+ * <p>Hit, miss and eviction counts are available from {@link #stats()}.
+ */
+public class ContentCachingResourceProvider implements ResourceProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentCachingResourceProvider.class);
+
+    private static final int DISK_FORMAT_VERSION = 1;
+    private static final String CACHE_SUFFIX = ".cache";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Options of a {@link ContentCachingResourceProvider}.
+     *
+     * @param maximumBytes maximum total size of the content kept in memory; resources larger than
+     *     this are never cached
+     * @param timeToLive how long cached content is used without revalidation
+     * @param directory where to spill content evicted from memory to, or null to not spill
+     * @param maximumDirectoryBytes maximum total size of the files in the directory, if any
+     */
+    public record Options(
+            long maximumBytes,
+            Duration timeToLive,
+            @Nullable Path directory,
+            long maximumDirectoryBytes) {
+
+        public static final Options DEFAULT =
+                new Options(64 * 1024 * 1024, Duration.ofMinutes(5), null, 0);
+
+        public Options {
+            if (directory != null && maximumDirectoryBytes <= 0)
+                throw new IllegalArgumentException(
+                        "maximumDirectoryBytes must be > 0: " + maximumDirectoryBytes);
+        }
+    }
+
+    /**
+     * Statistics of a {@link ContentCachingResourceProvider}.
+     *
+     * @param memory hits, misses, loads and evictions of the in-memory cache
+     * @param revalidations how many expired entries were checked against the delegate
+     * @param unchanged how many of those revalidations found the content unchanged
+     * @param diskWrites how many evicted entries were spilled to the directory
+     * @param diskHits how many in-memory misses were served from the directory
+     * @param diskDeletes how many files were deleted from the directory to keep it within its size
+     */
+    public record Stats(
+            CacheStats memory,
+            long revalidations,
+            long unchanged,
+            long diskWrites,
+            long diskHits,
+            long diskDeletes) {}
+
+    private record Content(
+            MediaType mediaType, byte[] bytes, ChangeToken changeToken, Instant loaded) {
+
+        InputStream openStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+
+    private record DiskEntry(Path file, long size, FileTime lastModified) {}
+
+    private final ResourceProvider delegate;
+    private final Options options;
+    private final InstantSource clock;
+    private final Cache<URI, Content> cache;
+
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder unchanged = new LongAdder();
+    private final LongAdder diskWrites = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder diskDeletes = new LongAdder();
+
+    public ContentCachingResourceProvider(
+            ResourceProvider delegate, Options options, InstantSource clock) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.options = requireNonNull(options, "options");
+        this.clock = requireNonNull(clock, "clock");
+        this.cache =
+                CacheBuilder.newBuilder()
+                        // A single segment, because Guava splits the maximum weight across them,
+                        // and would otherwise evict entries much smaller than maximumBytes.
+                        .concurrencyLevel(1)
+                        .maximumWeight(options.maximumBytes())
+                        .<URI, Content>weigher((uri, content) -> content.bytes().length)
+                        .removalListener(this::onRemoval)
+                        .recordStats()
+                        .build();
+        if (options.directory() != null) {
+            try {
+                Files.createDirectories(options.directory());
+                deleteTemporaryFiles(options.directory());
+            } catch (IOException e) {
+                throw new IllegalArgumentException(
+                        "Cannot create cache directory: " + options.directory(), e);
+            }
+        }
+    }
+
+    public ContentCachingResourceProvider(ResourceProvider delegate, Options options) {
+        this(delegate, options, InstantSource.system());
+    }
+
+    public ContentCachingResourceProvider(ResourceProvider delegate) {
+        this(delegate, Options.DEFAULT);
+    }
+
+    @Override
+    public @Nullable Resource getResource(URI uri) {
+        var cached = cache.getIfPresent(uri);
+        if (cached != null && !isExpired(cached))
+            return new CachedResource(uri, cached.mediaType());
+
+        var resource = delegate.getResource(uri);
+        if (resource == null) return null;
+        return new CachedResource(uri, resource);
+    }
+
+    public Stats stats() {
+        return new Stats(
+                cache.stats(),
+                revalidations.sum(),
+                unchanged.sum(),
+                diskWrites.sum(),
+                diskHits.sum(),
+                diskDeletes.sum());
+    }
+
+    /** Invalidates the cached content of the resource at the given URI, in memory and on disk. */
+    public void invalidate(URI uri) {
+        cache.invalidate(uri);
+        var file = file(uri);
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                LOG.warn("Failed to delete cached {} for {}", file, uri, e);
+            }
+        }
+    }
+
+    private boolean isExpired(Content content) {
+        return content.loaded().plus(options.timeToLive()).isBefore(clock.instant());
+    }
+
+    private @Nullable Content cached(URI uri) {
+        var cached = cache.getIfPresent(uri);
+        if (cached == null) {
+            cached = readFromDisk(uri);
+            if (cached != null) diskHits.increment();
+        }
+        return cached;
+    }
+
+    /**
+     * Revalidates the expired cached content (if any), or else loads it from the resource; returns
+     * null if it's too big to be cached, or of unknown size, and must be streamed instead.
+     */
+    private @Nullable Content load(URI uri, @Nullable Content cached, Resource resource)
+            throws IOException {
+        if (cached != null) {
+            revalidations.increment();
+            if (!resource.changeToken().isDifferent(cached.changeToken())) {
+                unchanged.increment();
+                var refreshed =
+                        new Content(
+                                cached.mediaType(),
+                                cached.bytes(),
+                                cached.changeToken(),
+                                clock.instant());
+                cache.put(uri, refreshed);
+                return refreshed;
+            }
+        }
+
+        var size = resource.byteSource().sizeIfKnown();
+        if (!size.isPresent() || size.get() > options.maximumBytes()) return null;
+
+        var loaded =
+                content(uri, resource.mediaType(), resource.byteSource().read(), clock.instant());
+        if (loaded.bytes().length <= options.maximumBytes()) cache.put(uri, loaded);
+        return loaded;
+    }
+
+    private InputStream stream(URI uri, Resource resource) throws IOException {
+        var byteSource = resource.byteSource();
+        // Too big to be cached; not even its ChangeToken is worth computing.
+        if (byteSource.sizeIfKnown().isPresent()) return byteSource.openStream();
+        return new CachingInputStream(byteSource.openStream(), uri, resource.mediaType());
+    }
+
+    private static Content content(URI uri, MediaType mediaType, byte[] bytes, Instant loaded) {
+        // The ChangeToken is calculated from the bytes read, and not obtained from the resource,
+        // to avoid reading it twice.
+        var changeToken = new BytesResource(uri, mediaType, bytes).changeToken();
+        return new Content(mediaType, bytes, changeToken, loaded);
+    }
+
+    private void onRemoval(RemovalNotification<URI, Content> notification) {
+        if (notification.getCause() != RemovalCause.SIZE) return;
+        var uri = notification.getKey();
+        var content = notification.getValue();
+        if (uri == null || content == null) return;
+        var file = file(uri);
+        if (file == null) return;
+        try {
+            writeToDisk(file, uri, content);
+            diskWrites.increment();
+            trimDirectory(file.getParent());
+        } catch (IOException e) {
+            LOG.warn("Failed to spill cached {} to {}", uri, file, e);
+        }
+    }
+
+    private @Nullable Path file(URI uri) {
+        var directory = options.directory();
+        if (directory == null) return null;
+        var hash = Hashing.sha256().hashString(uri.toString(), UTF_8).toString();
+        return directory.resolve(hash + CACHE_SUFFIX);
+    }
+
+    /** Deletes the least recently used files, until the directory fits into its maximum size. */
+    private synchronized void trimDirectory(Path directory) throws IOException {
+        var entries = new ArrayList<DiskEntry>();
+        long total = 0;
+        try (var files = Files.newDirectoryStream(directory, "*" + CACHE_SUFFIX)) {
+            for (var file : files) {
+                try {
+                    var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                    entries.add(
+                            new DiskEntry(file, attributes.size(), attributes.lastModifiedTime()));
+                    total += attributes.size();
+                } catch (NoSuchFileException e) {
+                    // Concurrently invalidated, so it does not count
+                }
+            }
+        }
+        if (total <= options.maximumDirectoryBytes()) return;
+
+        entries.sort(Comparator.comparing(DiskEntry::lastModified));
+        for (var entry : entries) {
+            if (total <= options.maximumDirectoryBytes()) break;
+            if (Files.deleteIfExists(entry.file())) diskDeletes.increment();
+            total -= entry.size();
+        }
+    }
+
+    /** Deletes temporary files left over from spills which were interrupted, e.g. by a crash. */
+    private static void deleteTemporaryFiles(Path directory) throws IOException {
+        try (var files = Files.newDirectoryStream(directory, "*" + TEMP_SUFFIX)) {
+            for (var file : files) Files.deleteIfExists(file);
+        }
+    }
+
+    private static void writeToDisk(Path file, URI uri, Content content) throws IOException {
+        var temp =
+                Files.createTempFile(file.getParent(), file.getFileName().toString(), TEMP_SUFFIX);
+        try (var out = new DataOutputStream(Files.newOutputStream(temp))) {
+            out.writeInt(DISK_FORMAT_VERSION);
+            out.writeUTF(uri.toString());
+            out.writeUTF(content.mediaType().toString());
+            out.writeLong(content.loaded().toEpochMilli());
+            out.writeInt(content.bytes().length);
+            out.write(content.bytes());
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private @Nullable Content readFromDisk(URI uri) {
+        var file = file(uri);
+        if (file == null) return null;
+        try (var in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != DISK_FORMAT_VERSION || !in.readUTF().equals(uri.toString()))
+                return null;
+            var mediaType = MediaType.parse(in.readUTF());
+            var loaded = Instant.ofEpochMilli(in.readLong());
+            var bytes = in.readNBytes(in.readInt());
+            var content = content(uri, mediaType, bytes, loaded);
+            cache.put(uri, content);
+            // Reading it back counts as a use, for trimDirectory()
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            return content;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Ignoring unreadable cached {} for {}", file, uri, e);
+            return null;
+        }
+    }
+
+    private class CachedResource extends BaseResource implements Resource {
+
+        private @Nullable Resource resource;
+
+        CachedResource(URI uri, Resource resource) {
+            super(uri, resource::mediaType);
+            this.resource = resource;
+        }
+
+        CachedResource(URI uri, MediaType cachedMediaType) {
+            super(uri, cachedMediaType);
+        }
+
+        private synchronized Resource resource() throws IOException {
+            if (resource == null) resource = delegate.getResource(uri);
+            if (resource == null) throw new IOException("Resource no longer available: " + uri);
+            return resource;
+        }
+
+        @Override
+        public ByteSource byteSource() {
+            return new ByteSource() {
+                @Override
+                public InputStream openStream() throws IOException {
+                    var cached = cached(uri);
+                    if (cached != null && !isExpired(cached)) return cached.openStream();
+
+                    var resource = resource();
+                    var loaded = load(uri, cached, resource);
+                    if (loaded != null) return loaded.openStream();
+                    return stream(uri, resource);
+                }
+            };
+        }
+
+        @Override
+        public ByteSink byteSink() {
+            return new ByteSink() {
+                @Override
+                public OutputStream openStream() throws IOException {
+                    invalidate(uri);
+                    return new FilterOutputStream(resource().byteSink().openStream()) {
+                        @Override
+                        public void write(byte[] b, int off, int len) throws IOException {
+                            out.write(b, off, len);
+                        }
+
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                invalidate(uri);
+                            }
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /** Captures what is read, and caches it at the end; unless it turned out to be too big. */
+    private class CachingInputStream extends FilterInputStream {
+
+        private final URI uri;
+        private final MediaType mediaType;
+        private @Nullable ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        CachingInputStream(InputStream in, URI uri, MediaType mediaType) {
+            super(in);
+            this.uri = uri;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b == -1) cache();
+            else capture(new byte[] {(byte) b}, 0, 1);
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n == -1) cache();
+            else capture(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            captured = null; // Skipped bytes cannot be captured
+            return super.skip(n);
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void capture(byte[] b, int off, int len) {
+            if (captured == null) return;
+            if (captured.size() + len > options.maximumBytes()) captured = null;
+            else captured.write(b, off, len);
+        }
+
+        private void cache() {
+            if (captured == null) return;
+            cache.put(uri, content(uri, mediaType, captured.toByteArray(), clock.instant()));
+            captured = null;
+        }
+    }
+
+    private static class BytesResource extends BaseResource
+            implements ReadableButNotWritableResource {
+
+        private final byte[] bytes;
+
+        BytesResource(URI uri, MediaType mediaType, byte[] bytes) {
+            super(uri, mediaType);
+            this.bytes = bytes;
+        }
+
+        @Override
+        public ByteSource byteSource() {
+            return ByteSource.wrap(bytes);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.io.resource.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static dev.enola.common.context.testlib.SingletonRule.$;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.Iterables;
+import com.google.common.io.ByteSource;
+import com.google.common.net.MediaType;
+
+import dev.enola.common.context.testlib.SingletonRule;
+import dev.enola.common.io.mediatype.MediaTypeProviders;
+import dev.enola.common.io.resource.BaseResource;
+import dev.enola.common.io.resource.MemoryResource;
+import dev.enola.common.io.resource.ReadableButNotWritableResource;
+import dev.enola.common.io.resource.Resource;
+import dev.enola.common.io.resource.ResourceProvider;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ContentCachingResourceProviderTest {
+
+    public @Rule SingletonRule r = $(MediaTypeProviders.set());
+
+    public @Rule TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static final URI A = URI.create("test:a");
+    private static final URI B = URI.create("test:b");
+
+    private static class TestResourceProvider implements ResourceProvider {
+
+        final Map<URI, Resource> resources = new HashMap<>();
+        int calls = 0;
+
+        void put(URI uri, ByteSource byteSource) {
+            resources.put(uri, new ByteSourceResource(uri, byteSource));
+        }
+
+        void put(URI uri, String text) throws IOException {
+            var resource = new MemoryResource(uri, MediaType.PLAIN_TEXT_UTF_8);
+            resource.charSink().write(text);
+            resources.put(uri, resource);
+        }
+
+        @Override
+        public @Nullable Resource getResource(URI uri) {
+            ++calls;
+            return resources.get(uri);
+        }
+    }
+
+    private static class ByteSourceResource extends BaseResource
+            implements ReadableButNotWritableResource {
+
+        private final ByteSource byteSource;
+
+        ByteSourceResource(URI uri, ByteSource byteSource) {
+            super(uri, MediaType.OCTET_STREAM);
+            this.byteSource = byteSource;
+        }
+
+        @Override
+        public ByteSource byteSource() {
+            return byteSource;
+        }
+    }
+
+    /** ByteSource of unknown size, which counts how often it was opened. */
+    private static class UnknownSizeByteSource extends ByteSource {
+
+        private final ByteSource delegate;
+        int opened = 0;
+
+        UnknownSizeByteSource(ByteSource delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public InputStream openStream() throws IOException {
+            ++opened;
+            return delegate.openStream();
+        }
+    }
+
+    private final TestResourceProvider trp = new TestResourceProvider();
+
+    private Instant now = Instant.EPOCH;
+
+    private ContentCachingResourceProvider rp(long maximumBytes, @Nullable Duration ttl)
+            throws IOException {
+        return rp(maximumBytes, ttl, tempFolder.newFolder().toPath(), 1000);
+    }
+
+    private ContentCachingResourceProvider rp(
+            long maximumBytes, @Nullable Duration ttl, Path directory, long maximumDirectoryBytes) {
+        var options =
+                new ContentCachingResourceProvider.Options(
+                        maximumBytes,
+                        ttl != null ? ttl : Duration.ofMinutes(1),
+                        directory,
+                        maximumDirectoryBytes);
+        return new ContentCachingResourceProvider(trp, options, () -> now);
+    }
+
+    @Test
+    public void cache() throws IOException {
+        trp.put(A, "hello");
+        var rp = rp(1000, null);
+
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("hello");
+        assertThat(trp.calls).isEqualTo(1);
+
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("hello");
+        assertThat(rp.getResource(A).mediaType()).isEqualTo(MediaType.PLAIN_TEXT_UTF_8);
+        assertThat(trp.calls).isEqualTo(1);
+        assertThat(rp.stats().memory().hitCount()).isAtLeast(2);
+
+        assertThat(rp.get("test:nada")).isNull();
+        assertThat(rp.get("test:nada")).isNull();
+        assertThat(trp.calls).isEqualTo(3);
+    }
+
+    @Test
+    public void revalidate() throws IOException {
+        trp.put(A, "hello");
+        var rp = rp(1000, Duration.ofMinutes(1));
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("hello");
+
+        now = now.plus(Duration.ofMinutes(2));
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("hello");
+        assertThat(rp.stats().revalidations()).isEqualTo(1);
+        assertThat(rp.stats().unchanged()).isEqualTo(1);
+
+        trp.put(A, "world");
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("hello");
+
+        now = now.plus(Duration.ofMinutes(2));
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("world");
+        assertThat(rp.stats().revalidations()).isEqualTo(2);
+        assertThat(rp.stats().unchanged()).isEqualTo(1);
+    }
+
+    @Test
+    public void writeInvalidates() throws IOException {
+        trp.put(A, "hello");
+        var rp = rp(1000, null);
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("hello");
+
+        rp.getResource(A).charSink().write(" world");
+        var written = trp.resources.get(A).charSource().read();
+        assertThat(written).isNotEqualTo("hello");
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo(written);
+    }
+
+    @Test
+    public void spillToDisk() throws IOException {
+        trp.put(A, "01234567");
+        trp.put(B, "89abcdef");
+        var rp = rp(10, null);
+
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("01234567");
+        assertThat(rp.getResource(B).charSource().read()).isEqualTo("89abcdef");
+        assertThat(rp.stats().memory().evictionCount()).isEqualTo(1);
+        assertThat(rp.stats().diskWrites()).isEqualTo(1);
+
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("01234567");
+        assertThat(rp.stats().diskHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void tooBig() throws IOException {
+        trp.put(A, "0123456789abcdef");
+        var rp = rp(10, null);
+
+        assertThat(rp.getResource(A).charSource().read()).isEqualTo("0123456789abcdef");
+        assertThat(rp.stats().memory().evictionCount()).isEqualTo(0);
+        assertThat(rp.stats().diskWrites()).isEqualTo(0);
+    }
+
+    @Test
+    public void tooBigIsStreamed() throws IOException {
+        // Endless, so this would never return if it were read entirely
+        var endless = ByteSource.concat(Iterables.cycle(ByteSource.wrap(new byte[] {42})));
+        trp.put(A, endless);
+        var rp = rp(10, null);
+
+        var resource = rp.getResource(A);
+        assertThat(resource.mediaType()).isEqualTo(MediaType.OCTET_STREAM);
+        try (var in = resource.byteSource().openStream()) {
+            assertThat(in.readNBytes(100)).hasLength(100);
+        }
+        assertThat(rp.getResource(A)).isNotNull();
+        assertThat(trp.calls).isEqualTo(2); // Not cached
+    }
+
+    @Test
+    public void unknownSizeIsStreamedAndCachedIfSmall() throws IOException {
+        var source = new UnknownSizeByteSource(ByteSource.wrap("hello".getBytes(UTF_8)));
+        trp.put(A, source);
+        var rp = rp(10, null);
+
+        assertThat(rp.getResource(A).byteSource().read()).isEqualTo("hello".getBytes(UTF_8));
+        assertThat(rp.getResource(A).byteSource().read()).isEqualTo("hello".getBytes(UTF_8));
+        assertThat(source.opened).isEqualTo(1);
+
+        var big = new UnknownSizeByteSource(ByteSource.wrap("0123456789abcdef".getBytes(UTF_8)));
+        trp.put(B, big);
+        assertThat(rp.getResource(B).byteSource().size()).isEqualTo(16);
+        assertThat(rp.getResource(B).byteSource().size()).isEqualTo(16);
+        assertThat(big.opened).isEqualTo(2);
+    }
+
+    @Test
+    public void mediaTypeDoesNotReadContent() throws IOException {
+        var source = new UnknownSizeByteSource(ByteSource.wrap("hello".getBytes(UTF_8)));
+        trp.put(A, source);
+        var rp = rp(10, null);
+
+        assertThat(rp.getResource(A).mediaType()).isEqualTo(MediaType.OCTET_STREAM);
+        assertThat(source.opened).isEqualTo(0);
+    }
+
+    @Test
+    public void directoryIsTrimmed() throws IOException {
+        var directory = tempFolder.newFolder().toPath();
+        var rp = rp(10, null, directory, 150);
+        for (int i = 0; i < 10; i++) {
+            var uri = URI.create("test:" + i);
+            trp.put(uri, "0123456" + i);
+            assertThat(rp.getResource(uri).charSource().read()).isEqualTo("0123456" + i);
+        }
+
+        assertThat(rp.stats().diskWrites()).isEqualTo(9);
+        assertThat(rp.stats().diskDeletes()).isGreaterThan(0);
+        long size = 0;
+        try (var files = Files.list(directory)) {
+            for (var file : files.toList()) size += Files.size(file);
+        }
+        assertThat(size).isAtMost(150);
+    }
+}
@@ -17,18 +17,68 @@
  */
 package dev.enola.common.io.resource.stream;
 
-import java.io.File;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.IOException;
-import java.nio.file.FileVisitOption;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-/** FileGlobPathWalker is a utility to enumerate files matching a glob pattern. */
+/**
+ * FileGlobPathWalker is a utility to enumerate files matching a glob pattern.
+ *
+ * <p>Instead of walking the entire tree below the non-glob "base" directory and only then matching
+ * each path, this only descends into directories which could possibly contain matches. For example,
+ * <code>models/*&#47;*.ttl</code> only lists direct sub-directories of models/, and <code>
+ * models/**&#47;*.ttl</code> does not descend into directories which are ignored.
+ */
 final class FileGlobPathWalker {
 
+    private static final Logger LOG = LoggerFactory.getLogger(FileGlobPathWalker.class);
+
+    // .git/ contains weird files which have "standard" extensions but not content
+    private static final String GIT_DIRECTORY = ".git";
+
+    static final String GIT_IGNORE = ".gitignore";
+
+    /**
+     * Directory listings, shared by all walkers (with cacheListings) in this process. A cached
+     * listing is re-used only while its directory's last modified time is unchanged.
+     */
+    private static final Cache<Path, Listing> LISTINGS =
+            CacheBuilder.newBuilder().maximumSize(100_000).build();
+
+    private record Entry(Path path, boolean isDirectory, boolean isSymbolicLink) {}
+
+    private record Listing(FileTime lastModified, ImmutableList<Entry> entries) {}
+
+    private final FileGlobResolver.Options options;
+
+    FileGlobPathWalker(FileGlobResolver.Options options) {
+        this.options = options;
+    }
+
     /** See the {@link FileGlobResolver} documentation for glob path description. */
-    static Stream<Path> walk(Path globPath) throws IOException {
+    Stream<Path> walk(Path globPath) throws IOException {
         var globString = globPath.toString();
         var starPos = globString.indexOf('*');
 
@@ -36,26 +86,203 @@ final class FileGlobPathWalker {
 
         if (starPos == -1) starPos = globString.indexOf('[');
 
-        if (starPos > -1) {
-            Path basePath;
-            if (starPos > 0) basePath = Path.of(globString.substring(0, starPos - 1));
-            else basePath = new File(".").toPath();
-
-            // Inspired by File.newDirectoryStream(), but matching full path, not just getFileName()
-            var fs = basePath.getFileSystem();
-            var matcher = fs.getPathMatcher("glob:" + globString);
-            var stream =
-                    Files.walk(basePath, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> matcher.matches(path))
-                            // .git/ contains weird files which have "standard" extensions but not
-                            // content
-                            .filter(path -> !path.toString().contains("/.git/"));
-            // Add basePath, useful as "root dir", used e.g. in models/** DocGen FileThingConverter
-            return Stream.concat(Stream.of(basePath), stream);
+        if (starPos == -1) return Stream.of(globPath);
+
+        var fs = globPath.getFileSystem();
+        var slashPos = globString.lastIndexOf('/', starPos);
+        Path basePath;
+        if (slashPos > 0) basePath = fs.getPath(globString.substring(0, slashPos));
+        else if (slashPos == 0) basePath = fs.getPath("/");
+        else basePath = fs.getPath(".");
+
+        // Add basePath, useful as "root dir", used e.g. in models/** DocGen FileThingConverter
+        if (!Files.isDirectory(basePath)) {
+            if (!Files.exists(basePath)) throw new NoSuchFileException(basePath.toString());
+            return Stream.of(basePath);
+        }
+
+        var segments = segmentMatchers(basePath, globString.substring(slashPos + 1));
+        var walk = new Walk(fs.getPathMatcher("glob:" + globString), segments);
+        var ignores = IgnoreRules.NONE.with(basePath, options.excludes());
+        var unbounded = segments == null;
+
+        List<Path> found;
+        if (options.parallel()) {
+            var queue = new ConcurrentLinkedQueue<Path>();
+            try {
+                ForkJoinPool.commonPool()
+                        .invoke(new WalkTask(walk, basePath, 0, unbounded, ignores, queue::add));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            // Sorted, because the order in which the threads find paths is not deterministic
+            found = new ArrayList<>(queue);
+            found.sort(null);
         } else {
-            return Stream.of(globPath);
+            found = new ArrayList<>();
+            try {
+                walk.visit(basePath, 0, unbounded, ignores, found::add, null);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return Stream.concat(Stream.of(basePath), found.stream());
+    }
+
+    /**
+     * Returns a matcher for each of the '/' separated segments of the glob below the base path, or
+     * null if everything below the base path must be walked. A null segment matches (anything at)
+     * any depth, because the glob segment contains <code>**</code>.
+     */
+    private static @Nullable PathMatcher @Nullable [] segmentMatchers(Path base, String rest) {
+        // Braces could contain '/' (e.g. {a/b,c}), and backslashes escape; don't try to be clever
+        if (rest.indexOf('{') != -1 || rest.indexOf('\\') != -1) return null;
+        var fs = base.getFileSystem();
+        var segments = rest.split("/");
+        var matchers = new PathMatcher[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].contains("**")) break;
+            matchers[i] = fs.getPathMatcher("glob:" + segments[i]);
+        }
+        return matchers;
+    }
+
+    private final class Walk {
+        private final PathMatcher matcher;
+        private final @Nullable PathMatcher @Nullable [] segments;
+
+        Walk(PathMatcher matcher, @Nullable PathMatcher @Nullable [] segments) {
+            this.matcher = matcher;
+            this.segments = segments;
+        }
+
+        /**
+         * Visits the entries of a directory, which is at the given depth below the base path. If
+         * forks is null, sub-directories are visited directly, else a task for each is added.
+         */
+        void visit(
+                Path directory,
+                int depth,
+                boolean unbounded,
+                IgnoreRules ignores,
+                Consumer<Path> found,
+                @Nullable List<WalkTask> forks) {
+            var entries = list(directory);
+            if (options.gitIgnore()) ignores = addGitIgnore(directory, entries, ignores);
+
+            for (var entry : entries) {
+                var path = entry.path;
+                var isGitDirectory = entry.isDirectory && isName(path, GIT_DIRECTORY);
+                if (!isGitDirectory && ignores.isIgnored(path, entry.isDirectory)) continue;
+                if (matcher.matches(path)) found.accept(path);
+                if (!entry.isDirectory || isGitDirectory) continue;
+
+                boolean childUnbounded;
+                if (unbounded || segments == null || segments[depth] == null) childUnbounded = true;
+                else if (depth >= segments.length - 1) continue;
+                else if (segments[depth].matches(path.getFileName())) childUnbounded = false;
+                else continue;
+
+                if (entry.isSymbolicLink && isLoop(directory, path)) continue;
+
+                if (forks == null) visit(path, depth + 1, childUnbounded, ignores, found, null);
+                else forks.add(new WalkTask(this, path, depth + 1, childUnbounded, ignores, found));
+            }
         }
     }
 
-    private FileGlobPathWalker() {}
+    private static final class WalkTask extends RecursiveAction {
+        private final Walk walk;
+        private final Path directory;
+        private final int depth;
+        private final boolean unbounded;
+        private final IgnoreRules ignores;
+        private final Consumer<Path> found;
+
+        WalkTask(
+                Walk walk,
+                Path directory,
+                int depth,
+                boolean unbounded,
+                IgnoreRules ignores,
+                Consumer<Path> found) {
+            this.walk = walk;
+            this.directory = directory;
+            this.depth = depth;
+            this.unbounded = unbounded;
+            this.ignores = ignores;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            var forks = new ArrayList<WalkTask>();
+            walk.visit(directory, depth, unbounded, ignores, found, forks);
+            invokeAll(forks);
+        }
+    }
+
+    private ImmutableList<Entry> list(Path directory) {
+        try {
+            if (!options.cacheListings()) return read(directory);
+            var lastModified = Files.getLastModifiedTime(directory);
+            var listing = LISTINGS.getIfPresent(directory);
+            if (listing != null && listing.lastModified.equals(lastModified))
+                return listing.entries;
+            var entries = read(directory);
+            LISTINGS.put(directory, new Listing(lastModified, entries));
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ImmutableList<Entry> read(Path directory) throws IOException {
+        var entries = ImmutableList.<Entry>builder();
+        try (var stream = Files.newDirectoryStream(directory)) {
+            for (var path : stream) {
+                var attributes =
+                        Files.readAttributes(
+                                path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                var isSymbolicLink = attributes.isSymbolicLink();
+                var isDirectory =
+                        isSymbolicLink ? Files.isDirectory(path) : attributes.isDirectory();
+                entries.add(new Entry(path, isDirectory, isSymbolicLink));
+            }
+        }
+        return entries.build();
+    }
+
+    private static IgnoreRules addGitIgnore(
+            Path directory, ImmutableList<Entry> entries, IgnoreRules ignores) {
+        for (var entry : entries) {
+            if (!entry.isDirectory && isName(entry.path, GIT_IGNORE)) {
+                try {
+                    var lines = Files.readAllLines(entry.path, StandardCharsets.UTF_8);
+                    return ignores.with(directory, lines);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+        return ignores;
+    }
+
+    /** Whether the symbolic link (to a directory) points to the directory, or to a parent. */
+    private static boolean isLoop(Path directory, Path link) {
+        try {
+            if (directory.toRealPath().startsWith(link.toRealPath())) {
+                LOG.warn("Not following symbolic link {}, because it's a loop", link);
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isName(Path path, String name) {
+        var fileName = path.getFileName();
+        return fileName != null && fileName.toString().equals(name);
+    }
 }
@@ -17,6 +17,7 @@
  */
 package dev.enola.common.io.resource.stream;
 
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.MustBeClosed;
 
 import dev.enola.common.io.iri.URIs;
@@ -39,9 +40,43 @@ import java.util.stream.Stream;
  *
  * <p>It is also valid to use a file: IRI which is not actually a glob; in that case, it is
  * interpreted as just the given single file or directory.
+ *
+ * <p>Directories which cannot contain matches of the glob are not walked into. The {@link Options}
+ * further allow to skip what <code>.gitignore</code> files and explicit excludes ignore, to walk in
+ * parallel, and to re-use directory listings across invocations (in the same process).
  */
 public class FileGlobResolver implements GlobResolver {
 
+    /**
+     * Options of FileGlobResolver.
+     *
+     * @param gitIgnore whether <code>.gitignore</code> files are read and honoured
+     * @param excludes additional <code>.gitignore</code>-style patterns, relative to the (non-glob)
+     *     base directory, of files and directories to skip
+     * @param parallel whether to walk sub-directories in parallel (the order of the resulting URIs
+     *     is then sorted, instead of the directory walking order)
+     * @param cacheListings whether to cache directory listings (in this process), which are then
+     *     re-used as long as the last modified time of the directory has not changed
+     */
+    public record Options(
+            boolean gitIgnore,
+            ImmutableList<String> excludes,
+            boolean parallel,
+            boolean cacheListings) {
+
+        public static final Options DEFAULT = new Options(false, ImmutableList.of(), false, false);
+    }
+
+    private final FileGlobPathWalker walker;
+
+    public FileGlobResolver(Options options) {
+        this.walker = new FileGlobPathWalker(options);
+    }
+
+    public FileGlobResolver() {
+        this(Options.DEFAULT);
+    }
+
     @Override
     @MustBeClosed
     public Stream<URI> get(String globReference) {
@@ -63,7 +98,7 @@ public class FileGlobResolver implements GlobResolver {
         var globPath = URIs.getFilePath(globIRI);
 
         try {
-            return FileGlobPathWalker.walk(globPath)
+            return walker.walk(globPath)
                     .map(
                             path -> {
                                 var pathString = path.toUri().toString();
@@ -29,8 +29,12 @@ public class GlobResolvers implements GlobResolver {
 
     private final FileGlobResolver fileGlobResolver;
 
+    public GlobResolvers(FileGlobResolver.Options fileGlobOptions) {
+        this.fileGlobResolver = new FileGlobResolver(fileGlobOptions);
+    }
+
     public GlobResolvers() {
-        this.fileGlobResolver = new FileGlobResolver();
+        this(FileGlobResolver.Options.DEFAULT);
     }
 
     @Override
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.io.resource.stream;
+
+import com.google.common.collect.ImmutableList;
+
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+
+/**
+ * IgnoreRules are <code>.gitignore</code>-style patterns which exclude files and directories.
+ *
+ * <p>This supports the commonly used subset of <a
+ * href="https://git-scm.com/docs/gitignore">gitignore</a>: Blank lines and lines starting with
+ * <code>#</code> are skipped. A leading <code>!</code> negates (re-includes). A trailing <code>/
+ * </code> only matches directories. Patterns with a leading or middle <code>/</code> are relative
+ * to the directory they were added for; others (also those starting with <code>**&#47;</code>)
+ * match names at any depth below it. The last matching pattern wins. The glob syntax is that of
+ * {@link java.nio.file.FileSystem#getPathMatcher(String)}.
+ *
+ * <p>Instances are immutable, and thus thread-safe.
+ */
+final class IgnoreRules {
+
+    static final IgnoreRules NONE = new IgnoreRules(ImmutableList.of());
+
+    private record Rule(
+            Path base,
+            PathMatcher matcher,
+            boolean anchored,
+            boolean directoryOnly,
+            boolean negated) {}
+
+    private final ImmutableList<Rule> rules;
+
+    private IgnoreRules(ImmutableList<Rule> rules) {
+        this.rules = rules;
+    }
+
+    /** Returns new IgnoreRules, with additional patterns relative to the given base directory. */
+    IgnoreRules with(Path base, Iterable<String> patterns) {
+        var builder = ImmutableList.<Rule>builder().addAll(rules);
+        var fs = base.getFileSystem();
+        for (var line : patterns) {
+            var pattern = line.stripTrailing();
+            if (pattern.isEmpty() || pattern.startsWith("#")) continue;
+
+            var negated = pattern.startsWith("!");
+            if (negated) pattern = pattern.substring(1);
+            var directoryOnly = pattern.endsWith("/");
+            if (directoryOnly) pattern = pattern.substring(0, pattern.length() - 1);
+            if (pattern.startsWith("**/") && pattern.indexOf('/', 3) == -1)
+                pattern = pattern.substring(3);
+            var anchored = pattern.contains("/");
+            if (pattern.startsWith("/")) pattern = pattern.substring(1);
+            if (pattern.isEmpty()) continue;
+
+            var matcher = fs.getPathMatcher("glob:" + pattern);
+            builder.add(new Rule(base, matcher, anchored, directoryOnly, negated));
+        }
+        return new IgnoreRules(builder.build());
+    }
+
+    boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    boolean isIgnored(Path path, boolean isDirectory) {
+        boolean ignored = false;
+        for (var rule : rules) {
+            if (rule.directoryOnly && !isDirectory) continue;
+            if (!path.startsWith(rule.base) || path.equals(rule.base)) continue;
+            var candidate = rule.anchored ? rule.base.relativize(path) : path.getFileName();
+            if (candidate != null && rule.matcher.matches(candidate)) ignored = !rule.negated;
+        }
+        return ignored;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.common.io.resource.stream;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public class IgnoreRulesTest {
+
+    Path base = Path.of("/base");
+
+    IgnoreRules rules =
+            IgnoreRules.NONE.with(
+                    base,
+                    List.of(
+                            "# Comment",
+                            "",
+                            "node_modules/",
+                            "*.log",
+                            "!keep.log",
+                            "/build",
+                            "docs/*.md",
+                            "**/tmp"));
+
+    @Test
+    public void none() {
+        assertThat(IgnoreRules.NONE.isEmpty()).isTrue();
+        assertThat(IgnoreRules.NONE.isIgnored(base.resolve("a.log"), false)).isFalse();
+    }
+
+    @Test
+    public void names() {
+        assertThat(rules.isIgnored(base.resolve("a.log"), false)).isTrue();
+        assertThat(rules.isIgnored(base.resolve("x/y/a.log"), false)).isTrue();
+        assertThat(rules.isIgnored(base.resolve("a.ttl"), false)).isFalse();
+        assertThat(rules.isIgnored(base.resolve("x/tmp"), true)).isTrue();
+    }
+
+    @Test
+    public void negated() {
+        assertThat(rules.isIgnored(base.resolve("keep.log"), false)).isFalse();
+    }
+
+    @Test
+    public void directoryOnly() {
+        assertThat(rules.isIgnored(base.resolve("x/node_modules"), true)).isTrue();
+        assertThat(rules.isIgnored(base.resolve("x/node_modules"), false)).isFalse();
+    }
+
+    @Test
+    public void anchored() {
+        assertThat(rules.isIgnored(base.resolve("build"), true)).isTrue();
+        assertThat(rules.isIgnored(base.resolve("x/build"), true)).isFalse();
+        assertThat(rules.isIgnored(base.resolve("docs/a.md"), false)).isTrue();
+        assertThat(rules.isIgnored(base.resolve("x/docs/a.md"), false)).isFalse();
+    }
+
+    @Test
+    public void nested() {
+        var nested = rules.with(base.resolve("x"), List.of("*.ttl"));
+        assertThat(nested.isIgnored(base.resolve("x/a.ttl"), false)).isTrue();
+        assertThat(nested.isIgnored(base.resolve("a.ttl"), false)).isFalse();
+        assertThat(nested.isIgnored(base.resolve("x/a.log"), false)).isTrue();
+    }
+}
@@ -49,28 +49,22 @@ public class ConcurrentStringToLongBiMap implements StringToLongBiMap, StringToL
 
     @Override
     public long put(String symbol) {
-        long currentId = nextId.get();
-        Long existingId = stringToLongMap.putIfAbsent(symbol, currentId);
+        Long existingId = stringToLongMap.get(symbol);
         if (existingId != null) {
             return existingId;
         }
 
-        // Spin lock!
-        while (!nextId.compareAndSet(currentId, currentId + 1)) {
-            currentId = nextId.get();
-            existingId = stringToLongMap.putIfAbsent(symbol, currentId);
-            if (existingId != null) {
-                return existingId;
-            }
-        }
-
-        // This implementation is thread-safe for the long ID and size.
-        // There is, however, a race condition between concurrent [#put(String)] and [#get(long)]
-        // operations.
-        // This is acceptable because only an ID returned from `put` guarantees that the
-        // mapping is visible for later `get()` operations.
-        longToStringMap.put(currentId, symbol);
-        return currentId;
+        // The ID is taken inside the (atomic, per symbol) mapping function, so that concurrent
+        // puts of different symbols can never share an ID, and concurrent puts of the same symbol
+        // always return the same one. The reverse mapping is also added in there, so that an ID
+        // returned from `put` is always visible to later `get(long)` operations.
+        return stringToLongMap.computeIfAbsent(
+                symbol,
+                newSymbol -> {
+                    long id = nextId.getAndIncrement();
+                    longToStringMap.put(id, newSymbol);
+                    return id;
+                });
     }
 
     @Override // ~copy/paste from ImmutableStringToLongBiMap
@@ -17,10 +17,67 @@
  */
 package dev.enola.common.string2long;
 
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 public class ConcurrentStringToLongBiMapTest extends AbstractStringToLongBiMapTest {
 
+    private static final int THREADS = 8;
+    private static final int SYMBOLS = 10_000;
+
     @Override
     StringToLongBiMap.Builder create() {
         return ConcurrentStringToLongBiMap.builder();
     }
+
+    @Test
+    public void concurrentPuts() throws Exception {
+        var map = ConcurrentStringToLongBiMap.builder();
+        var barrier = new CyclicBarrier(THREADS);
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            // Every other thread goes backwards, for more races
+            tasks.add(putAll(map, barrier, t % 2 == 1));
+        }
+
+        List<Future<long[]>> results;
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            results = executor.invokeAll(tasks);
+        } finally {
+            executor.shutdown();
+        }
+
+        var ids = results.get(0).get();
+        for (var result : results) assertThat(result.get()).isEqualTo(ids);
+        assertThat(map.size()).isEqualTo(SYMBOLS);
+        var distinct = new HashSet<Long>();
+        for (int n = 0; n < SYMBOLS; n++) {
+            assertThat(map.get(ids[n])).isEqualTo("symbol" + n);
+            distinct.add(ids[n]);
+        }
+        assertThat(distinct).hasSize(SYMBOLS);
+    }
+
+    private Callable<long[]> putAll(
+            StringToLongBiMap.Builder map, CyclicBarrier barrier, boolean backwards) {
+        return () -> {
+            var ids = new long[SYMBOLS];
+            barrier.await();
+            for (int i = 0; i < SYMBOLS; i++) {
+                int n = backwards ? SYMBOLS - 1 - i : i;
+                ids[n] = map.put("symbol" + n);
+            }
+            return ids;
+        };
+    }
 }
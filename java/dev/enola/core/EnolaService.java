@@ -24,6 +24,16 @@ public interface EnolaService {
 
     GetThingsResponse getThings(GetThingsRequest r) throws EnolaException;
 
+    /**
+     * Streaming variant of {@link #getThings(GetThingsRequest)}. Implementations should return a
+     * lazy Iterable, which produces (converts) Things only as it is iterated; it is only iterated
+     * once. This default implementation is not lazy.
+     */
+    default Iterable<dev.enola.thing.proto.Thing> streamThings(GetThingsRequest r)
+            throws EnolaException {
+        return getThings(r).getThingsList();
+    }
+
     // TODO Convert all callers to getThings, and remove this
     GetThingResponse getThing(GetThingRequest r) throws EnolaException;
 }
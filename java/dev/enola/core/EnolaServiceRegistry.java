@@ -17,6 +17,7 @@
  */
 package dev.enola.core;
 
+import com.google.common.collect.Iterables;
 import com.google.protobuf.Any;
 
 import dev.enola.common.io.resource.ResourceProvider;
@@ -40,6 +41,7 @@ class EnolaServiceRegistry implements EnolaService, ProtoThingRepository {
 
     private final URITemplateMatcherChain<ThingService> matcher;
     private final ResourceEnolaService resourceEnolaService;
+    private final ListThingService listThingService;
     private final JavaThingToProtoThingConverter converter;
 
     public static Builder builder() {
@@ -48,9 +50,11 @@ class EnolaServiceRegistry implements EnolaService, ProtoThingRepository {
 
     private EnolaServiceRegistry(
             URITemplateMatcherChain<ThingService> matcherChain,
-            ResourceEnolaService resourceEnolaService) {
+            ResourceEnolaService resourceEnolaService,
+            ListThingService listThingService) {
         this.matcher = matcherChain;
         this.resourceEnolaService = resourceEnolaService;
+        this.listThingService = listThingService;
         this.converter = new JavaThingToProtoThingConverter();
     }
 
@@ -76,6 +80,27 @@ class EnolaServiceRegistry implements EnolaService, ProtoThingRepository {
         return builder.build();
     }
 
+    @Override
+    public Iterable<dev.enola.thing.proto.Thing> streamThings(GetThingsRequest r)
+            throws EnolaException {
+        var iri = r.getIri();
+        if (ListThingService.ENOLA_ROOT_LIST_THINGS.equals(iri)) {
+            return listThingService.listThings();
+        }
+        var opt = matcher.match(iri);
+        if (opt.isPresent()) {
+            var entry = opt.get();
+            var delegate = entry.getKey();
+            var parameters = entry.getValue();
+            var javaThings = delegate.getThings(iri, parameters);
+            return Iterables.transform(
+                    javaThings, javaThing -> converter.convert(javaThing).build());
+        } else {
+            // Same fallback as in get(), below
+            return resourceEnolaService.streamThings(r);
+        }
+    }
+
     @Override
     public Any get(String iri) {
         var opt = matcher.match(iri);
@@ -153,7 +178,7 @@ class EnolaServiceRegistry implements EnolaService, ProtoThingRepository {
                     new FilteringResourceIntoProtoThingConverter(
                             new RdfResourceIntoProtoThingConverter(rp));
             var res = new ResourceEnolaService(rp, riptc);
-            var esr = new EnolaServiceRegistry(uriTemplateMatcherChain, res);
+            var esr = new EnolaServiceRegistry(uriTemplateMatcherChain, res, listThingService);
             listThingService.setProtoThingProvider(esr);
             return esr;
         }
@@ -19,10 +19,13 @@ package dev.enola.core.grpc;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.google.common.collect.Iterators;
 import com.google.common.util.concurrent.ListeningExecutorService;
 
 import dev.enola.common.concurrent.Executors;
 import dev.enola.core.proto.EnolaServiceGrpc;
+import dev.enola.core.proto.GetThingsRequest;
+import dev.enola.thing.proto.Thing;
 
 import io.grpc.Grpc;
 import io.grpc.InsecureChannelCredentials;
@@ -31,6 +34,8 @@ import io.grpc.ManagedChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Iterator;
+
 public class EnolaGrpcClientProvider implements ServiceProvider {
 
     private final Logger LOGGER = LoggerFactory.getLogger(getClass());
@@ -62,6 +67,22 @@ public class EnolaGrpcClientProvider implements ServiceProvider {
         return client;
     }
 
+    /**
+     * Streams the Things of the given IRI, using the server-streaming StreamThings RPC. The server
+     * sends batches of (at most) {@code batchSize} Things (0 for the server's default), and only
+     * sends more while the returned Iterator is consumed.
+     *
+     * <p>The Iterator must be fully consumed, otherwise the underlying call is leaked until the
+     * channel is closed.
+     */
+    public Iterator<Thing> streamThings(String iri, int batchSize) {
+        var request = GetThingsRequest.newBuilder().setIri(iri).setBatchSize(batchSize).build();
+        // Intentionally without the (short) deadline of the unary client, as this may take long
+        var responses = EnolaServiceGrpc.newBlockingStub(channel).streamThings(request);
+        return Iterators.concat(
+                Iterators.transform(responses, response -> response.getThingsList().iterator()));
+    }
+
     public void close() throws Exception {
         channel.shutdownNow().awaitTermination(3, SECONDS);
         Executors.shutdownAndAwaitTermination(executor);
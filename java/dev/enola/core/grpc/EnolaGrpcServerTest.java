@@ -21,6 +21,7 @@ import static com.google.common.truth.Truth.assertThat;
 
 import static dev.enola.common.context.testlib.SingletonRule.$;
 
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Timestamp;
@@ -71,6 +72,7 @@ public class EnolaGrpcServerTest {
             var endpoint = "localhost:" + port;
             try (var enolaClient = new EnolaGrpcClientProvider(endpoint, false)) {
                 check(enolaClient.get());
+                checkStreamThings(enolaClient);
             }
         }
     }
@@ -82,6 +84,11 @@ public class EnolaGrpcServerTest {
         }
     }
 
+    private void checkStreamThings(EnolaGrpcClientProvider client) {
+        var things = ImmutableList.copyOf(client.streamThings("classpath:/picasso.ttl", 1));
+        assertThat(things).hasSize(2);
+    }
+
     private void check(EnolaServiceGrpc.EnolaServiceBlockingStub client)
             throws InvalidProtocolBufferException {
         // TODO checkGetProtoMessage(client);
@@ -21,11 +21,18 @@ import dev.enola.core.EnolaException;
 import dev.enola.core.EnolaService;
 import dev.enola.core.EnolaServiceProvider;
 import dev.enola.core.proto.*;
+import dev.enola.thing.proto.Thing;
 
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
+import java.util.Iterator;
+
 public class EnolaGrpcService extends EnolaServiceGrpc.EnolaServiceImplBase {
 
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final EnolaService enola;
     private final EnolaServiceProvider esp;
 
@@ -46,6 +53,74 @@ public class EnolaGrpcService extends EnolaServiceGrpc.EnolaServiceImplBase {
         }
     }
 
+    @Override
+    public void streamThings(
+            GetThingsRequest request, StreamObserver<GetThingsResponse> responseObserver) {
+        Iterator<Thing> things;
+        try {
+            things = enola.streamThings(request).iterator();
+        } catch (EnolaException e) {
+            responseObserver.onError(e);
+            return;
+        }
+
+        var batchSize = request.getBatchSize();
+        if (batchSize <= 0) batchSize = DEFAULT_BATCH_SIZE;
+        else if (batchSize > MAX_BATCH_SIZE) batchSize = MAX_BATCH_SIZE;
+
+        var observer = (ServerCallStreamObserver<GetThingsResponse>) responseObserver;
+        var pump = new BatchPump(observer, things, batchSize);
+        observer.setOnCancelHandler(pump::cancel);
+        observer.setOnReadyHandler(pump);
+    }
+
+    /**
+     * Sends batches of Things only while the gRPC transport {@link
+     * ServerCallStreamObserver#isReady() is ready}, and resumes when it's ready again; this way, a
+     * slow client applies back-pressure, and the server never buffers more than a batch.
+     */
+    private static class BatchPump implements Runnable {
+        private final ServerCallStreamObserver<GetThingsResponse> observer;
+        private final Iterator<Thing> things;
+        private final int batchSize;
+        private boolean done;
+
+        BatchPump(
+                ServerCallStreamObserver<GetThingsResponse> observer,
+                Iterator<Thing> things,
+                int batchSize) {
+            this.observer = observer;
+            this.things = things;
+            this.batchSize = batchSize;
+        }
+
+        synchronized void cancel() {
+            done = true;
+        }
+
+        @Override
+        public synchronized void run() {
+            if (done) return;
+            try {
+                while (observer.isReady()) {
+                    if (!things.hasNext()) {
+                        done = true;
+                        observer.onCompleted();
+                        return;
+                    }
+                    var batch = GetThingsResponse.newBuilder();
+                    while (things.hasNext() && batch.getThingsCount() < batchSize) {
+                        batch.addThings(things.next());
+                    }
+                    observer.onNext(batch.build());
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                observer.onError(e);
+            }
+        }
+    }
+
     @Override
     public void getThing(
             GetThingRequest request, StreamObserver<GetThingResponse> responseObserver) {
@@ -40,6 +40,8 @@ public class RdfResourceIntoProtoThingResourceConverter implements CatchingResou
             throws Exception {
         if (!(thingMediaTypes.knownTypesWithAlternatives().containsKey(into.mediaType())))
             return false;
+        // That's not a Protocol Buffer, see BinaryThingsResourceConverter
+        if (into.mediaType().is(ThingMediaTypes.THING_BINARY)) return false;
         var intoMediaType = thingMediaTypes.detect(into);
         if (intoMediaType.isPresent()) {
             var optThingsList = ritc.convert(from);
@@ -35,6 +35,7 @@ import dev.enola.common.protobuf.YamlJsonResourceConverter;
 import dev.enola.data.iri.NamespaceConverter;
 import dev.enola.format.tika.rdf.TikaResourceIntoRdfResourceConverter;
 import dev.enola.format.xml.XmlResourceConverter;
+import dev.enola.rdf.io.BinaryThingsResourceConverter;
 import dev.enola.rdf.io.RdfResourceConverter;
 import dev.enola.thing.gen.gexf.GexfGenerator;
 import dev.enola.thing.gen.gexf.GexfResourceConverter;
@@ -93,6 +94,7 @@ public class Rosetta implements ResourceConverter {
                 new ResourceConverterChain(
                         ImmutableList.of(
                                 // TODO Use ServiceLoader with @AutoService
+                                new BinaryThingsResourceConverter(rp),
                                 new RdfResourceIntoProtoThingResourceConverter(rp),
                                 new RdfResourceConverter(rp),
                                 new TikaResourceIntoRdfResourceConverter(rp),
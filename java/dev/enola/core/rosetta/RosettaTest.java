@@ -134,6 +134,17 @@ public class RosettaTest {
         assertThat(out.byteSource().size()).isGreaterThan(800);
     }
 
+    @Test
+    public void testTurtleToBinaryThingsAndBack() throws Exception {
+        var in = new ClasspathResource("picasso.ttl");
+        var binary = new MemoryResource(ThingMediaTypes.THING_BINARY);
+        rosetta.convertInto(in, binary);
+
+        var out = new MemoryResource(RdfMediaTypes.TURTLE);
+        rosetta.convertInto(binary, out);
+        assertThat(out.charSource().read()).contains("Picasso");
+    }
+
     @Test
     public void testTurtleToJsonLd() throws Exception {
         var in = new ClasspathResource("picasso.ttl");
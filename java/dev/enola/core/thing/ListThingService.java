@@ -17,6 +17,7 @@
  */
 package dev.enola.core.thing;
 
+import com.google.common.collect.Iterables;
 import com.google.protobuf.Any;
 import com.google.protobuf.InvalidProtocolBufferException;
 
@@ -27,10 +28,12 @@ import dev.enola.thing.proto.Thing;
 import dev.enola.thing.proto.Things;
 import dev.enola.thing.proto.Value;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.Objects;
 
 /** ThingService which returns the list of all known Things' IRIs for GET enola:/ */
 public class ListThingService implements ThingService {
@@ -56,36 +59,49 @@ public class ListThingService implements ThingService {
                 "TODO implement after switching from Proto to Java Thing");
     }
 
+    /**
+     * Lazily lists all known Things (except the "list" Things themselves). Things are only fetched
+     * from the {@link ProtoThingRepository} as the returned Iterable is iterated.
+     */
+    public Iterable<Thing> listThings() {
+        var thingIRIs =
+                Iterables.filter(
+                        protoThingRepository.listIRI(),
+                        thingIRI ->
+                                !ENOLA_ROOT_LIST_IRIS.equals(thingIRI)
+                                        && !ENOLA_ROOT_LIST_THINGS.equals(thingIRI));
+        var things = Iterables.transform(thingIRIs, this::getProtoThing);
+        return Iterables.filter(things, Objects::nonNull);
+    }
+
+    private @Nullable Thing getProtoThing(String thingIRI) {
+        var any = protoThingRepository.get(thingIRI);
+        if (any == null) {
+            LOG.error("Any null: {}", thingIRI);
+            return null;
+        }
+        if (!any.getTypeUrl().endsWith("Thing")) {
+            LOG.warn("Skipping non-Thing Any: {}", any);
+            return null;
+        }
+        try {
+            return any.unpack(Thing.class);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Huh?!", e);
+        }
+    }
+
     @Override
     public Any getThing(String iri, Map<String, String> parameters) {
-        var thingIRIs = protoThingRepository.listIRI();
         if (ENOLA_ROOT_LIST_THINGS.equals(iri)) {
             var things = Things.newBuilder();
-            for (var thingIRI : thingIRIs) {
-                if (ENOLA_ROOT_LIST_IRIS.equals(thingIRI)) continue;
-                if (ENOLA_ROOT_LIST_THINGS.equals(thingIRI)) continue;
-                var any = protoThingRepository.get(thingIRI);
-                if (any == null) {
-                    LOG.error("Any null: {}", thingIRI);
-                    continue;
-                }
-                if (!any.getTypeUrl().endsWith("Thing")) {
-                    LOG.warn("Skipping non-Thing Any: {}", any);
-                    continue;
-                }
-                try {
-                    var thing = any.unpack(Thing.class);
-                    things.addThings(thing);
-                } catch (InvalidProtocolBufferException e) {
-                    throw new IllegalStateException("Huh?!", e);
-                }
-            }
+            things.addAllThings(listThings());
             return Any.pack(things.build());
 
         } else { // only IRIs, not fully inlined Things
             // TODO Have a static Proto message type for this? And use it e.g. in DocGen?
             var list = Value.List.newBuilder();
-            for (var thingIRI : thingIRIs) {
+            for (var thingIRI : protoThingRepository.listIRI()) {
                 var linkValue = Value.newBuilder().setLink(thingIRI);
                 list.addValues(linkValue);
             }
@@ -55,7 +55,8 @@ public class ThingRepositoryThingService implements ThingService {
     @Override
     public Iterable<Thing> getThings(String iri, Map<String, String> parameters)
             throws EnolaException {
-        return thingsProvider.getThings(iri).toList();
+        // Lazy, but re-iterable: each iteration gets the Things (again) from the ThingsProvider
+        return () -> thingsProvider.getThings(iri).iterator();
     }
 
     @Override
@@ -29,10 +29,10 @@ import java.util.Map;
 /** AbstractMapRepositoryRW is a RepositoryRW implementation that's backed by a Map. */
 abstract class AbstractMapRepositoryRW<T> implements RepositoryRW<T> {
 
-    private final ImmutableList<Trigger<T>> triggers;
+    private final Triggers<T> triggers;
 
     protected AbstractMapRepositoryRW(ImmutableList<Trigger<? extends T>> triggers) {
-        this.triggers = hack(triggers);
+        this.triggers = new Triggers<>(triggers);
     }
 
     protected abstract String getIRI(T value);
@@ -63,17 +63,7 @@ abstract class AbstractMapRepositoryRW<T> implements RepositoryRW<T> {
         return map().get(requireNonNull(iri));
     }
 
-    @SuppressWarnings("unchecked")
-    private ImmutableList<Trigger<T>> hack(ImmutableList<Trigger<? extends T>> triggers) {
-        var builder = ImmutableList.<Trigger<T>>builder();
-        for (Trigger<? extends T> trigger : triggers) builder.add((Trigger<T>) trigger);
-        return builder.build();
-    }
-
     protected void trigger(@Nullable T existing, T updated) {
-        if (updated.equals(existing)) return;
-        for (Trigger<T> trigger : triggers) {
-            if (trigger.handles(updated)) trigger.updated(existing, updated);
-        }
+        triggers.updated(existing, updated);
     }
 }
@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.data;
+
+import dev.enola.common.concurrent.Executors;
+import dev.enola.common.concurrent.UncheckedInterruptedException;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncTriggers dispatches updates to {@link Triggers} asynchronously, on background threads.
+ *
+ * <p>Updates are partitioned into "lanes" by the IRI of the updated item. Each lane has its own
+ * thread; so updates of the same IRI are dispatched in the order in which they were submitted,
+ * while updates of different IRIs run in parallel. The number of pending updates per lane is
+ * bounded; when a lane is full, {@link #updated(String, Object, Object)} blocks until there is
+ * space again. (Except when called by a trigger itself, e.g. because it stores into the same
+ * repository; that never blocks, to avoid deadlocks.)
+ *
+ * <p>Callers which need to see the effects of all triggers, e.g. before querying a repository, must
+ * call {@link #flush()}; which also (re)throws trigger failures. Triggers must not call it.
+ */
+public final class AsyncTriggers<T> implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncTriggers.class);
+
+    private static final ThreadLocal<Boolean> IN_TRIGGER = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Snapshot of metrics.
+     *
+     * @param queueDepth number of updates currently pending (submitted, but not yet dispatched)
+     * @param maxQueueDepth highest queueDepth so far
+     * @param dispatched number of updates dispatched to the triggers so far
+     * @param failed number of those which failed
+     * @param triggerTime total time spent in triggers
+     * @param maxTriggerTime longest time spent in triggers for a single update
+     */
+    public record Stats(
+            long queueDepth,
+            long maxQueueDepth,
+            long dispatched,
+            long failed,
+            Duration triggerTime,
+            Duration maxTriggerTime) {
+
+        public Duration averageTriggerTime() {
+            return dispatched == 0 ? Duration.ZERO : triggerTime.dividedBy(dispatched);
+        }
+    }
+
+    private final Triggers<T> triggers;
+    private final ExecutorService[] lanes;
+    private final Semaphore[] capacities;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final LongAccumulator maxPending = new LongAccumulator(Long::max, 0);
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder triggerNanos = new LongAdder();
+    private final LongAccumulator maxTriggerNanos = new LongAccumulator(Long::max, 0);
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor.
+     *
+     * @param triggers the Triggers to dispatch to
+     * @param parallelism number of lanes (and thus threads)
+     * @param capacity maximum number of pending updates per lane
+     */
+    public AsyncTriggers(Triggers<T> triggers, int parallelism, int capacity) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1: " + capacity);
+        this.triggers = triggers;
+        this.lanes = new ExecutorService[parallelism];
+        this.capacities = new Semaphore[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor("Triggers-" + i, LOG);
+            capacities[i] = new Semaphore(capacity);
+        }
+    }
+
+    /**
+     * Submits an update, for asynchronous dispatch.
+     *
+     * @param iri the IRI of the updated item, which determines its lane
+     * @param existing the existing item, if any
+     * @param updated the updated item
+     * @throws RejectedExecutionException if this was already {@link #close() closed}
+     */
+    public void updated(String iri, @Nullable T existing, T updated) {
+        if (triggers.isEmpty()) return;
+        var lane = Math.floorMod(iri.hashCode(), lanes.length);
+
+        var capacity = IN_TRIGGER.get() ? null : capacities[lane];
+        if (capacity != null) {
+            try {
+                capacity.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new UncheckedInterruptedException(e);
+            }
+        }
+        maxPending.accumulate(pending.incrementAndGet());
+
+        try {
+            lanes[lane].execute(
+                    () -> {
+                        var start = System.nanoTime();
+                        IN_TRIGGER.set(true);
+                        try {
+                            triggers.updated(existing, updated);
+                        } catch (Throwable e) {
+                            LOG.error("Trigger failed for update of {}", iri, e);
+                            failed.increment();
+                            failures.add(e);
+                        } finally {
+                            IN_TRIGGER.set(false);
+                            var nanos = System.nanoTime() - start;
+                            triggerNanos.add(nanos);
+                            maxTriggerNanos.accumulate(nanos);
+                            dispatched.increment();
+                            if (capacity != null) capacity.release();
+                            if (pending.decrementAndGet() == 0) {
+                                synchronized (this) {
+                                    notifyAll();
+                                }
+                            }
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            // Closed
+            if (capacity != null) capacity.release();
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Waits until all updates submitted so far have been dispatched to the triggers.
+     *
+     * @throws IllegalStateException if any trigger failed since the last flush
+     */
+    public void flush() {
+        synchronized (this) {
+            while (pending.get() > 0) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new UncheckedInterruptedException(e);
+                }
+            }
+        }
+
+        var failure = failures.poll();
+        if (failure == null) return;
+        var exception = new IllegalStateException("Trigger/s failed", failure);
+        while ((failure = failures.poll()) != null) exception.addSuppressed(failure);
+        throw exception;
+    }
+
+    public Stats stats() {
+        return new Stats(
+                pending.get(),
+                maxPending.get(),
+                dispatched.sum(),
+                failed.sum(),
+                Duration.ofNanos(triggerNanos.sum()),
+                Duration.ofNanos(maxTriggerNanos.get()));
+    }
+
+    /** Flushes, and then stops the threads. */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            for (var lane : lanes) Executors.shutdownAndAwaitTermination(lane);
+        }
+    }
+}
@@ -20,21 +20,51 @@ package dev.enola.data;
 import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.ThreadSafe;
 
+import org.jspecify.annotations.Nullable;
+
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * MemoryRepositoryRW is an in-memory {@link RepositoryRW} implemented using a {@link
  * ConcurrentHashMap}. It is suitable for us by multiple concurrent threads.
+ *
+ * <p>Repositories with asynchronous triggers must be {@link #close() closed}, to stop their
+ * threads.
  */
 @ThreadSafe
 public abstract class MemoryRepositoryRW<T> extends AbstractMapRepositoryRW<T>
-        implements RepositoryRW<T> {
+        implements RepositoryRW<T>, AutoCloseable {
+
+    /** Default capacity (per thread) of pending asynchronous trigger updates. */
+    public static final int DEFAULT_TRIGGER_CAPACITY = 1000;
 
     private final Map<String, T> map = new ConcurrentHashMap<>();
+    private final @Nullable AsyncTriggers<T> asyncTriggers;
 
     protected MemoryRepositoryRW(ImmutableList<Trigger<? extends T>> triggers) {
+        this(triggers, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param triggers the Triggers
+     * @param triggerParallelism if 0, triggers run synchronously on the thread calling {@link
+     *     #store(Object)}; otherwise on this many background threads, see {@link AsyncTriggers} and
+     *     {@link #flush()}
+     */
+    protected MemoryRepositoryRW(
+            ImmutableList<Trigger<? extends T>> triggers, int triggerParallelism) {
         super(triggers);
+        if (triggerParallelism < 0)
+            throw new IllegalArgumentException("triggerParallelism < 0: " + triggerParallelism);
+        if (triggerParallelism == 0 || triggers.isEmpty()) asyncTriggers = null;
+        else
+            asyncTriggers =
+                    new AsyncTriggers<>(
+                            new Triggers<>(triggers), triggerParallelism, DEFAULT_TRIGGER_CAPACITY);
     }
 
     @Override
@@ -42,11 +72,32 @@ public abstract class MemoryRepositoryRW<T> extends AbstractMapRepositoryRW<T>
         return map;
     }
 
-    /*
-       @Override
-       protected void trigger(@Nullable T existing, T updated) {
-           // TODO Run all triggers non-blocking in parallel background threads...
-           super.trigger(existing, updated);
-       }
-    */
+    @Override
+    protected void trigger(@Nullable T existing, T updated) {
+        if (asyncTriggers != null) asyncTriggers.updated(getIRI(updated), existing, updated);
+        else super.trigger(existing, updated);
+    }
+
+    /**
+     * Waits for all asynchronous triggers of updates stored so far; see {@link
+     * AsyncTriggers#flush()}. Does nothing if triggers run synchronously.
+     */
+    public void flush() {
+        if (asyncTriggers != null) asyncTriggers.flush();
+    }
+
+    /** Metrics of asynchronous triggers, if enabled. */
+    public Optional<AsyncTriggers.Stats> triggerStats() {
+        return asyncTriggers != null ? Optional.of(asyncTriggers.stats()) : Optional.empty();
+    }
+
+    /**
+     * Flushes, and then stops the threads of asynchronous triggers, if any; see {@link
+     * AsyncTriggers#close()}. Storing into this repository afterwards fails, if it has asynchronous
+     * triggers. Does nothing if triggers run synchronously.
+     */
+    @Override
+    public void close() {
+        if (asyncTriggers != null) asyncTriggers.close();
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.data;
+
+import com.google.common.collect.ImmutableList;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Triggers dispatches updates to a list of {@link Trigger}s.
+ *
+ * <p>This is used by {@link Store} implementations which support {@link Trigger}s, such as {@link
+ * MemoryRepositoryRW}.
+ */
+public final class Triggers<T> {
+
+    private final ImmutableList<Trigger<T>> triggers;
+
+    public Triggers(ImmutableList<Trigger<? extends T>> triggers) {
+        this.triggers = hack(triggers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ImmutableList<Trigger<T>> hack(ImmutableList<Trigger<? extends T>> triggers) {
+        var builder = ImmutableList.<Trigger<T>>builder();
+        for (Trigger<? extends T> trigger : triggers) builder.add((Trigger<T>) trigger);
+        return builder.build();
+    }
+
+    /**
+     * Whether there are no Triggers.
+     *
+     * <p>Stores can use this to avoid unnecessary work, e.g. materializing the existing item.
+     */
+    public boolean isEmpty() {
+        return triggers.isEmpty();
+    }
+
+    public void updated(@Nullable T existing, T updated) {
+        if (updated.equals(existing)) return;
+        for (Trigger<T> trigger : triggers) {
+            if (trigger.handles(updated)) trigger.updated(existing, updated);
+        }
+    }
+}
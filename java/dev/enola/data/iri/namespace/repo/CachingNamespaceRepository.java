@@ -25,7 +25,8 @@ import java.util.Optional;
  * {@link dev.enola.data.iri.namespace.repo.NamespaceRepository} which caches another one.
  *
  * <p>This is initialized one-time at construction; changes to the underlying NamespaceRepository
- * are NOT automatically updated and IGNORED.
+ * are NOT automatically updated and IGNORED. This also compiles all namespace IRIs, so that {@link
+ * #match(String)} is fast.
  */
 public class CachingNamespaceRepository implements NamespaceRepository {
 
@@ -51,4 +52,9 @@ public class CachingNamespaceRepository implements NamespaceRepository {
     public @Nullable Namespace get(String iri) {
         return cache.get(iri);
     }
+
+    @Override
+    public Optional<Namespace> match(String iri) {
+        return cache.match(iri);
+    }
 }
@@ -61,4 +61,30 @@ public class NamespaceConverterTest {
         var standard = NamespaceRepositoryEnolaDefaults.INSTANCE;
         assertThat(standard.match("http://example.org/note-its-without-https")).isEmpty();
     }
+
+    @Test
+    public void longestMatch() {
+        var repo =
+                new NamespaceRepositoryBuilder()
+                        .store("xmp", "http://ns.adobe.com/xap/1.0/")
+                        .store("xmpMM", "http://ns.adobe.com/xap/1.0/mm/")
+                        .build();
+        var convert = new NamespaceConverterWithRepository(repo);
+        assertThat(convert.toCURIE("http://ns.adobe.com/xap/1.0/mm/DocumentID"))
+                .isEqualTo("xmpMM:DocumentID");
+        assertThat(convert.toCURIE("http://ns.adobe.com/xap/1.0/CreateDate"))
+                .isEqualTo("xmp:CreateDate");
+        var noMatch = "http://ns.adobe.com/xap/1.0";
+        assertThat(convert.toCURIE(noMatch)).isEqualTo(noMatch);
+    }
+
+    @Test
+    public void caching() {
+        var caching = new CachingNamespaceRepository(NamespaceRepositoryEnolaDefaults.INSTANCE);
+        assertThat(caching.match("http://ns.adobe.com/xap/1.0/mm/DocumentID"))
+                .hasValue(caching.get("http://ns.adobe.com/xap/1.0/mm/"));
+        var convert = new NamespaceConverterWithRepository(caching);
+        assertThat(convert.toCURIE("https://schema.org/name")).isEqualTo("schema:name");
+        assertThat(convert.toCURIE("https://schema.org/name")).isEqualTo("schema:name");
+    }
 }
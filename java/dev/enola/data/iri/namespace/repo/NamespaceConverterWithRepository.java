@@ -17,27 +17,53 @@
  */
 package dev.enola.data.iri.namespace.repo;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
 import dev.enola.data.iri.IRI;
 import dev.enola.data.iri.NamespaceConverter;
 
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link NamespaceConverter} based on a {@link NamespaceRepository}.
+ *
+ * <p>CURIEs use the namespace with the longest matching IRI, see {@link
+ * NamespaceRepository#match(String)}. If the repository cannot change (i.e. it's built by {@link
+ * NamespaceRepositoryBuilder} or a {@link CachingNamespaceRepository}), then the CURIEs of the most
+ * recently used IRIs are memoized.
+ */
 public class NamespaceConverterWithRepository implements NamespaceConverter {
 
+    private static final int MAX_MEMOIZED_CURIES = 10_000;
+
     private final NamespaceRepository repo;
+    private final @Nullable LoadingCache<String, String> curies;
 
     public NamespaceConverterWithRepository(NamespaceRepository repo) {
         this.repo = repo;
+        if (repo instanceof NamespaceRepositoryBuilder.ImmutableNamespaceRepository
+                || repo instanceof CachingNamespaceRepository)
+            this.curies =
+                    CacheBuilder.newBuilder()
+                            .maximumSize(MAX_MEMOIZED_CURIES)
+                            .build(CacheLoader.from(this::computeCURIE));
+        else this.curies = null;
     }
 
     @Override
     public String toCURIE(Object iri) {
         var iriString = iri.toString();
-        for (var namespace : repo.list()) {
-            if (iriString.startsWith(namespace.iri())) {
-                var rest = iriString.substring(namespace.iri().length());
-                return namespace.prefix() + ":" + rest;
-            }
-        }
-        return iriString;
+        if (curies != null) return curies.getUnchecked(iriString);
+        else return computeCURIE(iriString);
+    }
+
+    private String computeCURIE(String iri) {
+        var namespace = repo.match(iri);
+        if (namespace.isEmpty()) return iri;
+        var rest = iri.substring(namespace.get().iri().length());
+        return namespace.get().prefix() + ":" + rest;
     }
 
     @Override
@@ -20,6 +20,7 @@ package dev.enola.data.iri.namespace.repo;
 import dev.enola.common.context.TLC;
 import dev.enola.data.Repository;
 
+import java.util.Comparator;
 import java.util.Optional;
 
 public interface NamespaceRepository extends Repository<Namespace> {
@@ -31,7 +32,10 @@ public interface NamespaceRepository extends Repository<Namespace> {
 
     Optional<String> getIRI(String prefix);
 
+    /** The Namespace with the longest IRI which the given IRI starts with, if any. */
     default Optional<Namespace> match(String iri) {
-        return stream().filter(namespace -> iri.startsWith(namespace.iri())).findFirst();
+        return stream()
+                .filter(namespace -> iri.startsWith(namespace.iri()))
+                .max(Comparator.comparingInt(namespace -> namespace.iri().length()));
     }
 }
@@ -17,6 +17,7 @@
  */
 package dev.enola.data.iri.namespace.repo;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSortedMap;
 
 import dev.enola.data.RepositoryBuilder;
@@ -45,21 +46,29 @@ public class NamespaceRepositoryBuilder extends RepositoryBuilder<Namespace> {
         return new ImmutableNamespaceRepository(buildMap(), prefixes.buildOrThrow());
     }
 
-    private static class ImmutableNamespaceRepository
-            extends RepositoryBuilder.RepositoryImpl<Namespace> implements NamespaceRepository {
+    static class ImmutableNamespaceRepository extends RepositoryBuilder.RepositoryImpl<Namespace>
+            implements NamespaceRepository {
 
-        private final ImmutableSortedMap<String, String> prefixes;
+        private final ImmutableMap<String, String> prefixes;
+        private final NamespaceTrie trie;
 
         protected ImmutableNamespaceRepository(
                 ImmutableSortedMap<String, Namespace> items,
                 ImmutableSortedMap<String, String> prefixes) {
             super(items);
-            this.prefixes = prefixes;
+            // Hash instead of sorted lookups, for toIRI()
+            this.prefixes = ImmutableMap.copyOf(prefixes);
+            this.trie = NamespaceTrie.of(items.values());
         }
 
         @Override
         public Optional<String> getIRI(String prefix) {
             return Optional.ofNullable(prefixes.get(prefix));
         }
+
+        @Override
+        public Optional<Namespace> match(String iri) {
+            return trie.longestMatch(iri);
+        }
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.data.iri.namespace.repo;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * NamespaceTrie finds the {@link Namespace} with the longest IRI which is a prefix of a given IRI.
+ *
+ * <p>It is a character trie of all namespace IRIs, compiled once; so a match takes time
+ * proportional to the length of the longest matching namespace IRI, instead of to the number of
+ * namespaces.
+ */
+final class NamespaceTrie {
+
+    // The arrays are never modified after construction, so this is thread-safe
+    private static final class Node {
+        private final char[] chars;
+        private final Node[] children;
+        private final @Nullable Namespace namespace;
+
+        private Node(char[] chars, Node[] children, @Nullable Namespace namespace) {
+            this.chars = chars;
+            this.children = children;
+            this.namespace = namespace;
+        }
+
+        private @Nullable Node child(char c) {
+            int i = Arrays.binarySearch(chars, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    private final Node root;
+
+    private NamespaceTrie(Node root) {
+        this.root = root;
+    }
+
+    static NamespaceTrie of(Iterable<Namespace> namespaces) {
+        var root = new MutableNode();
+        for (var namespace : namespaces) {
+            var node = root;
+            var iri = namespace.iri();
+            for (int i = 0; i < iri.length(); i++) node = node.child(iri.charAt(i));
+            node.namespace = namespace;
+        }
+        return new NamespaceTrie(root.freeze());
+    }
+
+    Optional<Namespace> longestMatch(String iri) {
+        @Nullable Namespace match = root.namespace;
+        var node = root;
+        for (int i = 0; i < iri.length(); i++) {
+            node = node.child(iri.charAt(i));
+            if (node == null) break;
+            if (node.namespace != null) match = node.namespace;
+        }
+        return Optional.ofNullable(match);
+    }
+
+    private static final class MutableNode {
+        private final Map<Character, MutableNode> children = new TreeMap<>();
+        private @Nullable Namespace namespace;
+
+        MutableNode child(char c) {
+            return children.computeIfAbsent(c, k -> new MutableNode());
+        }
+
+        Node freeze() {
+            var chars = new char[children.size()];
+            var nodes = new Node[children.size()];
+            int i = 0;
+            for (var entry : children.entrySet()) {
+                chars[i] = entry.getKey();
+                nodes[i] = entry.getValue().freeze();
+                ++i;
+            }
+            return new Node(chars, nodes, namespace);
+        }
+    }
+}
@@ -19,31 +19,47 @@ package dev.enola.data.iri.template;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import org.jspecify.annotations.Nullable;
+
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 
+/**
+ * Matches URIs against a "chain" of RFC 6570 URI Templates.
+ *
+ * <p>Templates are tried from longest to shortest (where each variable counts as one character);
+ * templates of the same length are tried in the order in which they were added. The first one which
+ * matches wins.
+ *
+ * <p>Templates without any variables (which are typically the IRIs of individual Things, and thus
+ * by far the most numerous) are looked up in a hash map. Templates with variables are placed into a
+ * character trie by their literal prefix (before the first variable), so that {@link
+ * #match(String)} only has to try the {@link URITemplateSplitter} regular expressions of templates
+ * whose prefix the URI actually starts with.
+ */
 public class URITemplateMatcherChain<T> {
 
-    private final Comparator<Entry<URITemplateSplitter, T>> COMPARATOR =
-            new Comparator<>() {
-                @Override
-                public int compare(
-                        Entry<URITemplateSplitter, T> o1, Entry<URITemplateSplitter, T> o2) {
-                    return o2.getKey().getLength() - o1.getKey().getLength();
-                }
-            };
+    /** Position in the order of templates in which they are matched. */
+    private record Ranked<T>(int rank, @Nullable URITemplateSplitter splitter, T value) {}
 
-    // Beware: This needs to be List and not a Set! (Because of how COMPARATOR is implemented;
-    // note how URI Template need to be ordered by length - but two *different* template of
-    // the *SAME* length still both need to be added!
-    private final List<Entry<URITemplateSplitter, T>> splitters;
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private final List<Ranked<T>> templates = new ArrayList<>(1);
+    }
+
+    private final Map<String, Ranked<T>> literals;
+    private final Node<T> root = new Node<>();
     private final List<String> templates;
 
     public static <T> Builder<T> builder() {
@@ -54,70 +70,104 @@ public class URITemplateMatcherChain<T> {
         return new Builder<T>(size);
     }
 
-    private URITemplateMatcherChain(List<Entry<URITemplateSplitter, T>> splitters) {
-        splitters.sort(COMPARATOR);
-        this.splitters = splitters;
-        this.templates =
-                Collections.unmodifiableList(
-                        splitters.stream()
-                                .map(entry -> entry.getKey().getTemplate())
-                                .collect(Collectors.toList()));
+    private URITemplateMatcherChain(List<Builder.Added<T>> added) {
+        // Beware: Two *different* templates of the *SAME* length must both be kept, in the order
+        // in which they were added; List.sort() is stable, so it does just that.
+        var sorted = new ArrayList<>(added);
+        sorted.sort(Comparator.comparingInt((Builder.Added<T> a) -> a.length()).reversed());
+
+        this.literals = new HashMap<>();
+        var templatesBuilder = ImmutableList.<String>builderWithExpectedSize(sorted.size());
+        for (int rank = 0; rank < sorted.size(); rank++) {
+            var it = sorted.get(rank);
+            templatesBuilder.add(it.template());
+            var ranked = new Ranked<>(rank, it.splitter(), it.value());
+            if (it.splitter() == null) literals.put(it.template(), ranked);
+            else insert(it.template(), ranked);
+        }
+        this.templates = templatesBuilder.build();
+    }
+
+    private void insert(String template, Ranked<T> ranked) {
+        var prefixLength = template.indexOf('{');
+        var node = root;
+        for (int i = 0; i < prefixLength; i++)
+            node = node.children.computeIfAbsent(template.charAt(i), c -> new Node<>());
+        node.templates.add(ranked);
     }
 
     public Optional<Entry<T, Map<String, String>>> match(String uri) {
-        for (var splitter : splitters) {
-            var optMap = splitter.getKey().fromString(uri);
-            if (optMap.isPresent()) {
-                return Optional.of(new SimpleEntry<>(splitter.getValue(), optMap.get()));
+        var literal = literals.get(uri);
+        var bestRank = literal != null ? literal.rank() : Integer.MAX_VALUE;
+
+        // Collect the templates whose literal prefix the URI starts with, but only those which
+        // come before (are longer than) the literal match, if any.
+        List<Ranked<T>> candidates = null;
+        var node = root;
+        for (int i = 0; node != null; i++) {
+            for (var template : node.templates) {
+                if (template.rank() < bestRank) {
+                    if (candidates == null) candidates = new ArrayList<>();
+                    candidates.add(template);
+                }
+            }
+            node = i < uri.length() ? node.children.get(uri.charAt(i)) : null;
+        }
+
+        if (candidates != null) {
+            candidates.sort(Comparator.comparingInt(Ranked::rank));
+            for (var candidate : candidates) {
+                var optMap = requireNonNull(candidate.splitter()).fromString(uri);
+                if (optMap.isPresent())
+                    return Optional.of(new SimpleEntry<>(candidate.value(), optMap.get()));
             }
         }
-        return Optional.empty();
+        if (literal == null) return Optional.empty();
+        return Optional.of(new SimpleEntry<>(literal.value(), ImmutableMap.of()));
     }
 
     public List<String> listTemplates() {
-        // Un-comment for debugging:
-        // return splitters.stream()
-        //         .map(entry -> entry.getKey().toString())
-        //         .collect(Collectors.toSet());
         return templates;
     }
 
     // skipcq: JAVA-E0169
     public static class Builder<T> implements dev.enola.common.Builder<URITemplateMatcherChain<T>> {
+
+        private record Added<T>(String template, @Nullable URITemplateSplitter splitter, T value) {
+            int length() {
+                return splitter != null ? splitter.getLength() : template.length();
+            }
+        }
+
+        private final List<Added<T>> added;
+        private final Set<String> templates;
+
         private Builder() {
-            splitters = new ArrayList<>();
+            added = new ArrayList<>();
+            templates = new HashSet<>();
         }
 
         private Builder(int initialCapacity) {
-            splitters = new ArrayList<>(initialCapacity);
+            added = new ArrayList<>(initialCapacity);
+            templates = new HashSet<>(initialCapacity);
         }
 
-        private final List<Entry<URITemplateSplitter, T>> splitters;
-
         @Override
         public URITemplateMatcherChain<T> build() {
-            return new URITemplateMatcherChain<>(splitters);
+            return new URITemplateMatcherChain<>(added);
         }
 
         public Builder<T> add(String uriTemplate, T key) {
             requireNonNull(key);
             requireNonNull(uriTemplate);
-            if (has(uriTemplate)) {
+            if (!templates.add(uriTemplate)) {
                 throw new IllegalArgumentException("Already added: " + uriTemplate);
             }
-            splitters.add(new SimpleEntry<>(new URITemplateSplitter(uriTemplate), key));
+            // Templates without variables are plain IRIs, which need no (regular expression) split
+            var splitter =
+                    uriTemplate.indexOf('{') < 0 ? null : new URITemplateSplitter(uriTemplate);
+            added.add(new Added<>(uriTemplate, splitter, key));
             return this;
         }
-
-        private boolean has(String uriTemplate) {
-            requireNonNull(uriTemplate);
-            for (var splitter : splitters) {
-                var it = splitter.getKey().getTemplate();
-                if (it.equals(uriTemplate)) {
-                    return true;
-                }
-            }
-            return false;
-        }
     }
 }
@@ -93,6 +93,31 @@ public class URITemplateMatcherChainTest {
         checkMatchLongest(chain2);
     }
 
+    @Test
+    public void literalsAndTemplates() throws Exception {
+        var chain =
+                URITemplateMatcherChain.<Integer>builder()
+                        .add("http://example.org/{id}", 1)
+                        .add("http://example.org/a", 2)
+                        .add("http://example.org/a/b", 3)
+                        .add("http://example.org/{x}/{y}/c", 4)
+                        .build();
+        // Same length as the literal IRI, but added first: so the template wins, like before
+        assertThat(chain.match("http://example.org/a"))
+                .hasValue(new SimpleEntry<>(1, ImmutableMap.of("id", "a")));
+        // The literal IRI is longer than the template, so it wins
+        assertThat(chain.match("http://example.org/a/b"))
+                .hasValue(new SimpleEntry<>(3, ImmutableMap.of()));
+        assertThat(chain.match("http://example.org/a/b/c"))
+                .hasValue(new SimpleEntry<>(4, ImmutableMap.of("x", "a", "y", "b")));
+        assertThat(chain.match("http://example.com/a")).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicate() {
+        URITemplateMatcherChain.<Integer>builder().add("thing", 1).add("thing", 2);
+    }
+
     private void checkMatchLongest(URITemplateMatcherChain<Integer> chain) {
         assertThat(chain.match("somethingelse")).isEmpty();
         assertThat(chain.match("aNS.anEntityKindName"))
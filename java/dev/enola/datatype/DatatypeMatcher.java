@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.datatype;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the first of an ordered list of {@link Datatype}s whose {@link Datatype#pattern()} matches
+ * a text; see {@link DatatypeRepository#match(String)}.
+ *
+ * <p>Instead of trying the patterns of all datatypes for every text, this precomputes (once) for
+ * each ASCII character which patterns could possibly match a text starting with it; texts then only
+ * try those, still in the original order. (Empty texts and texts starting with non-ASCII characters
+ * try all patterns.)
+ *
+ * <p>Results can optionally also be cached, for short texts, which is useful for inputs which
+ * repeat the same literals a lot (such as e.g. <code>true</code> or enum-like values).
+ */
+final class DatatypeMatcher {
+
+    private static final int ASCII = 128;
+
+    /** Texts longer than this are never cached, as they are unlikely to repeat. */
+    private static final int MAXIMUM_CACHED_LENGTH = 64;
+
+    private record Candidate(Datatype<?> datatype, Pattern pattern) {}
+
+    private final ImmutableList<Candidate> all;
+    private final ImmutableList<Candidate>[] byFirstCharacter;
+    private final @Nullable Cache<String, Optional<Datatype<?>>> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param datatypes in the order in which their patterns are tried
+     * @param cacheSize maximum number of cached results; 0 to not cache at all
+     */
+    @SuppressWarnings("unchecked") // generic array creation
+    DatatypeMatcher(Iterable<Datatype<?>> datatypes, long cacheSize) {
+        var allBuilder = ImmutableList.<Candidate>builder();
+        for (var datatype : datatypes) {
+            var pattern = datatype.pattern();
+            pattern.ifPresent(p -> allBuilder.add(new Candidate(datatype, p)));
+        }
+        all = allBuilder.build();
+
+        byFirstCharacter = new ImmutableList[ASCII];
+        for (char c = 0; c < ASCII; c++) {
+            var builder = ImmutableList.<Candidate>builder();
+            for (var candidate : all) {
+                if (couldStartWith(candidate.pattern, c)) builder.add(candidate);
+            }
+            byFirstCharacter[c] = builder.build();
+        }
+
+        cache = cacheSize > 0 ? CacheBuilder.newBuilder().maximumSize(cacheSize).build() : null;
+    }
+
+    /**
+     * Whether any text starting with character c could match the pattern. If trying to match just
+     * that character fails without ever reaching the end of the input, then all the alternatives of
+     * the pattern failed on that first character already - so they will for longer texts, too.
+     */
+    private static boolean couldStartWith(Pattern pattern, char c) {
+        // Canonical equivalence could combine the first character with following ones
+        if ((pattern.flags() & Pattern.CANON_EQ) != 0) return true;
+        var matcher = pattern.matcher(String.valueOf(c));
+        return matcher.matches() || matcher.hitEnd();
+    }
+
+    Optional<Datatype<?>> match(String text) {
+        if (cache == null || text.length() > MAXIMUM_CACHED_LENGTH) return matchUncached(text);
+
+        var cached = cache.getIfPresent(text);
+        if (cached != null) return cached;
+        var result = matchUncached(text);
+        cache.put(text, result);
+        return result;
+    }
+
+    private Optional<Datatype<?>> matchUncached(String text) {
+        var candidates = all;
+        var first = text.isEmpty() ? ASCII : text.charAt(0);
+        if (first < ASCII) candidates = byFirstCharacter[first];
+        for (var candidate : candidates) {
+            if (candidate.pattern.matcher(text).matches()) return Optional.of(candidate.datatype);
+        }
+        return Optional.empty();
+    }
+}
@@ -25,6 +25,8 @@ import java.util.Optional;
 
 public class DatatypeRepositoryBuilder extends RepositoryBuilder<Datatype<?>> {
 
+    private long matchCacheSize = 0;
+
     @Override
     protected String getIRI(Datatype<?> datatype) {
         return require(datatype.iri(), "iri");
@@ -42,26 +44,34 @@ public class DatatypeRepositoryBuilder extends RepositoryBuilder<Datatype<?>> {
         return this;
     }
 
+    /**
+     * Caches (up to the given number of) results of {@link DatatypeRepository#match(String)} of the
+     * built repository; the default is 0, for no caching.
+     */
+    public DatatypeRepositoryBuilder matchCache(long maximumSize) {
+        this.matchCacheSize = maximumSize;
+        return this;
+    }
+
     @Override
     public DatatypeRepository build() {
-        return new ImmutableDatatypeRepository(buildMap());
+        return new ImmutableDatatypeRepository(buildMap(), matchCacheSize);
     }
 
     private static class ImmutableDatatypeRepository
             extends RepositoryBuilder.RepositoryImpl<Datatype<?>> implements DatatypeRepository {
 
-        protected ImmutableDatatypeRepository(ImmutableSortedMap<String, Datatype<?>> items) {
+        private final DatatypeMatcher matcher;
+
+        protected ImmutableDatatypeRepository(
+                ImmutableSortedMap<String, Datatype<?>> items, long matchCacheSize) {
             super(items);
+            this.matcher = new DatatypeMatcher(list(), matchCacheSize);
         }
 
         @Override
         public Optional<Datatype<?>> match(String text) {
-            for (var datatype : list()) {
-                var pattern = datatype.pattern();
-                if (pattern.isEmpty()) continue;
-                if (pattern.get().matcher(text).matches()) return Optional.of(datatype);
-            }
-            return Optional.empty();
+            return matcher.match(text);
         }
     }
 }
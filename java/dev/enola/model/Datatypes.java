@@ -57,7 +57,7 @@ public final class Datatypes {
      */
     @SuppressWarnings("unchecked")
     public static final DatatypeRepository DTR =
-            new DatatypeRepositoryBuilder().storeAll(Datatypes.ALL).build();
+            new DatatypeRepositoryBuilder().storeAll(Datatypes.ALL).matchCache(1024).build();
 
     private Datatypes() {}
 }
@@ -19,10 +19,15 @@ package dev.enola.model.xsd;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import dev.enola.datatype.Datatype;
+import dev.enola.datatype.DatatypeRepository;
 import dev.enola.datatype.DatatypeRepositoryBuilder;
 
 import org.junit.Test;
 
+import java.util.List;
+import java.util.Optional;
+
 public class DatatypeRepositoryTest {
 
     @Test
@@ -41,4 +46,48 @@ public class DatatypeRepositoryTest {
 
         // TODO assertThat(r.match("123")).hasValue(Datatypes.NUMBER);
     }
+
+    @Test
+    public void matchIsSameAsTryingAllPatternsInOrder() {
+        var all = dev.enola.model.Datatypes.ALL;
+        var r = new DatatypeRepositoryBuilder().storeAll(all).build();
+        var cached = new DatatypeRepositoryBuilder().storeAll(all).matchCache(100).build();
+        var texts =
+                List.of(
+                        "",
+                        " ",
+                        "-",
+                        "9",
+                        "true",
+                        "tRUE",
+                        "-0042",
+                        "2147483647",
+                        "2147483648",
+                        "2024-01-31",
+                        "20240131",
+                        "2024-01-31T12:34:56Z",
+                        "xsd:int",
+                        "<https://enola.dev>",
+                        "https://enola.dev/emoji",
+                        "zQmYwAPJzv5CZsnA625s3Xf2nemtYgPpHdWEz79ojWnPbdG",
+                        "🚀abc",
+                        "ü",
+                        "\nhello",
+                        "hello, world");
+        for (var text : texts) {
+            var expected = tryAllPatternsInOrder(r, text);
+            assertThat(r.match(text)).isEqualTo(expected);
+            assertThat(cached.match(text)).isEqualTo(expected);
+            assertThat(cached.match(text)).isEqualTo(expected); // Cached
+        }
+    }
+
+    private Optional<Datatype<?>> tryAllPatternsInOrder(DatatypeRepository r, String text) {
+        for (var datatype : r.list()) {
+            var pattern = datatype.pattern();
+            if (pattern.isPresent() && pattern.get().matcher(text).matches())
+                return Optional.of(datatype);
+        }
+        return Optional.empty();
+    }
 }
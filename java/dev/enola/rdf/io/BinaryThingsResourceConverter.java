@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.rdf.io;
+
+import dev.enola.common.io.resource.ReadableResource;
+import dev.enola.common.io.resource.ResourceProvider;
+import dev.enola.common.io.resource.WritableResource;
+import dev.enola.common.io.resource.convert.CatchingResourceConverter;
+import dev.enola.rdf.proto.ProtoThingRdfConverter;
+import dev.enola.thing.io.BinaryThingsReader;
+import dev.enola.thing.io.BinaryThingsWriter;
+import dev.enola.thing.io.ThingMediaTypes;
+
+/**
+ * Converts RDF resources into {@link ThingMediaTypes#THING_BINARY}, and back (into any RDF format
+ * which {@link WritableResourceRDFHandler} supports).
+ */
+public class BinaryThingsResourceConverter implements CatchingResourceConverter {
+
+    private final RdfResourceIntoProtoThingConverter rdfResourceIntoProtoThingConverter;
+    private final ProtoThingRdfConverter protoThingRdfConverter = new ProtoThingRdfConverter();
+
+    public BinaryThingsResourceConverter(ResourceProvider rp) {
+        this.rdfResourceIntoProtoThingConverter = new RdfResourceIntoProtoThingConverter(rp);
+    }
+
+    @Override
+    public boolean convertIntoThrows(ReadableResource from, WritableResource into)
+            throws Exception {
+        if (into.mediaType().is(ThingMediaTypes.THING_BINARY)) {
+            var things = rdfResourceIntoProtoThingConverter.convert(from);
+            if (things.isEmpty()) return false;
+            try (var writer = new BinaryThingsWriter(into.byteSink().openBufferedStream())) {
+                writer.writeAll(things.get());
+            }
+            return true;
+        }
+
+        if (from.mediaType().is(ThingMediaTypes.THING_BINARY)) {
+            var rdfHandler = WritableResourceRDFHandler.create(into);
+            if (rdfHandler.isEmpty()) return false;
+            try (var handler = rdfHandler.get()) {
+                var reader = new BinaryThingsReader(from.byteSource());
+                reader.forEach(thing -> protoThingRdfConverter.convertIntoOrThrow(thing, handler));
+            }
+            return true;
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.rdf.io;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.collect.ComparisonChain;
+
+import dev.enola.common.function.CheckedConsumer;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * RDFHandler which sorts the {@link Statement}s it receives, like {@link
+ * RdfCanonicalizer#orderStatements(org.eclipse.rdf4j.model.Model)}, without keeping all of them in
+ * memory: Whenever it holds a given number of statements, it sorts them and writes them into a
+ * temporary "run" file. {@link #writeTo(RDFHandler)} then merges these runs (AKA "external merge
+ * sort").
+ *
+ * <p>The merge is stable, and duplicate statements are dropped, so the result is exactly the same
+ * as that of the in-memory sort of a {@link org.eclipse.rdf4j.model.Model}.
+ */
+class ExternalSortingRDFHandler extends AbstractRDFHandler implements Closeable {
+
+    /** Statement with its precomputed sort key, to not repeat stringValue() in comparisons. */
+    record Keyed(String subject, String predicate, String object, Statement statement) {
+
+        static final Comparator<Keyed> COMPARATOR =
+                (k1, k2) ->
+                        ComparisonChain.start()
+                                .compare(k1.subject, k2.subject)
+                                .compare(k1.predicate, k2.predicate)
+                                .compare(k1.object, k2.object)
+                                .result();
+
+        Keyed(Statement statement) {
+            this(
+                    statement.getSubject().stringValue(),
+                    statement.getPredicate().stringValue(),
+                    statement.getObject().stringValue(),
+                    statement);
+        }
+    }
+
+    private static final ValueFactory VF = SimpleValueFactory.getInstance();
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_IRI = 1;
+    private static final byte TAG_BNODE = 2;
+    private static final byte TAG_LITERAL = 3;
+    private static final byte TAG_LANGUAGE_LITERAL = 4;
+
+    /** Maximum number of run files which are read from at the same time, during merging. */
+    private static final int MAX_OPEN_RUNS = 100;
+
+    private final int maxStatementsInMemory;
+    private final Map<String, String> namespaces = new LinkedHashMap<>();
+    private final List<Keyed> buffer = new ArrayList<>();
+    private final List<Path> runs = new ArrayList<>();
+
+    ExternalSortingRDFHandler(int maxStatementsInMemory) {
+        if (maxStatementsInMemory < 1)
+            throw new IllegalArgumentException("maxStatementsInMemory < 1");
+        this.maxStatementsInMemory = maxStatementsInMemory;
+    }
+
+    @Override
+    public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
+        namespaces.put(prefix, uri);
+    }
+
+    @Override
+    public void handleStatement(Statement statement) throws RDFHandlerException {
+        buffer.add(new Keyed(statement));
+        if (buffer.size() >= maxStatementsInMemory) {
+            try {
+                spill();
+            } catch (IOException e) {
+                throw new RDFHandlerException("Failed to write sorted run", e);
+            }
+        }
+    }
+
+    private void spill() throws IOException {
+        buffer.sort(Keyed.COMPARATOR);
+        var run = Files.createTempFile("enola-rdf-sort-", ".run");
+        runs.add(run);
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+            for (var keyed : buffer) write(out, keyed.statement());
+        }
+        buffer.clear();
+    }
+
+    /** Passes the namespaces, and then all sorted statements, to the given handler. */
+    void writeTo(RDFHandler handler) throws IOException {
+        for (var namespace : namespaces.entrySet())
+            handler.handleNamespace(namespace.getKey(), namespace.getValue());
+
+        if (runs.isEmpty()) {
+            buffer.sort(Keyed.COMPARATOR);
+            var deduplicator = new Deduplicator(handler);
+            for (var keyed : buffer) deduplicator.handle(keyed);
+            return;
+        }
+
+        if (!buffer.isEmpty()) spill();
+        // Merge consecutive runs (to keep the merge stable) until few enough remain to be open
+        while (runs.size() > MAX_OPEN_RUNS) {
+            var merged = new ArrayList<Path>();
+            for (int i = 0; i < runs.size(); i += MAX_OPEN_RUNS) {
+                var group = runs.subList(i, Math.min(i + MAX_OPEN_RUNS, runs.size()));
+                var run = Files.createTempFile("enola-rdf-sort-", ".run");
+                merged.add(run);
+                try (var out =
+                        new DataOutputStream(
+                                new BufferedOutputStream(Files.newOutputStream(run)))) {
+                    merge(group, keyed -> write(out, keyed.statement()));
+                }
+                for (var old : group) Files.delete(old);
+            }
+            runs.clear();
+            runs.addAll(merged);
+        }
+        var deduplicator = new Deduplicator(handler);
+        merge(runs, deduplicator::handle);
+    }
+
+    private void merge(List<Path> runs, CheckedConsumer<Keyed, IOException> sink)
+            throws IOException {
+        var readers = new ArrayList<RunReader>(runs.size());
+        try {
+            var queue =
+                    new PriorityQueue<RunReader>(
+                            Comparator.comparing((RunReader r) -> r.current, Keyed.COMPARATOR)
+                                    .thenComparingInt(r -> r.index));
+            for (int i = 0; i < runs.size(); i++) {
+                var reader = new RunReader(i, runs.get(i));
+                readers.add(reader);
+                if (reader.next()) queue.add(reader);
+            }
+            while (!queue.isEmpty()) {
+                var reader = queue.poll();
+                sink.accept(reader.current);
+                if (reader.next()) queue.add(reader);
+            }
+        } finally {
+            for (var reader : readers) reader.in.close();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.clear();
+        for (var run : runs) Files.deleteIfExists(run);
+        runs.clear();
+    }
+
+    /** Drops duplicates, which (once sorted) can only occur among statements with equal keys. */
+    private static class Deduplicator {
+        private final RDFHandler handler;
+        private final Set<Statement> sameKey = new HashSet<>();
+        private @Nullable Keyed previous;
+
+        Deduplicator(RDFHandler handler) {
+            this.handler = handler;
+        }
+
+        void handle(Keyed keyed) {
+            if (previous == null || Keyed.COMPARATOR.compare(previous, keyed) != 0) sameKey.clear();
+            previous = keyed;
+            if (sameKey.add(keyed.statement())) handler.handleStatement(keyed.statement());
+        }
+    }
+
+    private static class RunReader {
+        final int index;
+        final DataInputStream in;
+        @Nullable Keyed current;
+
+        RunReader(int index, Path run) throws IOException {
+            this.index = index;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+        }
+
+        boolean next() throws IOException {
+            Statement statement;
+            try {
+                statement = read(in);
+            } catch (EOFException e) {
+                current = null;
+                return false;
+            }
+            current = new Keyed(statement);
+            return true;
+        }
+    }
+
+    private static void write(DataOutputStream out, Statement statement) throws IOException {
+        write(out, statement.getSubject());
+        write(out, statement.getPredicate());
+        write(out, statement.getObject());
+        write(out, statement.getContext());
+    }
+
+    private static void write(DataOutputStream out, @Nullable Value value) throws IOException {
+        switch (value) {
+            case null -> out.writeByte(TAG_NULL);
+            case IRI iri -> {
+                out.writeByte(TAG_IRI);
+                writeString(out, iri.stringValue());
+            }
+            case BNode bNode -> {
+                out.writeByte(TAG_BNODE);
+                writeString(out, bNode.getID());
+            }
+            case Literal literal when literal.getLanguage().isPresent() -> {
+                out.writeByte(TAG_LANGUAGE_LITERAL);
+                writeString(out, literal.getLabel());
+                writeString(out, literal.getLanguage().get());
+            }
+            case Literal literal -> {
+                out.writeByte(TAG_LITERAL);
+                writeString(out, literal.getLabel());
+                writeString(out, literal.getDatatype().stringValue());
+            }
+            default ->
+                    throw new IOException(
+                            "Cannot sort externally, unsupported RDF Value: " + value);
+        }
+    }
+
+    private static Statement read(DataInputStream in) throws IOException {
+        var subject = (Resource) read(in, in.readByte());
+        var predicate = (IRI) read(in, in.readByte());
+        var object = read(in, in.readByte());
+        var context = (Resource) read(in, in.readByte());
+        if (subject == null || predicate == null || object == null)
+            throw new IOException("Corrupt run, missing subject, predicate or object");
+        return VF.createStatement(subject, predicate, object, context);
+    }
+
+    private static @Nullable Value read(DataInputStream in, byte tag) throws IOException {
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_IRI -> VF.createIRI(readString(in));
+            case TAG_BNODE -> VF.createBNode(readString(in));
+            case TAG_LANGUAGE_LITERAL -> VF.createLiteral(readString(in), readString(in));
+            case TAG_LITERAL -> VF.createLiteral(readString(in), VF.createIRI(readString(in)));
+            default -> throw new IOException("Corrupt run, unknown tag: " + tag);
+        };
+    }
+
+    // NOT DataOutputStream.writeUTF(), because that is limited to 64 KB (e.g. for long literals)
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        var bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        var bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
@@ -17,18 +17,16 @@
  */
 package dev.enola.rdf.io;
 
-import com.google.common.collect.ComparisonChain;
-
+import dev.enola.common.convert.ConversionException;
 import dev.enola.common.io.resource.ReadableResource;
 import dev.enola.common.io.resource.ResourceProvider;
 import dev.enola.common.io.resource.WritableResource;
 
 import org.eclipse.rdf4j.model.Model;
-import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.impl.DynamicModel;
 import org.eclipse.rdf4j.model.impl.LinkedHashModelFactory;
 
-import java.util.Comparator;
+import java.io.IOException;
 
 // TODO https://github.com/enola-dev/enola/issues/1103 : Replace this with "real" (full) RDF-Canon.
 public class RdfCanonicalizer {
@@ -38,26 +36,28 @@ public class RdfCanonicalizer {
 
     private static final Model EMPTY_MODEL = new DynamicModel(new LinkedHashModelFactory());
 
-    private static final Comparator<? super Statement> COMPARATOR =
-            new Comparator<Statement>() {
-                @Override
-                public int compare(Statement o1, Statement o2) {
-                    return ComparisonChain.start()
-                            .compare(o1.getSubject().stringValue(), o2.getSubject().stringValue())
-                            .compare(
-                                    o1.getPredicate().stringValue(),
-                                    o2.getPredicate().stringValue())
-                            .compare(o1.getObject().stringValue(), o2.getObject().stringValue())
-                            .result();
-                }
-            };
-
     private final RdfReaderConverter rdfReaderConverter;
+    private final RdfReaderConverterInto rdfReaderConverterInto;
     private final RdfWriterConverter rdfWriterConverter;
+    private final int maxStatementsInMemory;
 
-    public RdfCanonicalizer(ResourceProvider rp) {
+    /**
+     * Constructor.
+     *
+     * @param rp ResourceProvider used e.g. for JSON-LD contexts
+     * @param maxStatementsInMemory if greater than 0, {@link #canonicalize(ReadableResource,
+     *     WritableResource)} streams statements through an external merge sort, which holds at most
+     *     this many statements in memory; otherwise, it reads the entire input into a {@link Model}
+     */
+    public RdfCanonicalizer(ResourceProvider rp, int maxStatementsInMemory) {
         rdfReaderConverter = new RdfReaderConverter(rp);
+        rdfReaderConverterInto = new RdfReaderConverterInto(rp);
         rdfWriterConverter = new RdfWriterConverter();
+        this.maxStatementsInMemory = maxStatementsInMemory;
+    }
+
+    public RdfCanonicalizer(ResourceProvider rp) {
+        this(rp, 0);
     }
 
     public Model orderStatements(Model modelIN) {
@@ -66,14 +66,36 @@ public class RdfCanonicalizer {
         for (var namespace : namespaces) modelOUT.setNamespace(namespace);
 
         // Sort statements first by Resource IRI, then by their predicate IRI
-        modelIN.stream().sorted(COMPARATOR).forEach(modelOUT::add);
+        modelIN.stream()
+                .map(ExternalSortingRDFHandler.Keyed::new)
+                .sorted(ExternalSortingRDFHandler.Keyed.COMPARATOR)
+                .forEach(keyed -> modelOUT.add(keyed.statement()));
 
         return modelOUT;
     }
 
     public void canonicalize(ReadableResource in, WritableResource out) {
+        if (maxStatementsInMemory > 0) {
+            canonicalizeStreaming(in, out);
+            return;
+        }
         var model = rdfReaderConverter.convert(in).orElse(EMPTY_MODEL);
         var canonicalModel = orderStatements(model);
         rdfWriterConverter.convertIntoOrThrow(canonicalModel, out);
     }
+
+    private void canonicalizeStreaming(ReadableResource in, WritableResource out) {
+        try (var sorter = new ExternalSortingRDFHandler(maxStatementsInMemory)) {
+            if (!in.byteSource().isEmpty() && !rdfReaderConverterInto.convertInto(in, sorter))
+                throw new ConversionException("No RDF parser for: " + in);
+
+            var opt = WritableResourceRDFHandler.create(out);
+            if (opt.isEmpty()) throw new ConversionException("No RDF writer for: " + out);
+            try (var writer = opt.get()) {
+                sorter.writeTo(writer);
+            }
+        } catch (IOException e) {
+            throw new ConversionException("Failed to canonicalize " + in + " into " + out, e);
+        }
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.rdf.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static dev.enola.common.context.testlib.SingletonRule.$;
+
+import com.google.common.net.MediaType;
+
+import dev.enola.common.context.testlib.SingletonRule;
+import dev.enola.common.io.mediatype.MediaTypeProviders;
+import dev.enola.common.io.resource.ClasspathResource;
+import dev.enola.common.io.resource.MemoryResource;
+import dev.enola.common.io.resource.ReadableResource;
+import dev.enola.common.io.resource.ResourceProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class RdfCanonicalizerTest {
+
+    public @Rule SingletonRule r = $(MediaTypeProviders.set(new RdfMediaTypes()));
+
+    private final ResourceProvider rp = new ClasspathResource.Provider();
+
+    private String canonicalize(ReadableResource in, MediaType mediaType, int max)
+            throws IOException {
+        var out = new MemoryResource(mediaType);
+        new RdfCanonicalizer(rp, max).canonicalize(in, out);
+        return out.charSource().read();
+    }
+
+    @Test
+    public void streamingIsSameAsInMemory() throws IOException {
+        // NB: Only Turtle, because the (inlined) blank node of Picasso's address gets a new ID
+        // each time it's read, which would make N-Triples output differ.
+        var in = rp.get("classpath:/picasso.ttl");
+        var expected = canonicalize(in, RdfMediaTypes.TURTLE, 0);
+        assertThat(expected).isNotEmpty();
+        assertThat(canonicalize(in, RdfMediaTypes.TURTLE, 1)).isEqualTo(expected);
+        assertThat(canonicalize(in, RdfMediaTypes.TURTLE, 3)).isEqualTo(expected);
+        assertThat(canonicalize(in, RdfMediaTypes.TURTLE, 1000)).isEqualTo(expected);
+    }
+
+    @Test
+    public void nTriples() throws IOException {
+        var nt = new MemoryResource(RdfMediaTypes.N_TRIPLES);
+        nt.charSink()
+                .write(
+                        """
+                        <https://example.org/b> <https://example.org/p> "2" .
+                        <https://example.org/a> <https://example.org/p> "1" .
+                        <https://example.org/b> <https://example.org/p> "2" .
+                        """);
+        var inMemory = canonicalize(nt, RdfMediaTypes.N_TRIPLES, 0);
+        assertThat(inMemory.lines().filter(line -> !line.isBlank()).toList())
+                .containsExactly(
+                        "<https://example.org/a> <https://example.org/p> \"1\" .",
+                        "<https://example.org/b> <https://example.org/p> \"2\" .")
+                .inOrder();
+        assertThat(canonicalize(nt, RdfMediaTypes.N_TRIPLES, 1)).isEqualTo(inMemory);
+    }
+}
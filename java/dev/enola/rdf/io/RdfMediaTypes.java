@@ -43,11 +43,15 @@ public class RdfMediaTypes implements MediaTypeProvider {
             MediaType.parse(RDFFormat.JSONLD.getDefaultMIMEType())
                     .withCharset(StandardCharsets.UTF_8);
 
+    public static final MediaType N_TRIPLES =
+            MediaType.parse(RDFFormat.NTRIPLES.getDefaultMIMEType())
+                    .withCharset(StandardCharsets.UTF_8);
+
     private final Map<MediaType, Set<MediaType>> knownTypesWithAlternatives;
     private final Multimap<String, MediaType> extensionsToTypes;
 
     public RdfMediaTypes() {
-        this(RDFFormat.TURTLE, RDFFormat.JSONLD);
+        this(RDFFormat.TURTLE, RDFFormat.JSONLD, RDFFormat.NTRIPLES);
     }
 
     public RdfMediaTypes(FileFormat... rdf4jFormats) {
@@ -66,6 +70,8 @@ public class RdfMediaTypes implements MediaTypeProvider {
             var altMediaTypes =
                     ImmutableSet.<MediaType>builderWithExpectedSize(altMediaTypeNames.size());
             for (var alternativeMediaType : fileFormat.getMIMETypes()) {
+                // N-Triples lists text/plain, but that must not turn every text into N-Triples!
+                if (alternativeMediaType.equals("text/plain")) continue;
                 altMediaTypes.add(MediaType.parse(alternativeMediaType));
             }
             knownTypesWithAlternativesBuilder.put(primaryMediaType, altMediaTypes.build());
@@ -17,11 +17,14 @@
  */
 package dev.enola.rdf.io;
 
+import com.google.common.collect.ImmutableSet;
+
 import dev.enola.common.context.TLC;
 import dev.enola.common.convert.ConversionException;
 import dev.enola.common.io.resource.ResourceProvider;
 import dev.enola.datatype.DatatypeRepository;
 import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
 import dev.enola.thing.io.UriIntoThingConverter;
 import dev.enola.thing.java.HasType;
 import dev.enola.thing.message.ProtoThingIntoJavaThingBuilderConverter;
@@ -31,30 +34,52 @@ import org.jspecify.annotations.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * RdfResourceIntoThingConverter "converts" (loads, really) RDF resources (e.g. *.ttl, et al.) into
  * Things.
+ *
+ * <p>In <i>streaming</i> mode, Things are stored while the resource is still being parsed (see
+ * <code>SubjectGroupingRDFHandler</code>), instead of first reading the entire resource into an
+ * RDF4j Model. This substantially reduces the memory required to load very large resources.
  */
 @SuppressWarnings("rawtypes")
 public class RdfResourceIntoThingConverter<T extends Thing> implements UriIntoThingConverter {
 
     private final RdfResourceIntoProtoThingConverter rdfResourceIntoProtoThingConverter;
 
+    private final RdfReaderConverterInto rdfReaderConverterInto;
+
     private final ProtoThingIntoJavaThingBuilderConverter protoThingIntoJavaThingBuilderConverter;
 
     private final ResourceProvider rp;
 
+    private final boolean streaming;
+
     public RdfResourceIntoThingConverter(
-            ResourceProvider rp, DatatypeRepository datatypeRepository) {
+            ResourceProvider rp, DatatypeRepository datatypeRepository, boolean streaming) {
         this.rdfResourceIntoProtoThingConverter = new RdfResourceIntoProtoThingConverter(rp);
+        this.rdfReaderConverterInto = new RdfReaderConverterInto(rp);
         this.protoThingIntoJavaThingBuilderConverter =
                 new ProtoThingIntoJavaThingBuilderConverter(datatypeRepository);
         this.rp = rp;
+        this.streaming = streaming;
+    }
+
+    public RdfResourceIntoThingConverter(
+            ResourceProvider rp, DatatypeRepository datatypeRepository) {
+        this(rp, datatypeRepository, false);
+    }
+
+    public RdfResourceIntoThingConverter(boolean streaming) {
+        this(TLC.get(ResourceProvider.class), TLC.get(DatatypeRepository.class), streaming);
     }
 
     public RdfResourceIntoThingConverter() {
-        this(TLC.get(ResourceProvider.class), TLC.get(DatatypeRepository.class));
+        this(false);
     }
 
     @Override
@@ -63,24 +88,75 @@ public class RdfResourceIntoThingConverter<T extends Thing> implements UriIntoTh
         var resource = rp.getResource(from);
         if (resource == null) return false;
 
+        if (streaming) {
+            if (resource.byteSource().isEmpty()) return false;
+            // IRIs of the Things already stored from this resource, to merge instead of replace
+            Set<String> stored = new HashSet<>();
+            var handler =
+                    new SubjectGroupingRDFHandler(
+                            protoThing -> {
+                                if (stored.add(protoThing.getIri())) store(from, protoThing, into);
+                                else merge(protoThing, into);
+                            });
+            return rdfReaderConverterInto.convertInto(resource, handler);
+        }
+
         var optProtoList = rdfResourceIntoProtoThingConverter.convert(resource);
         if (!optProtoList.isPresent()) return false;
 
         var protoList = optProtoList.get();
 
         for (var protoThing : protoList) {
-            Thing.Builder<?> thingBuilder;
-            var thingIRI = protoThing.getIri();
-            var typeIRI = typeIRI(protoThing);
-            if (typeIRI != null) thingBuilder = into.getBuilder(thingIRI, typeIRI);
-            else thingBuilder = into.getBuilder(thingIRI);
-            protoThingIntoJavaThingBuilderConverter.convertIntoOrThrow(protoThing, thingBuilder);
-            addOrigin(from, thingBuilder);
-            into.store(thingBuilder.build());
+            store(from, protoThing, into);
         }
         return true;
     }
 
+    private void store(
+            URI from, dev.enola.thing.proto.Thing.Builder protoThing, ThingRepositoryStore into) {
+        Thing.Builder<?> thingBuilder;
+        var thingIRI = protoThing.getIri();
+        var typeIRI = typeIRI(protoThing);
+        if (typeIRI != null) thingBuilder = into.getBuilder(thingIRI, typeIRI);
+        else thingBuilder = into.getBuilder(thingIRI);
+        protoThingIntoJavaThingBuilderConverter.convertIntoOrThrow(protoThing, thingBuilder);
+        addOrigin(from, thingBuilder);
+        into.store(thingBuilder.build());
+    }
+
+    /**
+     * Merges a "later" part of a Thing, whose other statements were not consecutive in a streamed
+     * resource, into what has already been stored: objects of predicates it already has are added,
+     * instead of replaced (like they would be by <code>store()</code>). An (ordered) List, from an
+     * RDF Collection, is one such object; unlike a Set of objects, it's not "flattened".
+     */
+    @SuppressWarnings({"Immutable", "unchecked"}) // Objects of Things are immutable
+    private void merge(dev.enola.thing.proto.Thing.Builder protoThing, ThingRepositoryStore into) {
+        var existing = into.get(protoThing.getIri());
+        var later = ImmutableThing.builder();
+        protoThingIntoJavaThingBuilderConverter.convertIntoOrThrow(protoThing, later);
+        var laterThing = later.build();
+
+        var builder = existing.copy();
+        for (var predicateIRI : laterThing.predicateIRIs()) {
+            Object object = laterThing.get(predicateIRI);
+            var datatype = laterThing.datatype(predicateIRI);
+            Object existingObject = existing.get(predicateIRI);
+            if (existingObject == null) {
+                builder.set(predicateIRI, object, datatype);
+                continue;
+            }
+            if (existingObject instanceof List)
+                builder.set(
+                        predicateIRI,
+                        ImmutableSet.of(existingObject),
+                        existing.datatype(predicateIRI));
+            if (object instanceof Set set) builder.addAll(predicateIRI, set, datatype);
+            else builder.add(predicateIRI, object, datatype);
+        }
+        into.store(builder.build());
+    }
+
     private @Nullable String typeIRI(dev.enola.thing.proto.Thing.Builder protoThing) {
         var value = protoThing.getPropertiesMap().get(HasType.IRI);
         if (value == null) return null;
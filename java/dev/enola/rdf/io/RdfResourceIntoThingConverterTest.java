@@ -27,18 +27,26 @@ import dev.enola.common.io.mediatype.MediaTypeProviders;
 import dev.enola.common.io.resource.*;
 import dev.enola.datatype.DatatypeRepository;
 import dev.enola.datatype.DatatypeRepositoryBuilder;
+import dev.enola.thing.KIRI;
+import dev.enola.thing.Link;
 import dev.enola.thing.Thing;
 import dev.enola.thing.impl.ImmutableThing;
+import dev.enola.thing.io.Loader;
+import dev.enola.thing.io.UriIntoThingConverters;
 import dev.enola.thing.java.ProxyTBF;
 import dev.enola.thing.java.TBF;
 import dev.enola.thing.java.test.TestSomething;
 import dev.enola.thing.repo.ThingMemoryRepositoryROBuilder;
+import dev.enola.thing.repo.ThingMemoryRepositoryRW;
 
 import org.junit.Rule;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public class RdfResourceIntoThingConverterTest {
 
@@ -74,11 +82,70 @@ public class RdfResourceIntoThingConverterTest {
         assertThat(testSomething.test()).isEqualTo("hello, world");
     }
 
+    @Test
+    public void streaming() throws IOException {
+        var streaming =
+                new RdfResourceIntoThingConverter<>(resourceProvider, datatypeRepository, true);
+        for (var name : new String[] {"picasso.ttl", "list-of-list.ttl", "empty.yaml"}) {
+            var uri = new ClasspathResource(name).uri();
+            assertThat(convert(streaming, uri)).containsExactlyElementsIn(convert(uri));
+        }
+    }
+
+    @Test // The statements about :blank-nodes are not consecutive, because of its Blank Nodes
+    public void streamingMergeKeepsListOrder() throws IOException {
+        var streaming =
+                new RdfResourceIntoThingConverter<>(resourceProvider, datatypeRepository, true);
+        var uri = new ClasspathResource("blank-nodes.ttl").uri();
+        var thing = convert(streaming, uri).iterator().next();
+        assertThat(thing.getString("http://example.org/d")).isEqualTo("4");
+        Set<?> objects = thing.get("http://example.org/list");
+        assertThat(objects)
+                .containsExactly(
+                        List.of(link("z"), link("y"), link("x")), new Link("http://example.org/w"));
+        List<?> list = (List<?>) objects.iterator().next();
+        assertThat(list).containsExactly(link("z"), link("y"), link("x")).inOrder();
+    }
+
+    private static Link link(String name) {
+        return new Link("http://example.org/" + name);
+    }
+
+    @Test // Loading the same IRI from 2 resources must not depend on the Loader's parallelism
+    public void loaderParallelIsSameAsSequential() throws IOException {
+        var converters = new UriIntoThingConverters(c);
+        var dali = "http://example.enola.dev/Dalí";
+        try (var ctx = TLC.open().push(TBF.class, new ProxyTBF(ImmutableThing.FACTORY))) {
+            var sequential = new ThingMemoryRepositoryRW();
+            new Loader(converters).convertIntoOrThrow(uris(), sequential);
+
+            var parallel = new ThingMemoryRepositoryRW();
+            new Loader(converters, 3).convertIntoOrThrow(uris(), parallel);
+
+            assertThat(parallel.list()).containsExactlyElementsIn(sequential.list());
+            var thing = parallel.get(dali);
+            Set<?> firstNames = thing.get("http://xmlns.com/foaf/0.1/firstName");
+            assertThat(firstNames).hasSize(2);
+            assertThat(thing.getString("http://example.enola.dev/died")).isEqualTo("1989");
+            assertThat(thing.getLinks(KIRI.E.ORIGIN)).hasSize(2);
+        }
+    }
+
+    private Stream<URI> uris() {
+        return Stream.of("picasso.ttl", "picasso-more.ttl", "list-of-list.ttl")
+                .map(name -> new ClasspathResource(name).uri());
+    }
+
     Iterable<Thing> convert(URI uri) throws IOException {
+        return convert(c, uri);
+    }
+
+    Iterable<Thing> convert(RdfResourceIntoThingConverter<Thing> converter, URI uri)
+            throws IOException {
         // TODO Switch to using RdfLoader...
         try (var ctx = TLC.open().push(TBF.class, new ProxyTBF(ImmutableThing.FACTORY))) {
             var store = new ThingMemoryRepositoryROBuilder();
-            var ignored = c.convertInto(uri, store);
+            var ignored = converter.convertInto(uri, store);
             return store.list();
         }
     }
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.rdf.io;
+
+import static java.util.Objects.requireNonNull;
+
+import dev.enola.rdf.proto.RdfProtoThingsConverter;
+import dev.enola.thing.proto.Thing;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.rio.RDFHandlerException;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * SubjectGroupingRDFHandler is an RDF4j {@link org.eclipse.rdf4j.rio.RDFHandler} which converts
+ * statements into Proto {@link Thing}s while they are being parsed, instead of first collecting
+ * them all into a {@link Model}.
+ *
+ * <p>Consecutive statements about the same IRI subject are grouped, and emitted as a Thing as soon
+ * as a statement about another subject arrives. This is very efficient for typical subject-grouped
+ * Turtle or (sorted) N-Triples. If statements about a subject are not consecutive, then that
+ * subject is emitted several times, and it's up to the consumer to merge them.
+ *
+ * <p>Groups of statements which reference Blank Nodes can only be converted once these are
+ * complete; they are therefore deferred until the (consecutive) statements about all of the Blank
+ * Nodes they (indirectly) reference have arrived, which for Turtle is right after them. Statements
+ * about a Blank Node which arrive before any reference to it (e.g. in N-Triples) are retained until
+ * the end, unless such a reference arrives.
+ */
+class SubjectGroupingRDFHandler extends AbstractRDFHandler {
+
+    private final RdfProtoThingsConverter rdfProtoThingsConverter = new RdfProtoThingsConverter();
+    private final Consumer<Thing.Builder> consumer;
+
+    // Statements which reference, or are about, Blank Nodes which are still pending
+    private Model deferred = new LinkedHashModel();
+
+    // Blank Nodes referenced by deferred statements, but which no statements were about yet
+    private final Set<Resource> pending = new HashSet<>();
+
+    // Statements about Blank Nodes which were not (yet) referenced when they arrived
+    private final Model unreferenced = new LinkedHashModel();
+
+    private Model group = new LinkedHashModel();
+    private @Nullable Resource groupSubject;
+    private boolean groupReferencesBNode;
+
+    SubjectGroupingRDFHandler(Consumer<Thing.Builder> consumer) {
+        this.consumer = consumer;
+    }
+
+    @Override
+    public void handleStatement(Statement statement) throws RDFHandlerException {
+        var subject = statement.getSubject();
+        if (!subject.equals(groupSubject)) {
+            flush();
+            groupSubject = subject;
+        }
+        group.add(statement);
+        if (statement.getObject().isBNode()) groupReferencesBNode = true;
+    }
+
+    @Override
+    public void endRDF() throws RDFHandlerException {
+        flush();
+        deferred.addAll(unreferenced);
+        emit(deferred);
+        deferred.clear();
+        unreferenced.clear();
+        pending.clear();
+    }
+
+    private void flush() {
+        if (group.isEmpty()) return;
+        var subject = requireNonNull(groupSubject);
+        if (subject.isBNode()) {
+            if (pending.remove(subject) || deferred.contains(subject, null, null)) defer(group);
+            else unreferenced.addAll(group);
+        } else if (groupReferencesBNode) defer(group);
+        else emit(group);
+        group = new LinkedHashModel();
+        groupSubject = null;
+        groupReferencesBNode = false;
+
+        if (pending.isEmpty() && !deferred.isEmpty()) {
+            emit(deferred);
+            deferred = new LinkedHashModel();
+        }
+    }
+
+    private void defer(Collection<Statement> statements) {
+        deferred.addAll(statements);
+        for (var statement : statements)
+            if (statement.getObject() instanceof BNode bNode) reference(bNode);
+    }
+
+    private void reference(BNode bNode) {
+        if (deferred.contains(bNode, null, null)) return;
+        var statements = new ArrayList<>(unreferenced.filter(bNode, null, null));
+        if (statements.isEmpty()) {
+            pending.add(bNode);
+            return;
+        }
+        unreferenced.remove(bNode, null, null);
+        defer(statements);
+    }
+
+    private void emit(Model model) {
+        if (model.isEmpty()) return;
+        rdfProtoThingsConverter.convert(model).forEach(consumer);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.rdf.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import dev.enola.thing.proto.Thing;
+
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class SubjectGroupingRDFHandlerTest {
+
+    private final List<Thing.Builder> emitted = new ArrayList<>();
+    private final SubjectGroupingRDFHandler handler = new SubjectGroupingRDFHandler(emitted::add);
+
+    @Test
+    public void blankNodesAreNotDeferredUntilTheEnd() throws IOException {
+        handle(
+                RDFFormat.TURTLE,
+                """
+                @prefix : <http://example.org/>.
+                :s :struct [ :b 2; :nested [ :c 3 ] ]; :list ( :z :y :x ).
+                :t :a 1.
+                """);
+        // Without endRDF(), only :t can still be in the current group
+        assertThat(emitted).hasSize(2);
+        var s = emitted.get(0);
+        assertThat(s.getIri()).isEqualTo("http://example.org/s");
+        assertThat(s.getPropertiesOrThrow("http://example.org/struct").hasStruct()).isTrue();
+        var list = emitted.get(1).getPropertiesOrThrow("http://example.org/list").getList();
+        assertThat(list.getOrdered()).isTrue();
+        assertThat(list.getValuesList().stream().map(v -> v.getLink()))
+                .containsExactly(
+                        "http://example.org/z", "http://example.org/y", "http://example.org/x")
+                .inOrder();
+    }
+
+    @Test
+    public void blankNodeBeforeReference() throws IOException {
+        handle(
+                RDFFormat.NTRIPLES,
+                """
+                _:b <http://example.org/b> "2" .
+                <http://example.org/s> <http://example.org/struct> _:b .
+                <http://example.org/t> <http://example.org/a> "1" .
+                """);
+        assertThat(emitted).hasSize(1);
+        var struct = emitted.get(0).getPropertiesOrThrow("http://example.org/struct").getStruct();
+        assertThat(struct.getPropertiesOrThrow("http://example.org/b").getString()).isEqualTo("2");
+    }
+
+    /** Handles all statements, but does not end the handler. */
+    private void handle(RDFFormat format, String rdf) throws IOException {
+        for (var statement : Rio.parse(new StringReader(rdf), format))
+            handler.handleStatement(statement);
+    }
+}
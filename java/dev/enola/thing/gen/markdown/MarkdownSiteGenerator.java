@@ -17,11 +17,21 @@
  */
 package dev.enola.thing.gen.markdown;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
+import dev.enola.common.concurrent.Executors;
+import dev.enola.common.concurrent.UncheckedInterruptedException;
 import dev.enola.common.function.CheckedPredicate;
+import dev.enola.common.function.CheckedRunnable;
 import dev.enola.common.io.MoreFileSystems;
 import dev.enola.common.io.metadata.Metadata;
+import dev.enola.common.io.resource.ReadableResource;
 import dev.enola.common.io.resource.ResourceProvider;
 import dev.enola.data.ProviderFromIRI;
 import dev.enola.datatype.DatatypeRepository;
@@ -29,6 +39,7 @@ import dev.enola.thing.KIRI;
 import dev.enola.thing.gen.LinkTransformer;
 import dev.enola.thing.gen.Relativizer;
 import dev.enola.thing.gen.StaticSiteLinkTransformer;
+import dev.enola.thing.gen.ThingsIntoAppendableConverter;
 import dev.enola.thing.gen.gexf.GexfGenerator;
 import dev.enola.thing.gen.graphviz.GraphvizGenerator;
 import dev.enola.thing.gen.visjs.VisJsTimelineGenerator;
@@ -40,12 +51,19 @@ import dev.enola.thing.proto.Thing;
 import dev.enola.thing.template.TemplateService;
 import dev.enola.thing.template.Templates;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /** Generates a "site" of Markdown files, given some Things. */
 public class MarkdownSiteGenerator {
@@ -54,6 +72,8 @@ public class MarkdownSiteGenerator {
     static final String TYPES_MD = "index.md";
     static final String HIERARCHY_MD = "hierarchy.md";
 
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
     private final URI base;
     private final ResourceProvider rp;
     private final MarkdownThingGenerator mtg;
@@ -103,6 +123,38 @@ public class MarkdownSiteGenerator {
             boolean generateIndexFile,
             boolean footer)
             throws IOException {
+        generate(
+                protoThings,
+                thingProvider,
+                isDocumentedIRI,
+                ts,
+                generateIndexFile,
+                footer,
+                1,
+                false);
+    }
+
+    /**
+     * Generates the site.
+     *
+     * @param parallelism number of threads which render Things (and the graphs) concurrently; 1
+     *     renders everything sequentially on the calling thread.
+     * @param incremental whether to skip (re)writing files whose rendered content hash has not
+     *     changed, which preserves their modification time (and thus e.g. lets mkdocs only rebuild
+     *     pages which actually changed); if false, every file is always written.
+     */
+    public void generate(
+            Iterable<Thing> protoThings,
+            ProviderFromIRI<Thing> thingProvider,
+            CheckedPredicate<String, IOException> isDocumentedIRI,
+            TemplateService ts,
+            boolean generateIndexFile,
+            boolean footer,
+            int parallelism,
+            boolean incremental)
+            throws IOException {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
 
         // TODO Remove, if not needed, after all?!
         // TODO If needed anywhere else, factor out...
@@ -120,43 +172,146 @@ public class MarkdownSiteGenerator {
                         };
         */
 
-        var javaThings = ProtoThings.proto2java(protoThings);
-        timelineGenerator.convertIntoOrThrow(
-                javaThings, rp.getWritableResource(base.resolve("timeline.html")));
-        gexfGenerator.convertIntoOrThrow(
-                javaThings, rp.getWritableResource(base.resolve("graph.gexf")));
-        graphvizGenerator.convertIntoOrThrow(
-                javaThings, rp.getWritableResource(base.resolve("graphviz.gv")));
+        var stats = new Stats(incremental);
+        var tasks = new ArrayList<CheckedRunnable<IOException>>();
 
-        var metas = ImmutableSortedSet.orderedBy(Metadata.IRI_Comparator);
+        var javaThings = ProtoThings.proto2java(protoThings);
+        tasks.add(() -> write("timeline.html", timelineGenerator, javaThings, stats));
+        tasks.add(() -> write("graph.gexf", gexfGenerator, javaThings, stats));
+        tasks.add(() -> write("graphviz.gv", graphvizGenerator, javaThings, stats));
 
-        // TODO Do this multi-threaded, in parallel... (but BEWARE ImmutableMap not thread safe!)
+        // NB: Metadata is collected concurrently, and only sorted (for the index) at the end
+        var metas = new ConcurrentLinkedQueue<Metadata>();
         for (var thing : protoThings) {
-            LOG.debug("Thing {}", thing);
-            var thingIRI = thing.getIri();
-            var relativeThingIRI = Relativizer.dropSchemeAddExtension(thingIRI, "md");
-            var outputIRI = base.resolve(relativeThingIRI);
-            LOG.info("Generating (base={}, thingIRI={}): {}", base, thingIRI, outputIRI);
-            var outputResource = rp.getWritableResource(outputIRI);
-            if (outputResource == null) {
-                LOG.error("ResourceProvider cannot provide a WritableResource: {}", outputIRI);
-                continue;
-            }
-            try (var writer = outputResource.charSink().openBufferedStream()) {
-                var meta =
-                        mtg.generate(thing, writer, outputIRI, base, isDocumentedIRI, ts, footer);
-                metas.add(meta);
-            }
+            tasks.add(
+                    () -> {
+                        var meta = generate(thing, isDocumentedIRI, ts, footer, stats);
+                        if (meta != null) metas.add(meta);
+                    });
         }
+        run(tasks, parallelism);
 
         // NB: This must be AFTER above (because metas gets populated above, first)
         if (generateIndexFile) {
+            var sortedMetas = ImmutableSortedSet.copyOf(Metadata.IRI_Comparator, metas);
+
             var typeParents = new ThingHierarchyProvider("By Type:", List.of(KIRI.RDF.TYPE));
-            generateIndexMD(thingProvider, ts, footer, metas, typeParents, TYPES_MD);
+            generateIndexMD(thingProvider, ts, footer, sortedMetas, typeParents, TYPES_MD, stats);
 
             var allParents = new ThingHierarchyProvider();
             // TODO Fix grouping by rdfs:subPropertyOf rdfs:subClassOf in the Tree
-            generateIndexMD(thingProvider, ts, footer, metas, allParents, HIERARCHY_MD);
+            generateIndexMD(
+                    thingProvider, ts, footer, sortedMetas, allParents, HIERARCHY_MD, stats);
+        }
+        LOG.info(
+                "Wrote {} and skipped {} unchanged files in {}",
+                stats.written,
+                stats.skipped,
+                base);
+    }
+
+    private @Nullable Metadata generate(
+            Thing thing,
+            CheckedPredicate<String, IOException> isDocumentedIRI,
+            TemplateService ts,
+            boolean footer,
+            Stats stats)
+            throws IOException {
+        LOG.debug("Thing {}", thing);
+        var thingIRI = thing.getIri();
+        var relativeThingIRI = Relativizer.dropSchemeAddExtension(thingIRI, "md");
+        var outputIRI = base.resolve(relativeThingIRI);
+        LOG.debug("Generating (base={}, thingIRI={}): {}", base, thingIRI, outputIRI);
+        var sb = new StringBuilder();
+        var meta = mtg.generate(thing, sb, outputIRI, base, isDocumentedIRI, ts, footer);
+        if (!write(outputIRI, sb, stats)) return null;
+        return meta;
+    }
+
+    private void write(
+            String filename,
+            ThingsIntoAppendableConverter converter,
+            Iterable<dev.enola.thing.Thing> javaThings,
+            Stats stats)
+            throws IOException {
+        var sb = new StringBuilder();
+        converter.convertIntoOrThrow(javaThings, sb);
+        write(base.resolve(filename), sb, stats);
+    }
+
+    /**
+     * Writes content to a resource, unless in incremental mode the resource already has exactly
+     * that content. Returns false only if the ResourceProvider could not provide the resource.
+     */
+    private boolean write(URI outputIRI, CharSequence content, Stats stats) throws IOException {
+        var outputResource = rp.getResource(outputIRI);
+        if (outputResource == null) {
+            LOG.error("ResourceProvider cannot provide a WritableResource: {}", outputIRI);
+            return false;
+        }
+        if (stats.incremental && hash(content).equals(existingHash(outputResource))) {
+            LOG.debug("Unchanged, skipped: {}", outputIRI);
+            stats.skipped.incrementAndGet();
+            return true;
+        }
+        outputResource.charSink().write(content);
+        LOG.debug("Wrote {}", outputIRI);
+        stats.written.incrementAndGet();
+        return true;
+    }
+
+    private static HashCode hash(CharSequence content) {
+        return HASH.hashString(content, StandardCharsets.UTF_8);
+    }
+
+    private static @Nullable HashCode existingHash(ReadableResource resource) {
+        try {
+            return hash(resource.charSource().read());
+        } catch (IOException e) {
+            // Typically NoSuchFileException, because it was never generated before
+            return null;
+        }
+    }
+
+    private void run(List<CheckedRunnable<IOException>> tasks, int parallelism) throws IOException {
+        if (parallelism == 1) {
+            for (var task : tasks) task.run();
+            return;
+        }
+
+        // NB: The Executors from dev.enola.common.concurrent propagate the TLC into the threads
+        var executor = Executors.newListeningFixedThreadPool(parallelism, "MarkdownSite", LOG);
+        try {
+            var futures = new ArrayList<ListenableFuture<@Nullable Void>>(tasks.size());
+            for (var task : tasks) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    task.run();
+                                    return null;
+                                }));
+            }
+            Futures.allAsList(futures).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+            Throwables.throwIfInstanceOf(cause, IOException.class);
+            Throwables.throwIfUnchecked(cause);
+            throw new IOException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Stats {
+        final boolean incremental;
+        final AtomicInteger written = new AtomicInteger();
+        final AtomicInteger skipped = new AtomicInteger();
+
+        Stats(boolean incremental) {
+            this.incremental = incremental;
         }
     }
 
@@ -164,13 +319,14 @@ public class MarkdownSiteGenerator {
             ProviderFromIRI<Thing> thingProvider,
             TemplateService ts,
             boolean footer,
-            ImmutableSortedSet.Builder<Metadata> metas,
+            ImmutableSortedSet<Metadata> metas,
             ThingHierarchyProvider hierarchyProvider,
-            String filename)
+            String filename,
+            Stats stats)
             throws IOException {
         var mig =
                 new MarkdownIndexGenerator(
-                        metas.build(),
+                        metas,
                         protoThingMetadataProvider,
                         hierarchyProvider,
                         thingProvider,
@@ -182,10 +338,8 @@ public class MarkdownSiteGenerator {
         // e.g. https://docs.enola.dev/models/www.w3.org/1999/02/22-rdf-syntax-ns/
 
         var indexURI = base.resolve(filename);
-        var indexResource = rp.getWritableResource(indexURI);
-        try (var writer = indexResource.charSink().openBufferedStream()) {
-            mig.generate(writer, indexURI, base, ts);
-        }
-        LOG.info("Wrote {}", indexResource);
+        var sw = new StringWriter();
+        mig.generate(sw, indexURI, base, ts);
+        write(indexURI, sw.getBuffer(), stats);
     }
 }
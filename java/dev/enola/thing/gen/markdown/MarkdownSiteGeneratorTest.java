@@ -17,6 +17,8 @@
  */
 package dev.enola.thing.gen.markdown;
 
+import static com.google.common.truth.Truth.assertThat;
+
 import static dev.enola.common.context.testlib.SingletonRule.$;
 import static dev.enola.common.io.testlib.ResourceSubject.assertThat;
 import static dev.enola.thing.template.Templates.Format.Mustache;
@@ -62,6 +64,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -117,6 +120,40 @@ public class MarkdownSiteGeneratorTest {
         check(dir, MarkdownSiteGenerator.HIERARCHY_MD, "picasso.hierarchy.md");
     }
 
+    @Test
+    public void parallelIncremental() throws Exception {
+        var protoThings = load(new ClasspathResource("picasso.ttl"));
+
+        Path dir = Files.createTempDirectory("MarkdownSiteGeneratorTest-ParallelIncremental");
+        var mdDocsGen =
+                new MarkdownSiteGenerator(
+                        dir.toUri(),
+                        rp,
+                        thingMetadataProvider,
+                        protoThingMetadataProvider,
+                        dtr,
+                        Mustache);
+        mdDocsGen.generate(
+                protoThings, iri -> null, iri -> false, TemplateService.NONE, true, false, 4, true);
+        check(dir, "example.enola.dev/Picasso.md", "picasso.md");
+        check(dir, MarkdownSiteGenerator.TYPES_MD, "picasso.index.md");
+
+        var picasso = dir.resolve("example.enola.dev/Picasso.md");
+        var index = dir.resolve(MarkdownSiteGenerator.TYPES_MD);
+        var past = FileTime.fromMillis(123_000);
+        Files.setLastModifiedTime(picasso, past);
+        Files.setLastModifiedTime(index, past);
+
+        mdDocsGen.generate(
+                protoThings, iri -> null, iri -> false, TemplateService.NONE, true, false, 4, true);
+        assertThat(Files.getLastModifiedTime(picasso)).isEqualTo(past);
+        assertThat(Files.getLastModifiedTime(index)).isEqualTo(past);
+
+        mdDocsGen.generate(
+                protoThings, iri -> null, iri -> false, TemplateService.NONE, true, true, 4, true);
+        assertThat(Files.getLastModifiedTime(picasso)).isNotEqualTo(past);
+    }
+
     @Test
     public void directory() throws Exception {
         var c = new FileThingConverter();
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.impl;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.ThreadSafe;
+
+import dev.enola.thing.Thing;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * LazyThing is an {@link IImmutableThing} which only decodes its properties on first use.
+ *
+ * <p>This is intended for {@link dev.enola.thing.repo.ThingRepository} implementations which keep
+ * Things in some more compact internal representation, and "rehydrate" them on demand. Subclasses
+ * may override {@link #get(String)} and {@link #datatype(String)} to decode only a single
+ * predicate, without ever decoding all {@link #properties()}.
+ */
+@Immutable
+@ThreadSafe
+public abstract class LazyThing implements IImmutableThing {
+
+    private final String iri;
+
+    @SuppressWarnings("Immutable") // Only ever set once, by properties()
+    private volatile @Nullable ImmutableMap<String, Object> properties;
+
+    @SuppressWarnings("Immutable") // Only ever set once, by datatypes()
+    private volatile @Nullable ImmutableMap<String, String> datatypes;
+
+    protected LazyThing(String iri) {
+        this.iri = requireNonNull(iri, "iri");
+    }
+
+    /** Decode all properties; called at most once (or a few times, if racing) per instance. */
+    protected abstract ImmutableMap<String, Object> decodeProperties();
+
+    /** Decode all datatypes; called at most once (or a few times, if racing) per instance. */
+    protected abstract ImmutableMap<String, String> decodeDatatypes();
+
+    @Override
+    public String iri() {
+        return iri;
+    }
+
+    @Override
+    public ImmutableMap<String, Object> properties() {
+        var properties = this.properties;
+        if (properties == null) this.properties = properties = decodeProperties();
+        return properties;
+    }
+
+    @Override
+    public ImmutableSet<String> predicateIRIs() {
+        return properties().keySet();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(String predicateIRI) {
+        return (T) properties().get(predicateIRI);
+    }
+
+    @Override
+    public ImmutableMap<String, String> datatypes() {
+        var datatypes = this.datatypes;
+        if (datatypes == null) this.datatypes = datatypes = decodeDatatypes();
+        return datatypes;
+    }
+
+    @Override
+    public @Nullable String datatype(String predicateIRI) {
+        return datatypes().get(predicateIRI);
+    }
+
+    @Override
+    public Thing.Builder<? extends IImmutableThing> copy() {
+        return new ImmutableThing.Builder<>(ImmutableThing::new, iri, properties(), datatypes());
+    }
+
+    @Override
+    public final boolean equals(Object obj) {
+        return ThingHashCodeEqualsToString.equals(this, obj);
+    }
+
+    @Override
+    public final int hashCode() {
+        return ThingHashCodeEqualsToString.hashCode(this);
+    }
+
+    @Override
+    public final String toString() {
+        return ThingHashCodeEqualsToString.toString(this, properties(), datatypes());
+    }
+}
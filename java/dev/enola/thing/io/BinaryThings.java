@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and helpers shared by {@link BinaryThingsWriter} and {@link BinaryThingsReader}.
+ *
+ * <p>The {@link ThingMediaTypes#THING_BINARY} format is:
+ *
+ * <pre>
+ * file    := MAGIC varint(VERSION) block* varint(0) index trailer
+ * block   := varint(length) varint(symbolCount) string* varint(thingCount) thing*
+ * string  := varint(utf8Length) utf8
+ * thing   := varint(iriSymbol) varint(propertyCount) (varint(predicateSymbol) value)*
+ * value   := LINK varint(symbol) | STRING varint(symbol)
+ *          | LITERAL varint(symbol) varint(datatypeSymbol)
+ *          | LANG_STRING varint(symbol) varint(langSymbol)
+ *          | STRUCT thing | (LIST | SET) varint(count) value*
+ * index   := varint(blockCount) varint(blockOffset)*
+ * trailer := int64(indexOffset) MAGIC
+ * </pre>
+ *
+ * <p>Symbols are IDs in the (String) dictionary of the block which they are in; so each block is
+ * self-contained, and can be read on its own.
+ */
+final class BinaryThings {
+
+    static final byte[] MAGIC = "ENTB".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final int TRAILER_LENGTH = Long.BYTES + MAGIC.length;
+
+    static final int LINK = 1;
+    static final int STRING = 2;
+    static final int LITERAL = 3;
+    static final int LANG_STRING = 4;
+    static final int STRUCT = 5;
+    static final int LIST = 6;
+    static final int SET = 7;
+
+    static void writeVarint(long value, OutputStream out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarint(InputStream in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b == -1) throw new EOFException("Truncated Binary Things");
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return result;
+        }
+        throw new IOException("Malformed varint in Binary Things");
+    }
+
+    private BinaryThings() {}
+}
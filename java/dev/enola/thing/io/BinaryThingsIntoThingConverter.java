@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import dev.enola.common.context.TLC;
+import dev.enola.common.convert.ConversionException;
+import dev.enola.common.io.resource.ResourceProvider;
+import dev.enola.datatype.DatatypeRepository;
+import dev.enola.thing.Thing;
+import dev.enola.thing.java.HasType;
+import dev.enola.thing.message.ProtoThingIntoJavaThingBuilderConverter;
+import dev.enola.thing.repo.ThingRepositoryStore;
+
+import java.io.IOException;
+import java.net.URI;
+
+/** Loads {@link ThingMediaTypes#THING_BINARY} resources, see {@link BinaryThingsReader}. */
+public class BinaryThingsIntoThingConverter implements UriIntoThingConverter {
+
+    private final ResourceProvider rp;
+    private final ProtoThingIntoJavaThingBuilderConverter protoThingIntoJavaThingBuilderConverter;
+
+    public BinaryThingsIntoThingConverter(
+            ResourceProvider rp, DatatypeRepository datatypeRepository) {
+        this.rp = rp;
+        this.protoThingIntoJavaThingBuilderConverter =
+                new ProtoThingIntoJavaThingBuilderConverter(datatypeRepository);
+    }
+
+    public BinaryThingsIntoThingConverter() {
+        this(TLC.get(ResourceProvider.class), TLC.get(DatatypeRepository.class));
+    }
+
+    @Override
+    public boolean convertInto(URI from, ThingRepositoryStore into)
+            throws ConversionException, IOException {
+        var resource = rp.getReadableResource(from);
+        if (resource == null) return false;
+        if (!resource.mediaType().is(ThingMediaTypes.THING_BINARY)) return false;
+
+        new BinaryThingsReader(resource.byteSource())
+                .forEach(
+                        protoThing -> {
+                            Thing.Builder<?> thingBuilder;
+                            var type = protoThing.getPropertiesMap().get(HasType.IRI);
+                            if (type != null && type.hasLink())
+                                thingBuilder = into.getBuilder(protoThing.getIri(), type.getLink());
+                            else thingBuilder = into.getBuilder(protoThing.getIri());
+                            protoThingIntoJavaThingBuilderConverter.convertIntoOrThrow(
+                                    protoThing, thingBuilder);
+                            addOrigin(from, thingBuilder);
+                            into.store(thingBuilder.build());
+                        });
+        return true;
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import static dev.enola.thing.io.BinaryThings.readVarint;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.io.ByteSource;
+import com.google.protobuf.CodedInputStream;
+
+import dev.enola.common.function.CheckedConsumer;
+import dev.enola.thing.proto.Thing;
+import dev.enola.thing.proto.Value;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Reads (Proto) Things from the compact {@link ThingMediaTypes#THING_BINARY} format written by
+ * {@link BinaryThingsWriter}.
+ *
+ * <p>{@link #forEach(CheckedConsumer)} streams through all Things, holding only one block in memory
+ * at a time. {@link #block(int)} reads a single block, using the index at the end of the source.
+ */
+public final class BinaryThingsReader {
+
+    private final ByteSource source;
+    private volatile long @Nullable [] blockOffsets;
+
+    public BinaryThingsReader(ByteSource source) {
+        this.source = source;
+    }
+
+    public void forEach(CheckedConsumer<Thing, IOException> consumer) throws IOException {
+        try (var in = source.openBufferedStream()) {
+            readHeader(in);
+            long length;
+            while ((length = readVarint(in)) != 0) readBlock(in, length, consumer);
+        }
+    }
+
+    /** Number of blocks. */
+    public int blocks() throws IOException {
+        return blockOffsets().length;
+    }
+
+    /** Things in the block at the given index, from 0 to (excluding) {@link #blocks()}. */
+    public ImmutableList<Thing> block(int index) throws IOException {
+        var offsets = blockOffsets();
+        if (index < 0 || index >= offsets.length)
+            throw new IndexOutOfBoundsException(index + " not in [0, " + offsets.length + ")");
+        var things = ImmutableList.<Thing>builder();
+        try (var in = source.slice(offsets[index], Long.MAX_VALUE).openBufferedStream()) {
+            readBlock(in, readVarint(in), things::add);
+        }
+        return things.build();
+    }
+
+    private long[] blockOffsets() throws IOException {
+        var offsets = blockOffsets;
+        if (offsets == null) blockOffsets = offsets = readIndex();
+        return offsets;
+    }
+
+    private long[] readIndex() throws IOException {
+        var size = source.size();
+        if (size < BinaryThings.MAGIC.length + BinaryThings.TRAILER_LENGTH)
+            throw new EOFException("Too short for Binary Things: " + size);
+        var trailerOffset = size - BinaryThings.TRAILER_LENGTH;
+        var trailer =
+                ByteBuffer.wrap(source.slice(trailerOffset, BinaryThings.TRAILER_LENGTH).read());
+        var indexOffset = trailer.getLong();
+        var magic = new byte[BinaryThings.MAGIC.length];
+        trailer.get(magic);
+        if (!Arrays.equals(magic, BinaryThings.MAGIC) || indexOffset >= trailerOffset)
+            throw new IOException("Not Binary Things, or truncated (no index found)");
+
+        try (var in = source.slice(indexOffset, trailerOffset - indexOffset).openBufferedStream()) {
+            var offsets = new long[toInt(readVarint(in))];
+            for (int i = 0; i < offsets.length; i++) offsets[i] = readVarint(in);
+            return offsets;
+        }
+    }
+
+    private static void readHeader(InputStream in) throws IOException {
+        var magic = in.readNBytes(BinaryThings.MAGIC.length);
+        if (!Arrays.equals(magic, BinaryThings.MAGIC))
+            throw new IOException("Not Binary Things (wrong magic)");
+        var version = readVarint(in);
+        if (version != BinaryThings.VERSION)
+            throw new IOException("Unsupported Binary Things version: " + version);
+    }
+
+    private static void readBlock(
+            InputStream in, long length, CheckedConsumer<Thing, IOException> consumer)
+            throws IOException {
+        var bytes = in.readNBytes(toInt(length));
+        if (bytes.length != length) throw new EOFException("Truncated Binary Things block");
+        var block = CodedInputStream.newInstance(bytes);
+
+        var symbols = new String[toInt(block.readUInt64())];
+        for (int i = 0; i < symbols.length; i++) symbols[i] = block.readStringRequireUtf8();
+
+        var thingCount = block.readUInt32();
+        for (int i = 0; i < thingCount; i++) consumer.accept(readThing(block, symbols).build());
+    }
+
+    private static Thing.Builder readThing(CodedInputStream block, String[] symbols)
+            throws IOException {
+        var thing = Thing.newBuilder().setIri(symbol(block, symbols));
+        var propertyCount = block.readUInt32();
+        for (int i = 0; i < propertyCount; i++) {
+            var predicate = symbol(block, symbols);
+            thing.putProperties(predicate, readValue(block, symbols).build());
+        }
+        return thing;
+    }
+
+    private static Value.Builder readValue(CodedInputStream block, String[] symbols)
+            throws IOException {
+        var value = Value.newBuilder();
+        var tag = block.readUInt32();
+        switch (tag) {
+            case BinaryThings.LINK -> value.setLink(symbol(block, symbols));
+            case BinaryThings.STRING -> value.setString(symbol(block, symbols));
+            case BinaryThings.LITERAL ->
+                    value.getLiteralBuilder()
+                            .setValue(symbol(block, symbols))
+                            .setDatatype(symbol(block, symbols));
+            case BinaryThings.LANG_STRING ->
+                    value.getLangStringBuilder()
+                            .setText(symbol(block, symbols))
+                            .setLang(symbol(block, symbols));
+            case BinaryThings.STRUCT -> value.setStruct(readThing(block, symbols));
+            case BinaryThings.LIST, BinaryThings.SET -> {
+                var list = value.getListBuilder().setOrdered(tag == BinaryThings.LIST);
+                var count = block.readUInt32();
+                for (int i = 0; i < count; i++) list.addValues(readValue(block, symbols));
+            }
+            default -> throw new IOException("Unknown Binary Things value tag: " + tag);
+        }
+        return value;
+    }
+
+    private static String symbol(CodedInputStream block, String[] symbols) throws IOException {
+        var id = block.readUInt64();
+        if (id < 0 || id >= symbols.length)
+            throw new IOException("Binary Things symbol out of range: " + id);
+        return symbols[(int) id];
+    }
+
+    private static int toInt(long value) throws IOException {
+        if (value < 0 || value > Integer.MAX_VALUE)
+            throw new IOException("Binary Things value too large: " + value);
+        return (int) value;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static org.junit.Assert.assertThrows;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.common.io.ByteSource;
+
+import dev.enola.thing.proto.Thing;
+import dev.enola.thing.proto.Things;
+import dev.enola.thing.proto.Value;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryThingsTest {
+
+    private static final String LABEL = "https://example.org/label";
+
+    private Thing thing(int i) {
+        var list =
+                Value.List.newBuilder()
+                        .setOrdered(i % 2 == 0)
+                        .addValues(Value.newBuilder().setString("one"))
+                        .addValues(Value.newBuilder().setLink("https://example.org/two"));
+        var struct =
+                Thing.newBuilder()
+                        .putProperties(LABEL, Value.newBuilder().setString("nested").build());
+        return Thing.newBuilder()
+                .setIri("https://example.org/thing/" + i)
+                .putProperties(
+                        "https://example.org/link",
+                        Value.newBuilder().setLink("https://example.org/thing/0").build())
+                .putProperties(LABEL, Value.newBuilder().setString("Thing #" + i).build())
+                .putProperties(
+                        "https://example.org/literal",
+                        Value.newBuilder()
+                                .setLiteral(
+                                        Value.Literal.newBuilder()
+                                                .setValue(Integer.toString(i))
+                                                .setDatatype(
+                                                        "http://www.w3.org/2001/XMLSchema#int"))
+                                .build())
+                .putProperties(
+                        "https://example.org/langString",
+                        Value.newBuilder()
+                                .setLangString(
+                                        Value.LangString.newBuilder().setText("Ding").setLang("de"))
+                                .build())
+                .putProperties("https://example.org/list", Value.newBuilder().setList(list).build())
+                .putProperties(
+                        "https://example.org/struct", Value.newBuilder().setStruct(struct).build())
+                .build();
+    }
+
+    private List<Thing> things(int n) {
+        var things = new ArrayList<Thing>(n);
+        for (int i = 0; i < n; i++) things.add(thing(i));
+        return things;
+    }
+
+    private ByteSource write(List<Thing> things, int blockSize) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var writer = new BinaryThingsWriter(bytes, blockSize)) {
+            writer.writeAll(things);
+        }
+        return ByteSource.wrap(bytes.toByteArray());
+    }
+
+    @Test
+    public void empty() throws IOException {
+        var reader = new BinaryThingsReader(write(List.of(), 7));
+        var read = new ArrayList<Thing>();
+        reader.forEach(read::add);
+        assertThat(read).isEmpty();
+        assertThat(reader.blocks()).isEqualTo(0);
+    }
+
+    @Test
+    public void roundtrip() throws IOException {
+        var things = things(10);
+        var read = new ArrayList<Thing>();
+        new BinaryThingsReader(write(things, 3)).forEach(read::add);
+        assertThat(read).containsExactlyElementsIn(things).inOrder();
+    }
+
+    @Test
+    public void blocks() throws IOException {
+        var things = things(10);
+        var reader = new BinaryThingsReader(write(things, 3));
+        assertThat(reader.blocks()).isEqualTo(4);
+        assertThat(reader.block(2)).containsExactlyElementsIn(things.subList(6, 9)).inOrder();
+        assertThat(reader.block(3)).containsExactly(things.get(9));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.block(4));
+    }
+
+    @Test
+    public void smallerThanProto() throws IOException {
+        var things = things(100);
+        var proto = Things.newBuilder().addAllThings(things).build();
+        assertThat(write(things, BinaryThingsWriter.DEFAULT_BLOCK_SIZE).size())
+                .isLessThan(proto.getSerializedSize() / 2);
+    }
+
+    @Test
+    public void notBinaryThings() {
+        var reader = new BinaryThingsReader(ByteSource.wrap("hello, world".getBytes(UTF_8)));
+        assertThrows(IOException.class, () -> reader.forEach(thing -> {}));
+        assertThrows(IOException.class, reader::blocks);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import static dev.enola.thing.io.BinaryThings.writeVarint;
+
+import com.google.common.io.CountingOutputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import dev.enola.common.string2long.ImmutableStringToLongBiMap;
+import dev.enola.common.string2long.StringToLongBiMap;
+import dev.enola.thing.proto.ThingOrBuilder;
+import dev.enola.thing.proto.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes (Proto) Things in the compact {@link ThingMediaTypes#THING_BINARY} format.
+ *
+ * <p>Things are streamed out in blocks of (up to) a given number of Things. Each block starts with
+ * a dictionary (see {@link StringToLongBiMap}) of all the IRIs and texts used in it, which its
+ * Things then refer to by (varint) ID. Only one block is ever held in memory. The index of the
+ * blocks is written at the end, by {@link #close()}; see {@link BinaryThingsReader#block(int)}.
+ *
+ * <p>This is not thread-safe.
+ */
+public final class BinaryThingsWriter implements Closeable {
+
+    public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+    private final CountingOutputStream out;
+    private final int blockSize;
+    private final List<Long> blockOffsets = new ArrayList<>();
+
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+    private CodedOutputStream block = CodedOutputStream.newInstance(blockBytes);
+    private StringToLongBiMap.Builder dictionary = ImmutableStringToLongBiMap.builder();
+    private int thingsInBlock;
+    private boolean closed;
+
+    public BinaryThingsWriter(OutputStream out, int blockSize) throws IOException {
+        if (blockSize < 1) throw new IllegalArgumentException("blockSize must be >= 1");
+        this.out = new CountingOutputStream(out);
+        this.blockSize = blockSize;
+        this.out.write(BinaryThings.MAGIC);
+        writeVarint(BinaryThings.VERSION, this.out);
+    }
+
+    public BinaryThingsWriter(OutputStream out) throws IOException {
+        this(out, DEFAULT_BLOCK_SIZE);
+    }
+
+    public void write(ThingOrBuilder thing) throws IOException {
+        if (closed) throw new IllegalStateException("Already closed");
+        writeThing(thing);
+        if (++thingsInBlock == blockSize) flushBlock();
+    }
+
+    public void writeAll(Iterable<? extends ThingOrBuilder> things) throws IOException {
+        for (var thing : things) write(thing);
+    }
+
+    private void writeThing(ThingOrBuilder thing) throws IOException {
+        symbol(thing.getIri());
+        var properties = thing.getPropertiesMap();
+        block.writeUInt32NoTag(properties.size());
+        for (var property : properties.entrySet()) {
+            symbol(property.getKey());
+            writeValue(property.getValue());
+        }
+    }
+
+    private void writeValue(Value value) throws IOException {
+        switch (value.getKindCase()) {
+            case LINK -> {
+                block.writeUInt32NoTag(BinaryThings.LINK);
+                symbol(value.getLink());
+            }
+            case STRING -> {
+                block.writeUInt32NoTag(BinaryThings.STRING);
+                symbol(value.getString());
+            }
+            case LITERAL -> {
+                block.writeUInt32NoTag(BinaryThings.LITERAL);
+                symbol(value.getLiteral().getValue());
+                symbol(value.getLiteral().getDatatype());
+            }
+            case LANG_STRING -> {
+                block.writeUInt32NoTag(BinaryThings.LANG_STRING);
+                symbol(value.getLangString().getText());
+                symbol(value.getLangString().getLang());
+            }
+            case STRUCT -> {
+                block.writeUInt32NoTag(BinaryThings.STRUCT);
+                writeThing(value.getStruct());
+            }
+            case LIST -> {
+                var list = value.getList();
+                block.writeUInt32NoTag(list.getOrdered() ? BinaryThings.LIST : BinaryThings.SET);
+                block.writeUInt32NoTag(list.getValuesCount());
+                for (var element : list.getValuesList()) writeValue(element);
+            }
+            case KIND_NOT_SET -> throw new IllegalArgumentException("Value has no kind: " + value);
+        }
+    }
+
+    private void symbol(String symbol) throws IOException {
+        block.writeUInt64NoTag(dictionary.put(symbol));
+    }
+
+    private void flushBlock() throws IOException {
+        if (thingsInBlock == 0) return;
+        block.flush();
+
+        var headerBytes = new ByteArrayOutputStream();
+        var header = CodedOutputStream.newInstance(headerBytes);
+        var symbols = dictionary.build();
+        header.writeUInt64NoTag(symbols.size());
+        for (var symbol : symbols.symbols()) header.writeStringNoTag(symbol);
+        header.writeUInt32NoTag(thingsInBlock);
+        header.flush();
+
+        blockOffsets.add(out.getCount());
+        writeVarint(headerBytes.size() + blockBytes.size(), out);
+        headerBytes.writeTo(out);
+        blockBytes.writeTo(out);
+
+        blockBytes.reset();
+        block = CodedOutputStream.newInstance(blockBytes);
+        dictionary = ImmutableStringToLongBiMap.builder();
+        thingsInBlock = 0;
+    }
+
+    /** Writes the last block, and the index of all blocks, and closes the underlying stream. */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        try {
+            flushBlock();
+            writeVarint(0, out);
+
+            long indexOffset = out.getCount();
+            writeVarint(blockOffsets.size(), out);
+            for (var blockOffset : blockOffsets) writeVarint(blockOffset, out);
+
+            var trailer = ByteBuffer.allocate(BinaryThings.TRAILER_LENGTH);
+            trailer.putLong(indexOffset).put(BinaryThings.MAGIC);
+            out.write(trailer.array());
+        } finally {
+            closed = true;
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import com.google.common.collect.ImmutableSet;
+
+import dev.enola.common.context.TLC;
+import dev.enola.common.convert.ConversionException;
+import dev.enola.common.io.resource.ChangeToken;
+import dev.enola.common.io.resource.FileResource;
+import dev.enola.common.io.resource.ReadableResource;
+import dev.enola.common.io.resource.ResourceProvider;
+import dev.enola.data.Store;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.OnlyIRIThing;
+import dev.enola.thing.repo.ThingMemoryRepositoryROBuilder;
+import dev.enola.thing.repo.ThingRepository;
+import dev.enola.thing.repo.ThingRepositoryStore;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * IncrementalLoader loads Things from resources into a {@link ThingRepositoryStore}, like {@link
+ * Loader}, but on each subsequent {@link #load(Stream, ThingRepositoryStore)} only re-parses the
+ * resources which have changed, and those which contributed to the same Things.
+ *
+ * <p>It remembers the {@link ChangeToken} of each resource, and the IRIs of the Things it
+ * contributed (but not the Things themselves). A resource is unchanged if its ChangeToken is not
+ * different; for a {@link FileResource}, whose ChangeToken requires reading its entire content, the
+ * ChangeToken is only checked if the size or last modified time of its file have changed.
+ *
+ * <p>On reload, the Things contributed by changed, new or no longer present resources are
+ * "affected". These are rebuilt by loading all resources which contributed to any of them, in their
+ * original order, into a temporary repository; this is repeated for the Things which these
+ * resources contributed as well, until no more resources are affected. The result is thus always
+ * exactly the same as loading everything with {@link Loader}, where later resources replace (rather
+ * than add to) properties of Things of earlier resources. Affected Things which changed are stored
+ * again; a Thing without any contributions left is "retracted" by replacing it with an {@link
+ * OnlyIRIThing}.
+ *
+ * <p>This assumes that the store is only written to by this IncrementalLoader (and its triggers),
+ * and that the order of the resources does not change between loads. If a resource fails to load,
+ * the Things it contributed are rebuilt without it, it is retried on the next load, and the failure
+ * is thrown (after storing all others).
+ */
+public class IncrementalLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalLoader.class);
+
+    /**
+     * Files modified less than this long before they were checked are "racy": they could be
+     * modified again without changing their last modified time (whose resolution depends on the
+     * file system), so their ChangeToken has to be checked on the next load again.
+     */
+    private static final Duration RACY = Duration.ofSeconds(2);
+
+    private final Loader loader;
+    private final ResourceProvider resourceProvider;
+    private final Map<URI, Contribution> contributions = new LinkedHashMap<>();
+
+    private record Contribution(
+            @Nullable FileStamp stamp, ChangeToken changeToken, ImmutableSet<String> iris) {}
+
+    private record FileStamp(FileTime lastModified, long size) {}
+
+    public IncrementalLoader(Loader loader, ResourceProvider resourceProvider) {
+        this.loader = loader;
+        this.resourceProvider = resourceProvider;
+    }
+
+    public IncrementalLoader(Loader loader) {
+        this(loader, TLC.get(ResourceProvider.class));
+    }
+
+    /**
+     * (Re-)loads the resources into the store.
+     *
+     * @return the IRIs of the Things which were stored (or retracted) by this load
+     */
+    public synchronized ImmutableSet<String> load(Stream<URI> uris, ThingRepositoryStore store)
+            throws ConversionException {
+        var previous = new LinkedHashMap<>(contributions);
+        contributions.clear();
+        var reload = new HashSet<URI>();
+        var affected = new LinkedHashSet<String>();
+
+        for (var uri : (Iterable<URI>) uris::iterator) {
+            var old = previous.remove(uri);
+            var resource = resourceProvider.getReadableResource(uri);
+            var stamp = stamp(resource);
+            if (old != null && stamp != null && stamp.equals(old.stamp)) {
+                contributions.put(uri, old);
+                continue;
+            }
+            var changeToken = resource != null ? resource.changeToken() : ChangeToken.NOT_AVAILABLE;
+            if (old != null && !old.changeToken.isDifferent(changeToken)) {
+                contributions.put(uri, new Contribution(stamp, changeToken, old.iris));
+                continue;
+            }
+            contributions.put(uri, new Contribution(stamp, changeToken, ImmutableSet.of()));
+            reload.add(uri);
+            if (old != null) affected.addAll(old.iris);
+        }
+
+        // Resources which are no longer loaded retract what they contributed
+        for (var removed : previous.values()) affected.addAll(removed.iris);
+
+        expand(reload, affected);
+        var failures = new ArrayList<Throwable>();
+        ThingRepository reloaded;
+        do {
+            failures.clear();
+            reloaded = reload(reload, affected, failures);
+        } while (expand(reload, affected));
+
+        var stored = ImmutableSet.<String>builder();
+        for (var iri : affected) {
+            var thing = reloaded.get(iri);
+            if (thing == null) thing = new OnlyIRIThing(iri);
+            var existing = store.get(iri);
+            if (Objects.equals(existing, thing)) continue;
+            if (existing == null && thing instanceof OnlyIRIThing) continue;
+            store.store(thing);
+            stored.add(iri);
+        }
+        var result = stored.build();
+        LOG.info(
+                "Re-loaded {} resources, and stored {} Things (of {} resources)",
+                reload.size(),
+                result.size(),
+                contributions.size());
+
+        if (!failures.isEmpty()) {
+            var exception =
+                    new ConversionException(
+                            "Failed to load " + failures.size() + " resource/s",
+                            failures.getFirst());
+            for (var failure : failures.subList(1, failures.size()))
+                exception.addSuppressed(failure);
+            throw exception;
+        }
+        return result;
+    }
+
+    /**
+     * Adds all resources which contributed to any of the affected IRIs to those to reload, and what
+     * they contributed to the affected IRIs; returns whether any were added.
+     */
+    private boolean expand(Set<URI> reload, Set<String> affected) {
+        boolean expanded = false;
+        boolean again = true;
+        while (again) {
+            again = false;
+            for (var entry : contributions.entrySet()) {
+                var iris = entry.getValue().iris;
+                if (reload.contains(entry.getKey()) || Collections.disjoint(iris, affected))
+                    continue;
+                reload.add(entry.getKey());
+                affected.addAll(iris);
+                expanded = again = true;
+            }
+        }
+        return expanded;
+    }
+
+    /**
+     * Loads the resources to reload, in their original order, into a new temporary repository; and
+     * records the IRIs which each of them contributed.
+     */
+    private ThingRepository reload(
+            Set<URI> reload, Set<String> affected, List<Throwable> failures) {
+        var staging = new ThingMemoryRepositoryROBuilder();
+        var contributed = new LinkedHashSet<String>();
+        var recording = new RecordingStore(staging, contributed);
+        for (var entry : contributions.entrySet()) {
+            var uri = entry.getKey();
+            if (!reload.contains(uri)) continue;
+            contributed.clear();
+            var contribution = entry.getValue();
+            try {
+                loader.load(uri, recording);
+                var iris = ImmutableSet.copyOf(contributed);
+                entry.setValue(
+                        new Contribution(contribution.stamp, contribution.changeToken, iris));
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Failed to load {}", uri, e);
+                failures.add(new ConversionException("Failed to load " + uri, e));
+                // Keep what it contributed before it failed, and retry it on the next load
+                var iris = ImmutableSet.copyOf(contributed);
+                entry.setValue(new Contribution(null, ChangeToken.NOT_AVAILABLE, iris));
+            }
+            affected.addAll(contributed);
+        }
+        return staging.build();
+    }
+
+    /**
+     * Records the IRI of every Thing stored into it, even if that Thing is equal to the one it
+     * replaces (which a {@link dev.enola.data.Trigger} would not be notified about).
+     */
+    private record RecordingStore(ThingRepositoryStore delegate, Set<String> stored)
+            implements ThingRepositoryStore {
+
+        @Override
+        public @Nullable Thing get(String iri) {
+            return delegate.get(iri);
+        }
+
+        @Override
+        public Iterable<String> listIRI() {
+            return delegate.listIRI();
+        }
+
+        @Override
+        public Store<Thing> store(Thing item) {
+            stored.add(item.iri());
+            delegate.store(item);
+            return this;
+        }
+    }
+
+    private static @Nullable FileStamp stamp(@Nullable ReadableResource resource) {
+        if (!(resource instanceof FileResource fileResource)) return null;
+        try {
+            var attributes = Files.readAttributes(fileResource.path(), BasicFileAttributes.class);
+            var lastModified = attributes.lastModifiedTime();
+            if (lastModified.toInstant().isAfter(Instant.now().minus(RACY))) return null;
+            return new FileStamp(lastModified, attributes.size());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import static com.google.common.net.MediaType.PLAIN_TEXT_UTF_8;
+import static com.google.common.truth.Truth.assertThat;
+
+import dev.enola.common.context.testlib.TestTLCRule;
+import dev.enola.common.io.resource.ChangeToken;
+import dev.enola.common.io.resource.FileResource;
+import dev.enola.common.io.resource.MemoryResource;
+import dev.enola.common.io.resource.Resource;
+import dev.enola.common.io.resource.ResourceProvider;
+import dev.enola.thing.KIRI;
+import dev.enola.thing.impl.ImmutableThing;
+import dev.enola.thing.java.TBF;
+import dev.enola.thing.repo.ThingMemoryRepositoryRW;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+public class IncrementalLoaderTest {
+
+    public @Rule TestTLCRule tlcRule = TestTLCRule.of(TBF.class, ImmutableThing.FACTORY);
+    public @Rule TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private static final String SHARED_IRI = "https://example.org/shared";
+    private static final String LABEL_IRI = "https://example.org/label";
+    private static final String TAGS_IRI = "https://example.org/tags";
+    private static final String SAME_IRI = "https://example.org/same";
+
+    private final Map<URI, Resource> resources = new LinkedHashMap<>();
+    private final ResourceProvider rp = resources::get;
+    private final AtomicInteger conversions = new AtomicInteger();
+
+    private final UriIntoThingConverters converters =
+            new UriIntoThingConverters(
+                    (uri, into) -> {
+                        conversions.incrementAndGet();
+                        var content = resources.get(uri).charSource().read();
+
+                        var builder = into.getBuilder(iri(uri));
+                        builder.set(LABEL_IRI, content);
+                        into.store(builder.build());
+
+                        // These resources all contribute the very same Thing, and nothing else
+                        if (content.startsWith("same")) {
+                            var same = into.getBuilder(SAME_IRI);
+                            same.set(LABEL_IRI, "same");
+                            into.store(same.build());
+                            return true;
+                        }
+
+                        // Later resources replace the label and tags of earlier ones, but add
+                        // to the origins
+                        var shared = into.getBuilder(SHARED_IRI);
+                        shared.set(LABEL_IRI, content);
+                        shared.set(TAGS_IRI, Set.of(content));
+                        shared.add(KIRI.E.ORIGIN, uri);
+                        into.store(shared.build());
+                        return true;
+                    });
+
+    private final IncrementalLoader loader = new IncrementalLoader(new Loader(converters), rp);
+    private final ThingMemoryRepositoryRW store = new ThingMemoryRepositoryRW();
+
+    private static String iri(URI uri) {
+        return "https://example.org/" + uri.getSchemeSpecificPart();
+    }
+
+    private void put(String uri, String content) throws IOException {
+        var resource = new MemoryResource(URI.create(uri), PLAIN_TEXT_UTF_8);
+        resource.charSink().write(content);
+        resources.put(resource.uri(), resource);
+    }
+
+    private Stream<URI> uris() {
+        return resources.keySet().stream();
+    }
+
+    @Test
+    public void onlyReloadsChangedResources() throws IOException {
+        put("test:a", "A");
+        put("test:b", "B");
+        assertThat(loader.load(uris(), store))
+                .containsExactly(SHARED_IRI, "https://example.org/a", "https://example.org/b");
+        assertThat(conversions.get()).isEqualTo(2);
+
+        assertThat(loader.load(uris(), store)).isEmpty();
+        assertThat(conversions.get()).isEqualTo(2);
+
+        // test:a is re-loaded as well, because it also contributed to SHARED_IRI; but its own
+        // Thing is unchanged, and thus not stored again
+        put("test:b", "B2");
+        assertThat(loader.load(uris(), store)).containsExactly(SHARED_IRI, "https://example.org/b");
+        assertThat(conversions.get()).isEqualTo(4);
+
+        assertThat(store.get("https://example.org/a").getString(LABEL_IRI)).isEqualTo("A");
+        assertThat(store.get("https://example.org/b").getString(LABEL_IRI)).isEqualTo("B2");
+        assertThat(store.get(SHARED_IRI).getString(LABEL_IRI)).isEqualTo("B2");
+        assertThat(store.get(SHARED_IRI).getLinks(KIRI.E.ORIGIN)).hasSize(2);
+        assertSameAsLoader();
+    }
+
+    @Test
+    public void replacesLikeLoader() throws IOException {
+        put("test:a", "A");
+        put("test:b", "B");
+        loader.load(uris(), store);
+
+        // Changing the earlier resource must not let its label replace the one of the later one
+        put("test:a", "A2");
+        assertThat(loader.load(uris(), store)).containsExactly("https://example.org/a");
+        assertThat(store.get(SHARED_IRI).getString(LABEL_IRI)).isEqualTo("B");
+        assertThat((Object) store.get(SHARED_IRI).get(TAGS_IRI)).isEqualTo(Set.of("B"));
+        assertSameAsLoader();
+    }
+
+    @Test
+    public void unchangedFilesAreNotHashed() throws IOException {
+        var file = tempFolder.newFile("a.txt").toPath();
+        Files.writeString(file, "A");
+        var old = FileTime.from(Instant.now().minus(Duration.ofHours(1)));
+        Files.setLastModifiedTime(file, old);
+        var changeTokens = new AtomicInteger();
+        var resource =
+                new FileResource(file.toUri(), PLAIN_TEXT_UTF_8) {
+                    @Override
+                    public ChangeToken changeToken() {
+                        changeTokens.incrementAndGet();
+                        return super.changeToken();
+                    }
+                };
+        resources.put(resource.uri(), resource);
+
+        loader.load(uris(), store);
+        loader.load(uris(), store);
+        assertThat(changeTokens.get()).isEqualTo(1);
+        assertThat(conversions.get()).isEqualTo(1);
+
+        // Same size, but a different last modified time
+        Files.writeString(file, "Z");
+        Files.setLastModifiedTime(file, FileTime.from(old.toInstant().plusSeconds(60)));
+        loader.load(uris(), store);
+        assertThat(changeTokens.get()).isEqualTo(2);
+        assertThat(conversions.get()).isEqualTo(2);
+        assertSameAsLoader();
+    }
+
+    @Test
+    public void retractsRemovedResources() throws IOException {
+        put("test:a", "A");
+        put("test:b", "B");
+        loader.load(uris(), store);
+
+        resources.remove(URI.create("test:b"));
+        assertThat(loader.load(uris(), store)).containsExactly(SHARED_IRI, "https://example.org/b");
+        assertThat(conversions.get()).isEqualTo(3);
+
+        assertThat(store.get("https://example.org/b").properties()).isEmpty();
+        assertThat(store.get(SHARED_IRI).getString(LABEL_IRI)).isEqualTo("A");
+        assertThat(store.get(SHARED_IRI).getLinks(KIRI.E.ORIGIN)).hasSize(1);
+    }
+
+    @Test
+    public void keepsIdenticalThingOfOtherResource() throws IOException {
+        put("test:a", "same-a");
+        put("test:b", "same-b");
+        loader.load(uris(), store);
+
+        // test:b stored a Thing equal to the one test:a already had, and thus keeps it
+        resources.remove(URI.create("test:a"));
+        assertThat(loader.load(uris(), store)).containsExactly("https://example.org/a");
+        assertThat(conversions.get()).isEqualTo(3);
+        assertThat(store.get(SAME_IRI).getString(LABEL_IRI)).isEqualTo("same");
+        assertSameAsLoader();
+    }
+
+    private void assertSameAsLoader() throws IOException {
+        var expected = new ThingMemoryRepositoryRW();
+        new Loader(converters).convertInto(uris(), expected);
+        for (var thing : expected.list()) assertThat(store.get(thing.iri())).isEqualTo(thing);
+    }
+}
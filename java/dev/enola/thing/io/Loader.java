@@ -18,44 +18,149 @@
 package dev.enola.thing.io;
 
 import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 
+import dev.enola.common.concurrent.Executors;
+import dev.enola.common.concurrent.UncheckedInterruptedException;
 import dev.enola.common.convert.ConversionException;
 import dev.enola.common.convert.ConverterInto;
 import dev.enola.common.function.MoreStreams;
+import dev.enola.thing.KIRI;
 import dev.enola.thing.Thing;
+import dev.enola.thing.impl.OnlyIRIThing;
 import dev.enola.thing.repo.ThingMemoryRepositoryROBuilder;
+import dev.enola.thing.repo.ThingRepository;
 import dev.enola.thing.repo.ThingRepositoryStore;
 
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 
+/**
+ * Loader loads Things from resources into a {@link ThingRepositoryStore}.
+ *
+ * <p>With a parallelism of 1 (the default), resources are loaded one after the other, directly into
+ * the store. With a higher parallelism, up to that many resources are loaded concurrently (on
+ * virtual threads) each into its own temporary staging repository. Those are then stored into the
+ * store in the order of the input stream, on the calling thread; so the store itself does not need
+ * to be thread-safe, its {@link dev.enola.data.Trigger}s run on the calling thread, and the result
+ * is deterministic. Converters build on what is already in the store, which they cannot see while
+ * staging; so a staged Thing which is already in the store by then is merged into it the same way
+ * that converters do, when loading directly into the store: starting from {@link
+ * ThingRepositoryStore#getBuilder(String)}, the resource's properties replace those of the existing
+ * Thing, except for its {@link KIRI.E#ORIGIN}s, which are added. The result is thus the same as
+ * with a parallelism of 1, without parsing any resource twice. Failures to load a resource do not
+ * stop loading other resources; they are all collected and thrown as one {@link
+ * ConversionException} at the end.
+ */
 public class Loader implements ConverterInto<Stream<URI>, ThingRepositoryStore> {
 
     // TODO Move Glob-based loading from CommandWithModel into here!
 
-    // TODO Load resources multithreaded, in parallel...
-
     private static final Logger LOG = LoggerFactory.getLogger(Loader.class);
 
     private final UriIntoThingConverters uriIntoThingConverters;
+    private final int parallelism;
 
-    public Loader(UriIntoThingConverters uriIntoThingConverters) {
+    public Loader(UriIntoThingConverters uriIntoThingConverters, int parallelism) {
+        if (parallelism < 1)
+            throw new IllegalArgumentException("parallelism must be >= 1: " + parallelism);
         this.uriIntoThingConverters = uriIntoThingConverters;
+        this.parallelism = parallelism;
+    }
+
+    public Loader(UriIntoThingConverters uriIntoThingConverters) {
+        this(uriIntoThingConverters, 1);
     }
 
     @Override
     public boolean convertInto(Stream<URI> stream, ThingRepositoryStore store)
             throws ConversionException, IOException {
 
-        MoreStreams.forEach(stream, resource -> load(resource, store));
+        if (parallelism == 1) MoreStreams.forEach(stream, resource -> load(resource, store));
+        else loadInParallel(stream, store);
         // TODO Should check if at least one URI successfully loaded anything?
         return true;
     }
 
+    private void loadInParallel(Stream<URI> stream, ThingRepositoryStore store) {
+        var failures = new ArrayList<Throwable>();
+        try (var executor = Executors.newListeningVirtualThreadPerTaskExecutor("Loader", LOG)) {
+            // This "window" of in-flight resources provides back-pressure, and the ordering
+            var window = new ArrayDeque<Staged>(parallelism);
+            var iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                if (window.size() == parallelism) merge(window.removeFirst(), store, failures);
+                window.addLast(stage(iterator.next(), executor));
+            }
+            while (!window.isEmpty()) merge(window.removeFirst(), store, failures);
+        }
+
+        if (!failures.isEmpty()) {
+            var exception =
+                    new ConversionException(
+                            "Failed to load " + failures.size() + " resource/s",
+                            failures.getFirst());
+            for (var failure : failures.subList(1, failures.size()))
+                exception.addSuppressed(failure);
+            throw exception;
+        }
+    }
+
+    private record Staged(URI uri, ListenableFuture<ThingRepository> future) {}
+
+    private Staged stage(URI uri, ListeningExecutorService executor) {
+        return new Staged(
+                uri,
+                executor.submit(
+                        () -> {
+                            var staging = new ThingMemoryRepositoryROBuilder();
+                            load(uri, staging);
+                            return staging.build();
+                        }));
+    }
+
+    private void merge(Staged staged, ThingRepositoryStore store, List<Throwable> failures) {
+        ThingRepository staging;
+        try {
+            staging = staged.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedInterruptedException(e);
+        } catch (ExecutionException e) {
+            LOG.error("Failed to load {}", staged.uri, e.getCause());
+            failures.add(new ConversionException("Failed to load " + staged.uri, e.getCause()));
+            return;
+        }
+        for (var thing : staging.list()) store.store(merge(store.get(thing.iri()), thing));
+    }
+
+    /** Merges a staged Thing into the existing one; see the class documentation. */
+    @SuppressWarnings("Immutable") // Objects of Things are immutable
+    private static Thing merge(@Nullable Thing existing, Thing staged) {
+        if (existing == null || existing instanceof OnlyIRIThing) return staged;
+        var builder = existing.copy();
+        for (var predicateIRI : staged.predicateIRIs()) {
+            Object object = staged.get(predicateIRI);
+            var datatype = staged.datatype(predicateIRI);
+            if (KIRI.E.ORIGIN.equals(predicateIRI) && object instanceof Iterable<?> origins)
+                builder.addAll(predicateIRI, origins, datatype);
+            else if (KIRI.E.ORIGIN.equals(predicateIRI))
+                builder.add(predicateIRI, object, datatype);
+            else builder.set(predicateIRI, object, datatype);
+        }
+        return builder.build();
+    }
+
     public boolean load(String uri, ThingRepositoryStore store) throws IOException {
         return load(URI.create(uri), store);
     }
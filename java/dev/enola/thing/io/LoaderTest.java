@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.io;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.common.context.testlib.TestTLCRule;
+import dev.enola.common.convert.ConversionException;
+import dev.enola.thing.KIRI;
+import dev.enola.thing.impl.ImmutableThing;
+import dev.enola.thing.java.TBF;
+import dev.enola.thing.repo.ThingMemoryRepositoryRW;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.net.URI;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class LoaderTest {
+
+    public @Rule TestTLCRule tlcRule = TestTLCRule.of(TBF.class, ImmutableThing.FACTORY);
+
+    private static final String THING_IRI = "https://example.org/thing";
+    private static final String GROUP_IRI = "https://example.org/group/";
+    private static final String LABEL_IRI = "https://example.org/label";
+    private static final String LIST_IRI = "https://example.org/list";
+
+    private final UriIntoThingConverters converters =
+            new UriIntoThingConverters(
+                    (uri, into) -> {
+                        if (uri.toString().equals("test:fail"))
+                            throw new ConversionException("Boom: " + uri);
+                        var n = Integer.parseInt(uri.getSchemeSpecificPart());
+
+                        // Each resource has its own Thing...
+                        var own = into.getBuilder("https://example.org/" + n);
+                        own.set(LABEL_IRI, uri.toString());
+                        into.store(own.build());
+
+                        // ...contributes to one of a few groups...
+                        var group = into.getBuilder(GROUP_IRI + n % 3);
+                        group.set(LIST_IRI, ImmutableList.of("z" + n, "a" + n));
+                        group.add(KIRI.E.ORIGIN, uri);
+                        into.store(group.build());
+
+                        // ...and to a Thing which all of them have
+                        var builder = into.getBuilder(THING_IRI);
+                        builder.set(LABEL_IRI, uri.toString());
+                        builder.set(LIST_IRI, ImmutableList.of("z" + n, "a" + n));
+                        builder.add(KIRI.E.ORIGIN, uri);
+                        into.store(builder.build());
+                        return true;
+                    });
+
+    private Stream<URI> uris() {
+        return IntStream.range(0, 50).mapToObj(i -> URI.create("test:" + i));
+    }
+
+    @Test
+    public void parallelIsSameAsSequential() {
+        var sequential = new ThingMemoryRepositoryRW();
+        new Loader(converters).convertIntoOrThrow(uris(), sequential);
+
+        var parallel = new ThingMemoryRepositoryRW();
+        new Loader(converters, 7).convertIntoOrThrow(uris(), parallel);
+
+        assertThat(parallel.list()).hasSize(50 + 3 + 1);
+        assertThat(parallel.list()).containsExactlyElementsIn(sequential.list());
+
+        var thing = parallel.get(THING_IRI);
+        assertThat(thing.getString(LABEL_IRI)).isEqualTo("test:49");
+        assertThat((Object) thing.get(LIST_IRI)).isEqualTo(ImmutableList.of("z49", "a49"));
+        assertThat(thing.getLinks(KIRI.E.ORIGIN)).hasSize(50);
+
+        var group = parallel.get(GROUP_IRI + 1);
+        assertThat((Object) group.get(LIST_IRI)).isEqualTo(ImmutableList.of("z49", "a49"));
+        assertThat(group.getLinks(KIRI.E.ORIGIN)).hasSize(17);
+    }
+
+    @Test
+    public void parallelCollectsFailures() {
+        var store = new ThingMemoryRepositoryRW();
+        var uris = Stream.of("test:1", "test:fail", "test:2", "test:fail").map(URI::create);
+        var loader = new Loader(converters, 2);
+
+        var e = assertThrows(ConversionException.class, () -> loader.convertInto(uris, store));
+        assertThat(e.getSuppressed()).hasLength(1);
+        assertThat(store.get(THING_IRI).getString(LABEL_IRI)).isEqualTo("test:2");
+    }
+}
@@ -56,6 +56,10 @@ public class ThingMediaTypes implements MediaTypeProvider {
     public static final MediaType THING_HTML_UTF_8 =
             MediaType.create("text", THING_SUBTYPE + "+html").withCharset(StandardCharsets.UTF_8);
 
+    /** Compact binary format, see {@link BinaryThingsWriter} and {@link BinaryThingsReader}. */
+    public static final MediaType THING_BINARY =
+            MediaType.create("application", THING_SUBTYPE + "+binary");
+
     @Override
     public Map<MediaType, Set<MediaType>> knownTypesWithAlternatives() {
         return ImmutableMap.of(
@@ -68,6 +72,8 @@ public class ThingMediaTypes implements MediaTypeProvider {
                 THING_YAML_UTF_8,
                 emptySet(),
                 THING_HTML_UTF_8,
+                emptySet(),
+                THING_BINARY,
                 emptySet());
     }
 
@@ -83,6 +89,8 @@ public class ThingMediaTypes implements MediaTypeProvider {
                 ".thing.yaml",
                 THING_YAML_UTF_8,
                 ".thing.html",
-                THING_HTML_UTF_8);
+                THING_HTML_UTF_8,
+                ".thing.bin",
+                THING_BINARY);
     }
 }
@@ -56,4 +56,11 @@ public class ThingMediaTypesTest {
         var resource = rp.getResource(new URI("file:/picasso.thing.yaml"));
         assertThat(resource.mediaType()).isEqualTo(ThingMediaTypes.THING_YAML_UTF_8);
     }
+
+    @Test
+    public void thingBinary() throws URISyntaxException {
+        var rp = new ResourceProviders(new FileResource.Provider());
+        var resource = rp.getResource(new URI("file:/picasso.thing.bin"));
+        assertThat(resource.mediaType().is(ThingMediaTypes.THING_BINARY)).isTrue();
+    }
 }
@@ -46,6 +46,9 @@ public class JavaThingToProtoThingConverter
     @Override
     public dev.enola.thing.proto.Thing.Builder convert(dev.enola.thing.Thing javaThing)
             throws ConversionException {
+        if (javaThing instanceof ProtoBackedThing protoBackedThing)
+            return protoBackedThing.toProto().toBuilder();
+
         var protoBuilder = dev.enola.thing.proto.Thing.newBuilder();
         protoBuilder.setIri(javaThing.iri());
         java2proto(protoBuilder, javaThing);
@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.message;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.errorprone.annotations.ThreadSafe;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import dev.enola.datatype.DatatypeRepository;
+import dev.enola.thing.impl.LazyThing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LazyProtoThing is a {@link dev.enola.thing.Thing} view of a {@link dev.enola.thing.proto.Thing},
+ * which converts each property only when it is first accessed, and then caches it.
+ *
+ * <p>The properties are the same as those {@link ProtoThingIntoJavaThingBuilderConverter} (which
+ * converts all properties upfront) would produce. This is unlike {@link ThingAdapter}, which
+ * converts every time a property is accessed.
+ */
+@ThreadSafe
+public final class LazyProtoThing extends LazyThing implements ProtoBackedThing {
+
+    public static LazyProtoThing parseFrom(ByteString bytes, DatatypeRepository datatypeRepository)
+            throws InvalidProtocolBufferException {
+        return new LazyProtoThing(dev.enola.thing.proto.Thing.parseFrom(bytes), datatypeRepository);
+    }
+
+    public static LazyProtoThing parseFrom(byte[] bytes, DatatypeRepository datatypeRepository)
+            throws InvalidProtocolBufferException {
+        return new LazyProtoThing(dev.enola.thing.proto.Thing.parseFrom(bytes), datatypeRepository);
+    }
+
+    private final dev.enola.thing.proto.Thing proto;
+
+    @SuppressWarnings("Immutable") // Holds only the (immutable) DatatypeRepository
+    private final ProtoThingIntoJavaThingBuilderConverter converter;
+
+    @SuppressWarnings("Immutable") // Only ever caches objects converted from the (immutable) proto
+    private final Map<String, Object> converted = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("Immutable") // Only ever set once, by predicateIRIs()
+    private volatile @Nullable ImmutableSet<String> predicateIRIs;
+
+    public LazyProtoThing(
+            dev.enola.thing.proto.Thing proto, DatatypeRepository datatypeRepository) {
+        super(proto.getIri());
+        this.proto = proto;
+        this.converter = new ProtoThingIntoJavaThingBuilderConverter(datatypeRepository);
+    }
+
+    @Override
+    public dev.enola.thing.proto.Thing toProto() {
+        return proto;
+    }
+
+    @Override
+    public ImmutableSet<String> predicateIRIs() {
+        var predicateIRIs = this.predicateIRIs;
+        if (predicateIRIs == null)
+            this.predicateIRIs =
+                    predicateIRIs = ImmutableSet.copyOf(proto.getPropertiesMap().keySet());
+        return predicateIRIs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> @Nullable T get(String predicateIRI) {
+        var value = proto.getPropertiesMap().get(predicateIRI);
+        if (value == null) return null;
+        return (T) converted.computeIfAbsent(predicateIRI, iri -> converter.object(iri, value));
+    }
+
+    @Override
+    public @Nullable String datatype(String predicateIRI) {
+        var value = proto.getPropertiesMap().get(predicateIRI);
+        if (value == null) return null;
+        return converter.datatype(value);
+    }
+
+    @Override
+    protected ImmutableMap<String, Object> decodeProperties() {
+        var predicateIRIs = predicateIRIs();
+        var builder = ImmutableMap.<String, Object>builderWithExpectedSize(predicateIRIs.size());
+        for (var predicateIRI : predicateIRIs) {
+            Object object = get(predicateIRI);
+            if (object != null) builder.put(predicateIRI, object);
+        }
+        return builder.build();
+    }
+
+    @Override
+    protected ImmutableMap<String, String> decodeDatatypes() {
+        var builder = ImmutableMap.<String, String>builder();
+        for (var entry : proto.getPropertiesMap().entrySet()) {
+            var datatypeIRI = converter.datatype(entry.getValue());
+            if (datatypeIRI != null) builder.put(entry.getKey(), datatypeIRI);
+        }
+        return builder.build();
+    }
+}
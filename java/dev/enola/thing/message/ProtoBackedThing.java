@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.message;
+
+import dev.enola.thing.Thing;
+
+/**
+ * ProtoBackedThing is a {@link Thing} which is a view of a {@link dev.enola.thing.proto.Thing}.
+ *
+ * <p>{@link JavaThingToProtoThingConverter} returns its {@link #toProto()} as-is, instead of
+ * converting each of its properties back into a proto.
+ */
+public interface ProtoBackedThing extends Thing {
+
+    /** The proto Thing which this Thing is a view of. */
+    dev.enola.thing.proto.Thing toProto();
+}
@@ -31,6 +31,8 @@ import dev.enola.thing.Thing.Builder;
 import dev.enola.thing.proto.ThingOrBuilder;
 import dev.enola.thing.proto.Value;
 
+import org.jspecify.annotations.Nullable;
+
 import java.io.IOException;
 
 /**
@@ -59,24 +61,43 @@ public class ProtoThingIntoJavaThingBuilderConverter
         for (var entry : from.getPropertiesMap().entrySet()) {
             var iri = entry.getKey();
             var value = entry.getValue();
-            if (Value.KindCase.KIND_NOT_SET.equals(value.getKindCase()))
-                throw new IllegalArgumentException(iri);
-
-            if (dev.enola.thing.proto.Value.KindCase.LITERAL.equals(value.getKindCase())) {
-                var datatypeValue = value.getLiteral().getValue();
-                var datatypeIRI = value.getLiteral().getDatatype();
-                var datatype = datatypeRepository.get(datatypeIRI);
-                if (datatype != null) {
-                    Object object = datatype.stringConverter().convertFrom(datatypeValue);
-                    into.set(iri, object, datatypeIRI);
-                } else into.set(iri, new Literal(datatypeValue, datatypeIRI));
-            } else {
-                into.set(iri, object(value));
-            }
+            var object = object(iri, value);
+            var datatypeIRI = datatype(value);
+            if (datatypeIRI != null) into.set(iri, object, datatypeIRI);
+            else into.set(iri, object);
         }
         return true;
     }
 
+    /**
+     * Converts the value of a single property. This is what {@link #convertInto(ThingOrBuilder,
+     * Builder)} does for each property; it's exposed for {@link LazyProtoThing}.
+     */
+    Object object(String iri, Value value) throws ConversionException {
+        if (Value.KindCase.KIND_NOT_SET.equals(value.getKindCase()))
+            throw new IllegalArgumentException(iri);
+
+        if (Value.KindCase.LITERAL.equals(value.getKindCase())) {
+            var datatypeValue = value.getLiteral().getValue();
+            var datatypeIRI = value.getLiteral().getDatatype();
+            var datatype = datatypeRepository.get(datatypeIRI);
+            if (datatype != null) return datatype.stringConverter().convertFrom(datatypeValue);
+            // Like Thing.Builder.set() does with a Literal; datatype() returns its IRI
+            else return datatypeValue;
+        } else {
+            return object(value);
+        }
+    }
+
+    /**
+     * Datatype IRI of the value of a single property, if it is a literal. (The value of a literal
+     * of a Datatype which is not known to the {@link DatatypeRepository} is its String.)
+     */
+    @Nullable String datatype(Value value) {
+        if (!Value.KindCase.LITERAL.equals(value.getKindCase())) return null;
+        return value.getLiteral().getDatatype();
+    }
+
     private Object object(Value protoThingValue) {
         switch (protoThingValue.getKindCase()) {
             case STRING:
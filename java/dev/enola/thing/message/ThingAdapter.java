@@ -31,7 +31,7 @@ import dev.enola.thing.impl.ImmutableThing;
  * "wraps" whereas that one "converts".
  */
 @ThreadSafe
-public final class ThingAdapter extends PredicatesObjectsAdapter implements Thing {
+public final class ThingAdapter extends PredicatesObjectsAdapter implements ProtoBackedThing {
 
     public ThingAdapter(dev.enola.thing.proto.Thing proto) {
         this(proto, DatatypeRepository.CTX);
@@ -46,6 +46,11 @@ public final class ThingAdapter extends PredicatesObjectsAdapter implements Thin
         return proto.getIri();
     }
 
+    @Override
+    public dev.enola.thing.proto.Thing toProto() {
+        return proto;
+    }
+
     @Override
     @SuppressWarnings("Immutable") // TODO Remove when switching to (TBD) PredicatesObjects.Visitor
     public Thing.Builder<? extends Thing> copy() {
@@ -44,7 +44,7 @@ import java.time.LocalDate;
 
 /**
  * Tests for {@link JavaThingToProtoThingConverter} and {@link ThingAdapter} and {@link
- * ProtoThingIntoJavaThingBuilderConverter}.
+ * ProtoThingIntoJavaThingBuilderConverter} and {@link LazyProtoThing}.
  */
 public class ThingConvertersTest {
 
@@ -67,6 +67,11 @@ public class ThingConvertersTest {
         var outProtoThing =
                 new JavaThingToProtoThingConverter(datatypeRepo).convert(javaThing).build();
         assertThat(outProtoThing).isEqualTo(inProtoThing);
+        outProtoThing =
+                new JavaThingToProtoThingConverter(datatypeRepo)
+                        .convert(javaThing.copy().build())
+                        .build();
+        assertThat(outProtoThing).isEqualTo(inProtoThing);
 
         var pt2jtC = new ProtoThingIntoJavaThingBuilderConverter(datatypeRepo);
         var javaThingBuilder = ImmutableThing.builder();
@@ -75,6 +80,13 @@ public class ThingConvertersTest {
         checkDateDatatype(javaThing);
         outProtoThing = new JavaThingToProtoThingConverter(datatypeRepo).convert(javaThing).build();
         assertThat(outProtoThing).isEqualTo(inProtoThing);
+
+        var lazyThing = new LazyProtoThing(inProtoThing, datatypeRepo);
+        checkDateDatatype(lazyThing);
+        assertThat(lazyThing).isEqualTo(javaThing);
+        assertThat(lazyThing.hashCode()).isEqualTo(javaThing.hashCode());
+        outProtoThing = new JavaThingToProtoThingConverter(datatypeRepo).convert(lazyThing).build();
+        assertThat(outProtoThing).isEqualTo(inProtoThing);
     }
 
     private void checkDateDatatype(dev.enola.thing.Thing javaThing) {
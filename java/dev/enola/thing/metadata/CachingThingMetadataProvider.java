@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.metadata;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import dev.enola.common.io.metadata.Metadata;
+import dev.enola.data.Trigger;
+import dev.enola.data.iri.NamespaceConverter;
+import dev.enola.thing.Thing;
+import dev.enola.thing.repo.ThingProvider;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ThingMetadataProvider} which caches the {@link Metadata} of IRIs, as well as what Things
+ * "inherit" from their {@link dev.enola.thing.KIRI.RDF#TYPE} and {@link
+ * dev.enola.thing.KIRI.RDFS#RANGE} (emoji, image, label and label property); so that e.g. rendering
+ * many links to Things of the same class looks up that class only once.
+ *
+ * <p>Both caches are bounded in size. This is a {@link Trigger}; register it with a repository
+ * which changes, so that it invalidates what it cached about updated Things (or call {@link
+ * #invalidate(String)} directly). Without that, it must only be used with a repository that no
+ * longer changes.
+ */
+public final class CachingThingMetadataProvider extends ThingMetadataProvider
+        implements Trigger<Thing> {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final LoadingCache<String, Metadata> metadata;
+    private final LoadingCache<String, TypeMetadata> types;
+
+    // IRIs ever used as a type or range; not just those (still) in the cache, because of eviction
+    private final Set<String> typeIRIs = ConcurrentHashMap.newKeySet();
+
+    public CachingThingMetadataProvider(ThingProvider tp, NamespaceConverter ns, long maximumSize) {
+        super(tp, ns);
+        this.metadata =
+                CacheBuilder.newBuilder()
+                        .maximumSize(maximumSize)
+                        .recordStats()
+                        .build(CacheLoader.from(iri -> super.get(iri)));
+        this.types =
+                CacheBuilder.newBuilder()
+                        .maximumSize(maximumSize)
+                        .recordStats()
+                        .build(
+                                CacheLoader.from(
+                                        iri -> {
+                                            typeIRIs.add(iri);
+                                            var type = super.getTypeMetadata(iri);
+                                            return TypeMetadata.snapshot(type);
+                                        }));
+    }
+
+    public CachingThingMetadataProvider(ThingProvider tp, NamespaceConverter ns) {
+        this(tp, ns, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    @Override
+    public Metadata get(String iri) {
+        return get(metadata, iri);
+    }
+
+    @Override
+    TypeMetadata getTypeMetadata(String typeIRI) {
+        // Types which (indirectly) are their own type must not recursively load themselves
+        if (isResolvingEmoji(typeIRI)) return TypeMetadata.NONE;
+        return get(types, typeIRI);
+    }
+
+    private static <V> V get(LoadingCache<String, V> cache, String iri) {
+        try {
+            return cache.getUnchecked(iri);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /** Statistics of the cache of {@link Metadata} by IRI. */
+    public CacheStats metadataStats() {
+        return metadata.stats();
+    }
+
+    /** Statistics of the cache of what is "inherited" from types and ranges. */
+    public CacheStats typeStats() {
+        return types.stats();
+    }
+
+    /**
+     * Invalidates what is cached about the Thing with this IRI.
+     *
+     * <p>If it was used as a type or range, then the Metadata of all IRIs is invalidated, because
+     * any of them may have "inherited" from it.
+     */
+    public void invalidate(String iri) {
+        metadata.invalidate(iri);
+        if (typeIRIs.contains(iri)) invalidateAll();
+    }
+
+    public void invalidateAll() {
+        types.invalidateAll();
+        metadata.invalidateAll();
+    }
+
+    @Override
+    public boolean handles(Object object) {
+        return object instanceof Thing;
+    }
+
+    @Override
+    public void updated(@Nullable Thing existing, Thing update) {
+        invalidate(update.iri());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.metadata;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.common.context.testlib.EnolaTestTLCRules;
+import dev.enola.common.context.testlib.TestTLCRule;
+import dev.enola.data.iri.NamespaceConverterIdentity;
+import dev.enola.thing.KIRI;
+import dev.enola.thing.Link;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
+import dev.enola.thing.repo.ThingMemoryRepositoryRW;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+public class CachingThingMetadataProviderTest {
+
+    @Rule public TestTLCRule rlcRule = EnolaTestTLCRules.BASIC;
+
+    private static final String CLASS_IRI = "https://example.org/Class";
+
+    private ThingMemoryRepositoryRW repo;
+
+    private final CachingThingMetadataProvider provider =
+            new CachingThingMetadataProvider(
+                    iri -> repo.get(iri), new NamespaceConverterIdentity());
+
+    @Test
+    public void cachesTypesAndInvalidates() {
+        repo = new ThingMemoryRepositoryRW(ImmutableList.of(provider));
+        repo.store(type("🦄"));
+        repo.store(instance("https://example.org/a"));
+        repo.store(instance("https://example.org/b"));
+
+        assertThat(provider.get("https://example.org/a").emoji()).isEqualTo("🦄");
+        assertThat(provider.get("https://example.org/b").emoji()).isEqualTo("🦄");
+        assertThat(provider.get("https://example.org/a").emoji()).isEqualTo("🦄");
+        assertThat(provider.typeStats().loadCount()).isEqualTo(1);
+        assertThat(provider.metadataStats().hitCount()).isEqualTo(1);
+
+        repo.store(type("🐉"));
+        assertThat(provider.get("https://example.org/a").emoji()).isEqualTo("🐉");
+        assertThat(provider.get("https://example.org/b").emoji()).isEqualTo("🐉");
+    }
+
+    @Test
+    public void typeCycle() {
+        repo = new ThingMemoryRepositoryRW(ImmutableList.of(provider));
+        repo.store(typed("https://example.org/A", "https://example.org/B"));
+        repo.store(typed("https://example.org/B", "https://example.org/A"));
+        repo.store(typed("https://example.org/a", "https://example.org/A"));
+
+        assertThat(provider.get("https://example.org/a").emoji()).isEmpty();
+        assertThat(provider.get("https://example.org/B").emoji()).isEmpty();
+    }
+
+    private Thing typed(String iri, String typeIRI) {
+        return ImmutableThing.builder().iri(iri).set(KIRI.RDF.TYPE, new Link(typeIRI)).build();
+    }
+
+    private Thing type(String emoji) {
+        return ImmutableThing.builder().iri(CLASS_IRI).set(KIRI.E.EMOJI, emoji).build();
+    }
+
+    private Thing instance(String iri) {
+        return ImmutableThing.builder().iri(iri).set(KIRI.RDF.TYPE, new Link(CLASS_IRI)).build();
+    }
+}
@@ -33,7 +33,8 @@ import org.slf4j.LoggerFactory;
 
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.function.Function;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * {@link MetadataProvider} implementation based on looking at {@link Things}s obtained via {@link
@@ -51,6 +52,9 @@ public class ThingMetadataProvider implements MetadataProvider<Thing> {
     private final ThingProvider tp;
     private final NamespaceConverter ns;
 
+    // IRIs of the types whose emoji is being resolved by the current thread
+    private final ThreadLocal<Set<String>> resolvingEmoji = ThreadLocal.withInitial(HashSet::new);
+
     public ThingMetadataProvider(ThingProvider tp, NamespaceConverter ns) {
         this.tp = tp;
         this.ns = ns;
@@ -105,10 +109,10 @@ public class ThingMetadataProvider implements MetadataProvider<Thing> {
         var label = getLabel_(thing);
         if (label != null) return label;
 
-        label = getAlternative(thing, KIRI.RDF.TYPE, type -> getLabelViaProperty(thing, type));
+        label = getLabelViaProperty(thing, viaType(thing, KIRI.RDF.TYPE).labelProperty());
         if (label != null) return label;
 
-        label = getAlternative(thing, KIRI.RDFS.RANGE, range -> getLabel_(range));
+        label = viaType(thing, KIRI.RDFS.RANGE).label();
         if (label != null) return label;
 
         if (!curie.equals(fallbackIRI)) return curie;
@@ -127,9 +131,9 @@ public class ThingMetadataProvider implements MetadataProvider<Thing> {
         }
     }
 
-    private @Nullable String getLabelViaProperty(@Nullable Thing thing, Thing type) {
+    private @Nullable String getLabelViaProperty(
+            @Nullable Thing thing, @Nullable String typesLabelProperty) {
         if (thing == null) return null;
-        var typesLabelProperty = type.getString(KIRI.E.LABEL_PROPERTY);
         if (typesLabelProperty == null) return null;
         return thing.getString(typesLabelProperty);
     }
@@ -201,18 +205,18 @@ public class ThingMetadataProvider implements MetadataProvider<Thing> {
         var emoji = getString(thing, KIRI.E.EMOJI);
         if (emoji != null) return emoji;
 
-        emoji = getAlternative(thing, KIRI.RDFS.RANGE, range -> getEmoji_(range));
+        emoji = viaType(thing, KIRI.RDFS.RANGE).emoji();
         if (emoji != null) return emoji;
 
-        emoji = getAlternative(thing, KIRI.RDF.TYPE, type -> getEmoji_(type));
+        emoji = viaType(thing, KIRI.RDF.TYPE).emoji();
         return emoji;
     }
 
     private @Nullable String getImageURL_(Thing thing) {
-        var imageURL = getAlternative(thing, KIRI.RDFS.RANGE, range -> getImageURL__(range));
+        var imageURL = viaType(thing, KIRI.RDFS.RANGE).imageURL();
         if (imageURL != null) return imageURL;
 
-        imageURL = getAlternative(thing, KIRI.RDF.TYPE, type -> getImageURL__(type));
+        imageURL = viaType(thing, KIRI.RDF.TYPE).imageURL();
         return imageURL;
     }
 
@@ -234,17 +238,95 @@ public class ThingMetadataProvider implements MetadataProvider<Thing> {
         return "<img src=\"" + imageURL + "\" style=\"max-height: 1em;\">";
     }
 
-    private @Nullable String getAlternative(
-            Thing thing, String viaPropertyIRI, Function<Thing, String> alt) {
-        var alternativeThingIRI = getString(thing, viaPropertyIRI);
-        if (alternativeThingIRI != null && !alternativeThingIRI.equals(thing.iri())) {
-            var alternativeThing = tp.get(alternativeThingIRI);
-            if (alternativeThing != null) {
-                var alternativeSource = alt.apply(alternativeThing);
-                return alternativeSource;
+    /**
+     * Metadata of a Thing which other Things refer to as their {@link KIRI.RDF#TYPE} or {@link
+     * KIRI.RDFS#RANGE}, and "inherit" some of their metadata from.
+     */
+    interface TypeMetadata {
+        @Nullable String label();
+
+        @Nullable String labelProperty();
+
+        @Nullable String emoji();
+
+        @Nullable String imageURL();
+
+        TypeMetadata NONE = new Snapshot(null, null, null, null);
+
+        /** Computes all of the (otherwise possibly lazily computed) TypeMetadata. */
+        static TypeMetadata snapshot(TypeMetadata metadata) {
+            return new Snapshot(
+                    metadata.label(),
+                    metadata.labelProperty(),
+                    metadata.emoji(),
+                    metadata.imageURL());
+        }
+
+        record Snapshot(
+                @Nullable String label,
+                @Nullable String labelProperty,
+                @Nullable String emoji,
+                @Nullable String imageURL)
+                implements TypeMetadata {}
+    }
+
+    /** TypeMetadata which only computes what is actually used, e.g. not the emoji for a label. */
+    private final class LazyTypeMetadata implements TypeMetadata {
+        private final Thing type;
+
+        LazyTypeMetadata(Thing type) {
+            this.type = type;
+        }
+
+        @Override
+        public @Nullable String label() {
+            return getLabel_(type);
+        }
+
+        @Override
+        public @Nullable String labelProperty() {
+            return type.getString(KIRI.E.LABEL_PROPERTY);
+        }
+
+        @Override
+        public @Nullable String emoji() {
+            // The emoji of a type may be inherited from its type, which could (indirectly) be
+            // itself; so where that cycles, nothing more is inherited.
+            var resolving = resolvingEmoji.get();
+            if (!resolving.add(type.iri())) return null;
+            try {
+                return getEmoji_(type);
+            } finally {
+                resolving.remove(type.iri());
             }
         }
-        return null;
+
+        @Override
+        public @Nullable String imageURL() {
+            return getImageURL__(type);
+        }
+    }
+
+    /** Returns whether the emoji of this type is currently being resolved, on this thread. */
+    final boolean isResolvingEmoji(String typeIRI) {
+        return resolvingEmoji.get().contains(typeIRI);
+    }
+
+    private TypeMetadata viaType(@Nullable Thing thing, String viaPropertyIRI) {
+        if (thing == null) return TypeMetadata.NONE;
+        var typeIRI = getString(thing, viaPropertyIRI);
+        if (typeIRI == null || typeIRI.equals(thing.iri())) return TypeMetadata.NONE;
+        return getTypeMetadata(typeIRI);
+    }
+
+    /**
+     * Returns the (lazily computed) TypeMetadata of a type; subclasses may override this to cache
+     * it, see {@link CachingThingMetadataProvider}.
+     */
+    TypeMetadata getTypeMetadata(String typeIRI) {
+        var type = tp.get(typeIRI);
+        if (type == null) return TypeMetadata.NONE;
+        return new LazyTypeMetadata(type);
     }
 
     private @Nullable String getString(@Nullable Thing thing, String propertyIRI) {
@@ -30,6 +30,7 @@ import dev.enola.data.iri.NamespaceConverterIdentity;
 import dev.enola.rdf.io.RdfLoader;
 import dev.enola.rdf.io.RdfMediaTypes;
 import dev.enola.thing.KIRI;
+import dev.enola.thing.Link;
 import dev.enola.thing.Thing;
 import dev.enola.thing.impl.ImmutableThing;
 import dev.enola.thing.repo.ThingMemoryRepositoryRW;
@@ -120,6 +121,28 @@ public class ThingMetadataProviderTest {
         assertThat(meta.imageHTML()).isEmpty();
     }
 
+    @Test
+    public void typeCycle() {
+        var repo = new ThingMemoryRepositoryRW();
+        repo.store(typed("https://example.org/A", "https://example.org/B"));
+        repo.store(
+                ImmutableThing.builder()
+                        .iri("https://example.org/B")
+                        .set(KIRI.RDF.TYPE, new Link("https://example.org/A"))
+                        .set(KIRI.E.EMOJI, "🦄")
+                        .build());
+        repo.store(typed("https://example.org/C", "https://example.org/D"));
+        repo.store(typed("https://example.org/D", "https://example.org/C"));
+
+        var provider = new ThingMetadataProvider(repo, NONS);
+        assertThat(provider.get("https://example.org/A").emoji()).isEqualTo("🦄");
+        assertThat(provider.get("https://example.org/C").emoji()).isEmpty();
+    }
+
+    private Thing typed(String iri, String typeIRI) {
+        return ImmutableThing.builder().iri(iri).set(KIRI.RDF.TYPE, new Link(typeIRI)).build();
+    }
+
     @Test
     public void labelOfFileDirectory() {
         var meta = new ThingMetadataProvider(NO_THING_PROVIDER, NONS).get("file:///tmp/");
@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.repo;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.ImmutableCollection;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.errorprone.annotations.Immutable;
+import com.google.errorprone.annotations.ThreadSafe;
+
+import dev.enola.common.string2long.ConcurrentStringToLongBiMap;
+import dev.enola.common.string2long.StringToLongBiMap;
+import dev.enola.data.Trigger;
+import dev.enola.data.Triggers;
+import dev.enola.thing.Link;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.LazyThing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ThingDictionaryRepositoryRW is an in-memory read &amp; write {@link ThingRepositoryStore} which
+ * "dictionary encodes" all IRIs.
+ *
+ * <p>The IRIs of the subjects, predicates, datatypes and {@link Link} objects of all stored Things
+ * are interned into a {@link StringToLongBiMap}, so that each of them is held only once in memory.
+ * Each Thing is then kept as primitive <code>long[]</code> columns of predicate, datatype and link
+ * IDs (plus an array of its literal objects), indexed by the ID of its subject IRI.
+ *
+ * <p>{@link #get(String)} and {@link #list()} "rehydrate" lazy {@link Thing} views, which only
+ * decode the (requested) properties on demand.
+ *
+ * <p>This uses significantly less memory than the {@link ThingMemoryRepositoryRW} for large
+ * repositories, at the cost of slightly slower {@link #get(String)} (and {@link #store(Thing)}).
+ */
+@ThreadSafe
+public class ThingDictionaryRepositoryRW implements ThingRepositoryStore {
+
+    private static final long NONE = -1;
+
+    private final ConcurrentStringToLongBiMap dictionary = ConcurrentStringToLongBiMap.builder();
+    private final Map<Long, EncodedThing> things = new ConcurrentHashMap<>();
+    private final Triggers<Thing> triggers;
+
+    public ThingDictionaryRepositoryRW(ImmutableList<Trigger<? extends Thing>> triggers) {
+        this.triggers = new Triggers<>(triggers);
+    }
+
+    public ThingDictionaryRepositoryRW() {
+        this(ImmutableList.of());
+    }
+
+    @Override
+    @CanIgnoreReturnValue
+    public ThingDictionaryRepositoryRW store(Thing thing) {
+        var subject = dictionary.put(thing.iri());
+        var existing = things.put(subject, encode(thing));
+        if (!triggers.isEmpty()) {
+            var existingThing = existing != null ? new DictionaryThing(subject, existing) : null;
+            triggers.updated(existingThing, thing);
+        }
+        return this;
+    }
+
+    @Override
+    public Iterable<String> listIRI() {
+        return Iterables.transform(things.keySet(), dictionary::get);
+    }
+
+    @Override
+    public Iterable<Thing> list() {
+        return Iterables.transform(
+                things.entrySet(), entry -> new DictionaryThing(entry.getKey(), entry.getValue()));
+    }
+
+    @Override
+    public @Nullable Thing get(String iri) {
+        var subject = id(requireNonNull(iri));
+        if (subject == NONE) return null;
+        var encoded = things.get(subject);
+        if (encoded == null) return null;
+        return new DictionaryThing(iri, encoded);
+    }
+
+    private long id(String iri) {
+        long[] id = {NONE};
+        dictionary.get(
+                iri,
+                new StringToLongBiMap.LongOrStringConsumer() {
+                    @Override
+                    public void longID(long longID) {
+                        id[0] = longID;
+                    }
+
+                    @Override
+                    public void string(String symbol) {}
+                });
+        return id[0];
+    }
+
+    private EncodedThing encode(Thing thing) {
+        var properties = thing.properties();
+        var size = properties.size();
+        var predicates = new long[size];
+        var datatypes = new long[size];
+        var links = new long[size];
+        var objects = new Object[size];
+
+        int i = 0;
+        for (var entry : properties.entrySet()) {
+            var predicateIRI = entry.getKey();
+            var object = entry.getValue();
+            predicates[i] = dictionary.put(predicateIRI);
+
+            var datatypeIRI = thing.datatype(predicateIRI);
+            datatypes[i] = datatypeIRI != null ? dictionary.put(datatypeIRI) : NONE;
+
+            links[i] = NONE;
+            if (object instanceof Link link) links[i] = dictionary.put(link.iri());
+            else objects[i] = encodeObject(object);
+            ++i;
+        }
+        return new EncodedThing(predicates, datatypes, links, objects);
+    }
+
+    private Object encodeObject(Object object) {
+        if (!(object instanceof ImmutableCollection<?> collection) || collection.isEmpty())
+            return object;
+        for (var element : collection) if (!(element instanceof Link)) return object;
+
+        var ids = new long[collection.size()];
+        int i = 0;
+        for (var element : collection) ids[i++] = dictionary.put(((Link) element).iri());
+        return new EncodedLinks(ids, collection instanceof List);
+    }
+
+    private Object decodeObject(EncodedThing encoded, int index) {
+        var link = encoded.links[index];
+        if (link != NONE) return new Link(dictionary.get(link));
+
+        var object = encoded.objects[index];
+        if (object instanceof EncodedLinks encodedLinks) {
+            var builder =
+                    encodedLinks.ordered
+                            ? ImmutableList.<Link>builderWithExpectedSize(encodedLinks.ids.length)
+                            : ImmutableSet.<Link>builderWithExpectedSize(encodedLinks.ids.length);
+            for (var id : encodedLinks.ids) builder.add(new Link(dictionary.get(id)));
+            return builder.build();
+        }
+        return object;
+    }
+
+    /**
+     * The "columns" of a Thing. The arrays all have the same length, one element per predicate. An
+     * object is either a link ID (if not {@link #NONE}), else in the objects array.
+     */
+    @Immutable
+    @SuppressWarnings("Immutable") // Arrays are never modified after construction
+    private record EncodedThing(
+            long[] predicates, long[] datatypes, long[] links, Object[] objects) {}
+
+    /** A collection of only Links; e.g. typically the objects of rdf:type. */
+    @Immutable
+    @SuppressWarnings("Immutable") // Array is never modified after construction
+    private record EncodedLinks(long[] ids, boolean ordered) {}
+
+    @Immutable
+    @ThreadSafe
+    @SuppressWarnings("Immutable") // ThingDictionaryRepositoryRW.this is not, but its IDs are
+    private final class DictionaryThing extends LazyThing {
+
+        private final EncodedThing encoded;
+
+        DictionaryThing(String iri, EncodedThing encoded) {
+            super(iri);
+            this.encoded = encoded;
+        }
+
+        DictionaryThing(long subject, EncodedThing encoded) {
+            this(dictionary.get(subject), encoded);
+        }
+
+        @Override
+        protected ImmutableMap<String, Object> decodeProperties() {
+            var size = encoded.predicates.length;
+            var builder = ImmutableMap.<String, Object>builderWithExpectedSize(size);
+            for (int i = 0; i < size; i++)
+                builder.put(dictionary.get(encoded.predicates[i]), decodeObject(encoded, i));
+            return builder.build();
+        }
+
+        @Override
+        protected ImmutableMap<String, String> decodeDatatypes() {
+            var size = encoded.predicates.length;
+            var builder = ImmutableMap.<String, String>builderWithExpectedSize(size);
+            for (int i = 0; i < size; i++) {
+                var datatype = encoded.datatypes[i];
+                if (datatype != NONE)
+                    builder.put(dictionary.get(encoded.predicates[i]), dictionary.get(datatype));
+            }
+            return builder.build();
+        }
+
+        private int index(String predicateIRI) {
+            var predicate = id(predicateIRI);
+            if (predicate == NONE) return -1;
+            var predicates = encoded.predicates;
+            for (int i = 0; i < predicates.length; i++) if (predicates[i] == predicate) return i;
+            return -1;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> @Nullable T get(String predicateIRI) {
+            var index = index(predicateIRI);
+            if (index == -1) return null;
+            return (T) decodeObject(encoded, index);
+        }
+
+        @Override
+        public @Nullable String datatype(String predicateIRI) {
+            var index = index(predicateIRI);
+            if (index == -1) return null;
+            var datatype = encoded.datatypes[index];
+            return datatype != NONE ? dictionary.get(datatype) : null;
+        }
+    }
+}
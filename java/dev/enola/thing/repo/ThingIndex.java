@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.repo;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+
+import dev.enola.data.Queryable;
+import dev.enola.thing.KIRI;
+import dev.enola.thing.Link;
+import dev.enola.thing.PredicatesObjects;
+import dev.enola.thing.Thing;
+
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ThingIndex maintains secondary indexes of the Things in a {@link ThingRepositoryStore}, and
+ * answers {@link TriplePattern} queries using them.
+ *
+ * <p>It indexes the subject IRIs of all Things by predicate, by object, and by predicate and object
+ * together; so e.g. "all Things of rdf:type X" ({@link #ofType(String)}) and "all Things which link
+ * to Y" ({@link #linksTo(String)}) are lookups instead of scans over all Things. It is a {@link
+ * ThingTrigger}, and must be registered as a trigger of the store (and given it with {@link
+ * #setRepo(ThingRepositoryStore)}), so that it is updated whenever a Thing is stored.
+ *
+ * <p>By default, only {@link Link} objects are indexed, because indexing every literal (such as
+ * every string) would make the index about as large as the store itself; see {@link
+ * #ThingIndex(boolean)}. Patterns with a literal object are then matched by scanning the Things
+ * which have the pattern's predicate (or all Things, if it has none).
+ *
+ * <p>Objects of nested {@link PredicatesObjects} (i.e. "blank nodes") are not indexed.
+ */
+public class ThingIndex extends ThingTrigger<Thing>
+        implements Queryable<String, TriplePattern, Iterable<Thing>> {
+
+    private record PredicateObject(String predicate, Object object) {}
+
+    private final Map<String, Set<String>> byPredicate = new ConcurrentHashMap<>();
+    private final Map<Object, Set<String>> byObject = new ConcurrentHashMap<>();
+    private final Map<PredicateObject, Set<String>> byPredicateObject = new ConcurrentHashMap<>();
+    private final boolean indexLiterals;
+
+    /** Constructor of an index which does not index literal objects. */
+    public ThingIndex() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param indexLiterals whether objects which are not {@link Link}s (e.g. strings) are indexed
+     *     too; this makes matching patterns with such objects faster, but the index much larger
+     */
+    public ThingIndex(boolean indexLiterals) {
+        super(Thing.class);
+        this.indexLiterals = indexLiterals;
+    }
+
+    @Override
+    public synchronized void updated(@Nullable Thing existing, Thing update) {
+        var subject = update.iri();
+        var oldPairs = existing != null ? indexedPairs(existing) : Set.<PredicateObject>of();
+        var newPairs = indexedPairs(update);
+
+        for (var pair : oldPairs) {
+            if (newPairs.contains(pair)) continue;
+            remove(byPredicateObject, pair, subject);
+            remove(byObject, pair.object, subject);
+        }
+        for (var pair : newPairs) {
+            if (oldPairs.contains(pair)) continue;
+            add(byPredicateObject, pair, subject);
+            add(byObject, pair.object, subject);
+        }
+
+        var oldPredicates = existing != null ? existing.predicateIRIs() : Set.<String>of();
+        var newPredicates = update.predicateIRIs();
+        for (var predicate : oldPredicates)
+            if (!newPredicates.contains(predicate)) remove(byPredicate, predicate, subject);
+        for (var predicate : newPredicates)
+            if (!oldPredicates.contains(predicate)) add(byPredicate, predicate, subject);
+    }
+
+    /** IRIs of all Things which have the given rdf:type. */
+    public ImmutableSet<String> ofType(String typeIRI) {
+        return match(new TriplePattern(null, KIRI.RDF.TYPE, new Link(typeIRI)));
+    }
+
+    /** IRIs of all Things which link to the given IRI, with any predicate. */
+    public ImmutableSet<String> linksTo(String iri) {
+        return match(new TriplePattern(null, null, new Link(iri)));
+    }
+
+    /** IRIs of all Things which match the given pattern. */
+    public ImmutableSet<String> match(TriplePattern pattern) {
+        var predicate = pattern.predicate();
+        var object = pattern.object() != null ? normalize(pattern.object()) : null;
+
+        if (pattern.subject() != null) {
+            var thing = repo().get(pattern.subject());
+            if (thing == null || !matches(thing, predicate, object)) return ImmutableSet.of();
+            return ImmutableSet.of(thing.iri());
+        }
+
+        if (object != null && !isIndexed(object)) {
+            Iterable<String> candidates =
+                    predicate != null
+                            ? byPredicate.getOrDefault(predicate, Set.of())
+                            : repo().listIRI();
+            var subjects = ImmutableSet.<String>builder();
+            for (var candidate : candidates) {
+                var thing = repo().get(candidate);
+                if (thing != null && matches(thing, predicate, object)) subjects.add(candidate);
+            }
+            return subjects.build();
+        }
+
+        Set<String> subjects;
+        if (predicate != null && object != null)
+            subjects = byPredicateObject.get(new PredicateObject(predicate, object));
+        else if (predicate != null) subjects = byPredicate.get(predicate);
+        else if (object != null) subjects = byObject.get(object);
+        else return ImmutableSet.copyOf(repo().listIRI());
+        return subjects != null ? ImmutableSet.copyOf(subjects) : ImmutableSet.of();
+    }
+
+    @Override
+    public Iterable<Thing> query(String queryLanguage, TriplePattern pattern) {
+        if (!TriplePattern.LANGUAGE.equals(queryLanguage))
+            throw new IllegalArgumentException("Unsupported query language: " + queryLanguage);
+        var repo = repo();
+        return Iterables.filter(Iterables.transform(match(pattern), repo::get), Objects::nonNull);
+    }
+
+    private ThingRepositoryStore repo() {
+        if (repo == null) throw new IllegalStateException("setRepo() was not called");
+        return repo;
+    }
+
+    private static boolean matches(
+            Thing thing, @Nullable String predicate, @Nullable Object object) {
+        if (predicate != null && object != null)
+            return pairs(thing).contains(new PredicateObject(predicate, object));
+        if (predicate != null && !thing.predicateIRIs().contains(predicate)) return false;
+        if (object != null && pairs(thing).stream().noneMatch(p -> p.object.equals(object)))
+            return false;
+        return true;
+    }
+
+    private boolean isIndexed(Object object) {
+        return indexLiterals || object instanceof Link;
+    }
+
+    private Set<PredicateObject> indexedPairs(Thing thing) {
+        var pairs = pairs(thing);
+        if (!indexLiterals) pairs.removeIf(pair -> !isIndexed(pair.object));
+        return pairs;
+    }
+
+    private static Set<PredicateObject> pairs(Thing thing) {
+        var pairs = new HashSet<PredicateObject>();
+        for (var predicate : thing.predicateIRIs()) {
+            Object object = thing.get(predicate);
+            if (object instanceof Iterable<?> iterable) {
+                for (var element : iterable) add(pairs, predicate, element);
+            } else if (object != null) add(pairs, predicate, object);
+        }
+        return pairs;
+    }
+
+    private static void add(Set<PredicateObject> pairs, String predicate, Object object) {
+        if (object instanceof PredicatesObjects && !(object instanceof Thing)) return;
+        pairs.add(new PredicateObject(predicate, normalize(object)));
+    }
+
+    private static Object normalize(Object object) {
+        if (object instanceof URI uri) return new Link(uri.toString());
+        return object;
+    }
+
+    private static <K> void add(Map<K, Set<String>> index, K key, String subject) {
+        index.compute(
+                key,
+                (k, subjects) -> {
+                    if (subjects == null) subjects = ConcurrentHashMap.newKeySet();
+                    subjects.add(subject);
+                    return subjects;
+                });
+    }
+
+    private static <K> void remove(Map<K, Set<String>> index, K key, String subject) {
+        index.computeIfPresent(
+                key,
+                (k, subjects) -> {
+                    subjects.remove(subject);
+                    return subjects.isEmpty() ? null : subjects;
+                });
+    }
+}
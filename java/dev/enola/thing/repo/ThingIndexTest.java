@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.repo;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.thing.KIRI;
+import dev.enola.thing.Link;
+import dev.enola.thing.impl.ImmutableThing;
+
+import org.junit.Test;
+
+public class ThingIndexTest {
+
+    private static final String TYPE = "https://example.org/Type";
+    private static final String LINK = "https://example.org/link";
+    private static final String NAME = "https://example.org/name";
+
+    private final ThingIndex index = new ThingIndex();
+    private final ThingMemoryRepositoryRW repo =
+            new ThingMemoryRepositoryRW(ImmutableList.of(index));
+
+    {
+        index.setRepo(repo);
+        repo.store(
+                ImmutableThing.builder()
+                        .iri("https://example.org/a")
+                        .add(KIRI.RDF.TYPE, new Link(TYPE))
+                        .set(LINK, new Link("https://example.org/b"))
+                        .set(NAME, "A")
+                        .build());
+        repo.store(ImmutableThing.builder().iri("https://example.org/b").set(NAME, "B").build());
+    }
+
+    @Test
+    public void ofTypeAndLinksTo() {
+        assertThat(index.ofType(TYPE)).containsExactly("https://example.org/a");
+        assertThat(index.linksTo("https://example.org/b")).containsExactly("https://example.org/a");
+        assertThat(index.linksTo("https://example.org/a")).isEmpty();
+    }
+
+    @Test
+    public void match() {
+        assertThat(index.match(new TriplePattern(null, NAME, null)))
+                .containsExactly("https://example.org/a", "https://example.org/b");
+        assertThat(index.match(new TriplePattern(null, NAME, "B")))
+                .containsExactly("https://example.org/b");
+        assertThat(index.match(new TriplePattern(null, null, "A")))
+                .containsExactly("https://example.org/a");
+        assertThat(index.match(new TriplePattern("https://example.org/a", NAME, "A")))
+                .containsExactly("https://example.org/a");
+        assertThat(index.match(new TriplePattern("https://example.org/a", NAME, "B"))).isEmpty();
+        assertThat(index.match(new TriplePattern(null, null, null))).hasSize(2);
+    }
+
+    @Test
+    public void matchWithIndexedLiterals() {
+        var literalsIndex = new ThingIndex(true);
+        var literalsRepo = new ThingMemoryRepositoryRW(ImmutableList.of(literalsIndex));
+        literalsIndex.setRepo(literalsRepo);
+        literalsRepo.storeAll(repo.list());
+
+        assertThat(literalsIndex.match(new TriplePattern(null, NAME, "B")))
+                .containsExactly("https://example.org/b");
+        assertThat(literalsIndex.match(new TriplePattern(null, null, "A")))
+                .containsExactly("https://example.org/a");
+        assertThat(literalsIndex.linksTo("https://example.org/b"))
+                .containsExactly("https://example.org/a");
+    }
+
+    @Test
+    public void query() {
+        var things = index.query(TriplePattern.LANGUAGE, new TriplePattern(null, NAME, "B"));
+        assertThat(things).containsExactly(repo.get("https://example.org/b"));
+    }
+
+    @Test
+    public void update() {
+        repo.store(ImmutableThing.builder().iri("https://example.org/a").set(NAME, "A2").build());
+        assertThat(index.ofType(TYPE)).isEmpty();
+        assertThat(index.linksTo("https://example.org/b")).isEmpty();
+        assertThat(index.match(new TriplePattern(null, null, "A"))).isEmpty();
+        assertThat(index.match(new TriplePattern(null, NAME, "A2")))
+                .containsExactly("https://example.org/a");
+    }
+}
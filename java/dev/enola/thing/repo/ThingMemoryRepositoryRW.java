@@ -36,6 +36,11 @@ import dev.enola.thing.Thing;
 public class ThingMemoryRepositoryRW extends MemoryRepositoryRW<Thing>
         implements ThingRepositoryStore {
 
+    public ThingMemoryRepositoryRW(
+            ImmutableList<Trigger<? extends Thing>> triggers, int triggerParallelism) {
+        super(triggers, triggerParallelism);
+    }
+
     public ThingMemoryRepositoryRW(ImmutableList<Trigger<? extends Thing>> triggers) {
         super(triggers);
     }
@@ -19,13 +19,23 @@ package dev.enola.thing.repo;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+
 import dev.enola.data.Store;
 import dev.enola.thing.*;
 import dev.enola.thing.impl.ImmutableThing;
 import dev.enola.thing.template.TemplateThingRepository;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
 public class ThingRepositoriesTest {
 
     public static final Thing testThing(Thing.Builder<?> builder) {
@@ -69,4 +79,66 @@ public class ThingRepositoriesTest {
         checkThingRepository(readWriteRepoStore);
         checkThingRepository(new TemplateThingRepository(readWriteRepoStore));
     }
+
+    @Test
+    public void dictionaryRepositoryRW() {
+        var readWriteRepoStore = new ThingDictionaryRepositoryRW();
+        checkStore(readWriteRepoStore);
+        checkThingRepository(readWriteRepoStore);
+        checkThingRepository(new TemplateThingRepository(readWriteRepoStore));
+
+        var thing = readWriteRepoStore.get(TEST_THING.iri());
+        assertThat(thing.getString("http://example.com/message")).isEqualTo("hello");
+        assertThat((Object) thing.get("http://example.com/link"))
+                .isEqualTo(new Link("http://example.com"));
+        assertThat(thing.datatype("http://example.com/message")).isNull();
+        assertThat(readWriteRepoStore.get("http://example.com/unknown")).isNull();
+    }
+
+    @Test
+    public void memoryRepositoryRWWithAsyncTriggers() {
+        var versions = new ConcurrentHashMap<String, List<String>>();
+        var trigger =
+                new ThingTrigger<>(Thing.class) {
+                    @Override
+                    public void updated(@Nullable Thing existing, Thing update) {
+                        versions.computeIfAbsent(update.iri(), iri -> new ArrayList<>())
+                                .add(update.getString("http://example.com/version"));
+                    }
+                };
+        try (var repo = new ThingMemoryRepositoryRW(ImmutableList.of(trigger), 4)) {
+            checkStore(repo);
+
+            for (int i = 0; i < 100; i++) {
+                for (int j = 0; j < 10; j++) {
+                    repo.store(
+                            ImmutableThing.builder()
+                                    .iri("http://example.com/" + j)
+                                    .set("http://example.com/version", String.format("%03d", i))
+                                    .build());
+                }
+            }
+            repo.flush();
+
+            assertThat(repo.triggerStats().get().queueDepth()).isEqualTo(0);
+            assertThat(repo.triggerStats().get().dispatched()).isEqualTo(1002);
+            for (int j = 0; j < 10; j++) {
+                assertThat(versions.get("http://example.com/" + j)).hasSize(100);
+                assertThat(versions.get("http://example.com/" + j)).isInOrder();
+            }
+        }
+    }
+
+    @Test
+    public void memoryRepositoryRWCloseStopsAsyncTriggers() {
+        var trigger =
+                new ThingTrigger<>(Thing.class) {
+                    @Override
+                    public void updated(@Nullable Thing existing, Thing update) {}
+                };
+        var repo = new ThingMemoryRepositoryRW(ImmutableList.of(trigger), 2);
+        repo.close();
+        var thing = ImmutableThing.builder().iri("http://example.com/closed").build();
+        assertThrows(RejectedExecutionException.class, () -> repo.store(thing));
+    }
 }
@@ -0,0 +1,591 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.repo;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import dev.enola.data.Trigger;
+import dev.enola.data.Triggers;
+import dev.enola.datatype.DatatypeRepository;
+import dev.enola.thing.Thing;
+import dev.enola.thing.message.JavaThingToProtoThingConverter;
+import dev.enola.thing.message.LazyProtoThing;
+
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32C;
+
+/**
+ * ThingSegmentRepositoryRW is a persistent read &amp; write {@link ThingRepositoryStore}, which
+ * keeps Things in files of a local directory.
+ *
+ * <p>Things are appended as {@link dev.enola.thing.proto.Thing} messages to "segment" files; each
+ * record is prefixed with its length and a CRC32C checksum. Existing records are never modified, so
+ * (re-)storing a Thing just appends it again. The active (last) segment is rolled over when it
+ * reaches a maximum size; the previous "sealed" segments are memory-mapped for reading.
+ *
+ * <p>An <code>index</code> file maps each IRI to the location of the latest version of its Thing.
+ * Its entries are sorted by IRI, and it stays memory-mapped, so that looking up an IRI is a binary
+ * search which only touches a few of its pages; reopening therefore does not read it entirely. Only
+ * the locations of Things stored since it was last written are kept in memory. It is (re-)written,
+ * by merging those into it, on {@link #flush()}, {@link #compact()} and {@link #close()}. Only
+ * records appended after the index was last written are scanned when reopening; a torn last record,
+ * e.g. after a crash, is truncated. Records are not <code>fsync</code>'d until then.
+ *
+ * <p>{@link #compact()} copies only the latest version of each Thing into new segments, and then
+ * deletes the old ones.
+ *
+ * <p>Things are serialized with {@link JavaThingToProtoThingConverter}, and read back as {@link
+ * LazyProtoThing}s; so what those cannot convert, this cannot store.
+ *
+ * <p>This class is thread safe. Only one instance may have a given directory open at any time.
+ */
+public class ThingSegmentRepositoryRW implements ThingRepositoryStore, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ThingSegmentRepositoryRW.class);
+
+    public static final long DEFAULT_MAX_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    private static final String INDEX = "index";
+    private static final String INDEX_TMP = "index.tmp";
+    private static final String SEGMENT_SUFFIX = ".segment";
+    private static final int INDEX_MAGIC = 0x454e4932; // "ENI2"
+    private static final int INDEX_FOOTER_SIZE = 12; // int entries + int table position + magic
+    private static final int RECORD_HEADER_SIZE = 8; // int length + int CRC32C
+
+    private final Path directory;
+    private final long maxSegmentSize;
+    private final Triggers<Thing> triggers;
+    private final JavaThingToProtoThingConverter javaToProto;
+    private final DatatypeRepository datatypeRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Integer, Segment> segments = new TreeMap<>();
+    private final Map<String, Location> recent = new HashMap<>();
+    private @Nullable IndexFile index;
+    private boolean closed;
+
+    public ThingSegmentRepositoryRW(
+            Path directory,
+            DatatypeRepository datatypeRepository,
+            long maxSegmentSize,
+            ImmutableList<Trigger<? extends Thing>> triggers)
+            throws IOException {
+        if (maxSegmentSize <= 0 || maxSegmentSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid maxSegmentSize: " + maxSegmentSize);
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.triggers = new Triggers<>(triggers);
+        this.javaToProto = new JavaThingToProtoThingConverter(datatypeRepository);
+        this.datatypeRepository = datatypeRepository;
+        open();
+    }
+
+    public ThingSegmentRepositoryRW(Path directory, DatatypeRepository datatypeRepository)
+            throws IOException {
+        this(directory, datatypeRepository, DEFAULT_MAX_SEGMENT_SIZE, ImmutableList.of());
+    }
+
+    public ThingSegmentRepositoryRW(Path directory) throws IOException {
+        this(directory, DatatypeRepository.CTX);
+    }
+
+    @Override
+    @CanIgnoreReturnValue
+    public ThingSegmentRepositoryRW store(Thing thing) {
+        var payload = javaToProto.convert(thing).build().toByteArray();
+        Thing existing = null;
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            if (!triggers.isEmpty()) existing = read(thing.iri());
+            recent.put(thing.iri(), append(payload));
+        } catch (IOException e) {
+            var message = "Failed to store " + thing.iri() + " in " + directory;
+            throw new UncheckedIOException(message, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (!triggers.isEmpty()) triggers.updated(existing, thing);
+        return this;
+    }
+
+    @Override
+    public Iterable<String> listIRI() {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            var iris = ImmutableList.<String>builder().addAll(recent.keySet());
+            var index = this.index;
+            if (index != null) {
+                for (int i = 0; i < index.size; i++) {
+                    var iri = index.iri(i);
+                    if (!recent.containsKey(iri)) iris.add(iri);
+                }
+            }
+            return iris.build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public @Nullable Thing get(String iri) {
+        lock.readLock().lock();
+        try {
+            checkOpen();
+            return read(iri);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + iri + " from " + directory, e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Makes everything stored so far durable, and persists the index. */
+    public void flush() throws IOException {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            writeIndex(segments.firstKey());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compacts the segments, by copying only the latest version of each Thing into new segments,
+     * and then deleting all old segments.
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            checkOpen();
+            var oldSegments = ImmutableList.copyOf(segments.values());
+            var active = segments.lastEntry().getValue();
+            active.seal();
+            var first = active.number + 1;
+            segments.put(first, Segment.open(segmentPath(first), first));
+
+            var copied = new HashMap<String, Location>();
+            for (var entry : recent.entrySet()) copied.put(entry.getKey(), copy(entry.getValue()));
+            var index = this.index;
+            if (index != null) {
+                for (int i = 0; i < index.size; i++) {
+                    var iri = index.iri(i);
+                    if (!recent.containsKey(iri)) copied.put(iri, copy(index.location(i)));
+                }
+            }
+            recent.putAll(copied);
+
+            // If this crashes after the new index was written, reopening deletes the old segments;
+            // if it crashes before, the new segments are scanned, and (correctly) override them.
+            writeIndex(first);
+            for (var segment : oldSegments) {
+                segments.remove(segment.number);
+                segment.close();
+                Files.delete(segment.path);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (closed) return;
+            writeIndex(segments.firstKey());
+            for (var segment : segments.values()) segment.close();
+            index = null;
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) throw new IllegalStateException("Closed: " + directory);
+    }
+
+    private @Nullable Thing read(String iri) throws IOException {
+        var location = recent.get(iri);
+        var index = this.index;
+        if (location == null && index != null) location = index.find(iri.getBytes(UTF_8));
+        if (location == null) return null;
+        var payload = segment(location).read(location.offset, location.length);
+        // Lazy, because callers often only look at a few properties; and if the Thing is stored
+        // again or sent as a proto, JavaThingToProtoThingConverter passes its proto through.
+        return LazyProtoThing.parseFrom(payload, datatypeRepository);
+    }
+
+    private Segment segment(Location location) throws IOException {
+        var segment = segments.get(location.segment);
+        if (segment == null)
+            throw new IOException("Missing segment " + location.segment + " in " + directory);
+        return segment;
+    }
+
+    private Location copy(Location location) throws IOException {
+        return append(segment(location).read(location.offset, location.length));
+    }
+
+    private Location append(byte[] payload) throws IOException {
+        var active = segments.lastEntry().getValue();
+        var recordSize = RECORD_HEADER_SIZE + payload.length;
+        if (active.size > 0 && active.size + recordSize > maxSegmentSize) {
+            active.seal();
+            var next = active.number + 1;
+            active = Segment.open(segmentPath(next), next);
+            segments.put(next, active);
+        }
+
+        var record = ByteBuffer.allocate(recordSize);
+        record.putInt(payload.length).putInt(crc(payload)).put(payload).flip();
+        var position = active.append(record);
+        return new Location(active.number, position + RECORD_HEADER_SIZE, payload.length);
+    }
+
+    private static int crc(byte[] bytes) {
+        var crc = new CRC32C();
+        crc.update(bytes);
+        return (int) crc.getValue();
+    }
+
+    private Path segmentPath(int number) {
+        return directory.resolve(String.format("%08d%s", number, SEGMENT_SUFFIX));
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        index = readIndex();
+        var first = index != null ? index.first : 0;
+        var checkpoints = index != null ? index.checkpoints : Map.<Integer, Long>of();
+
+        var numbers = new TreeMap<Integer, Path>();
+        try (var files = Files.list(directory)) {
+            for (var path : (Iterable<Path>) files::iterator) {
+                var name = path.getFileName().toString();
+                if (!name.endsWith(SEGMENT_SUFFIX)) continue;
+                try {
+                    var number = name.substring(0, name.length() - SEGMENT_SUFFIX.length());
+                    numbers.put(Integer.parseInt(number), path);
+                } catch (NumberFormatException e) {
+                    LOG.warn("Ignoring unexpected {}", path);
+                }
+            }
+        }
+
+        for (var entry : numbers.entrySet()) {
+            int number = entry.getKey();
+            if (number < first) {
+                // Left-over from a compact() which was interrupted after writing the new index
+                Files.delete(entry.getValue());
+                continue;
+            }
+            var segment = Segment.open(entry.getValue(), number);
+            segments.put(number, segment);
+            long checkpoint = checkpoints.getOrDefault(number, 0L);
+            if (segment.size < checkpoint)
+                throw new IOException(segment.path + " is shorter than its index: " + checkpoint);
+            if (segment.size > checkpoint) scan(segment, checkpoint);
+        }
+        for (var checkpoint : checkpoints.entrySet()) {
+            int number = checkpoint.getKey();
+            if (number >= first && checkpoint.getValue() > 0 && !segments.containsKey(number))
+                throw new IOException("Missing segment " + number + " in " + directory);
+        }
+
+        if (segments.isEmpty()) {
+            var number = Math.max(first, 1);
+            segments.put(number, Segment.open(segmentPath(number), number));
+        }
+        for (var segment : segments.headMap(segments.lastKey()).values()) segment.seal();
+    }
+
+    /** Indexes the records of a segment starting at the given position, and truncates any tail. */
+    private void scan(Segment segment, long position) throws IOException {
+        LOG.info("Scanning {} from {}", segment.path, position);
+        while (segment.size - position >= RECORD_HEADER_SIZE) {
+            var header = ByteBuffer.wrap(segment.read(position, RECORD_HEADER_SIZE));
+            var length = header.getInt();
+            var checksum = header.getInt();
+            var offset = position + RECORD_HEADER_SIZE;
+            if (length < 0 || offset + length > segment.size) break;
+            var payload = segment.read(offset, length);
+            if (crc(payload) != checksum) break;
+            var iri = dev.enola.thing.proto.Thing.parseFrom(payload).getIri();
+            recent.put(iri, new Location(segment.number, offset, length));
+            position = offset + length;
+        }
+        if (position < segment.size) {
+            LOG.warn(
+                    "Truncating torn {} from {} to {} bytes", segment.path, segment.size, position);
+            segment.channel.truncate(position);
+            segment.size = position;
+        }
+    }
+
+    /** Maps the index file, if there is a valid one. */
+    private @Nullable IndexFile readIndex() throws IOException {
+        var path = directory.resolve(INDEX);
+        if (!Files.exists(path)) return null;
+        try {
+            return IndexFile.map(path);
+        } catch (IOException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // An index is only an optimization, and can always be rebuilt by scanning all segments
+            LOG.warn("Ignoring corrupt {}, will scan all segments", path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a new index file, by merging the {@link #recent} locations into the current one, and
+     * then maps it instead. Both are sorted, so this only needs memory for the position of each
+     * entry, not for the IRIs.
+     */
+    private void writeIndex(int first) throws IOException {
+        for (var segment : segments.values()) segment.channel.force(false);
+
+        var sorted = new ArrayList<Map.Entry<byte[], Location>>(recent.size());
+        for (var entry : recent.entrySet())
+            sorted.add(Map.entry(entry.getKey().getBytes(UTF_8), entry.getValue()));
+        sorted.sort((a, b) -> Arrays.compareUnsigned(a.getKey(), b.getKey()));
+        var index = this.index;
+        var indexed = index != null ? index.size : 0;
+
+        var tmp = directory.resolve(INDEX_TMP);
+        try (var channel = FileChannel.open(tmp, CREATE, WRITE, TRUNCATE_EXISTING);
+                var out =
+                        new DataOutputStream(
+                                new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(first);
+            out.writeInt(segments.size());
+            for (var segment : segments.values()) {
+                out.writeInt(segment.number);
+                out.writeLong(segment.size);
+            }
+
+            long position = 12 + 12L * segments.size();
+            var positions = new int[indexed + sorted.size()];
+            int entries = 0;
+            int i = 0;
+            int j = 0;
+            while (i < indexed || j < sorted.size()) {
+                var indexedKey = i < indexed ? index.key(i) : null;
+                var recentEntry = j < sorted.size() ? sorted.get(j) : null;
+                int c;
+                if (indexedKey == null) c = 1;
+                else if (recentEntry == null) c = -1;
+                else c = Arrays.compareUnsigned(indexedKey, recentEntry.getKey());
+                byte[] key;
+                Location location;
+                if (c < 0) {
+                    key = indexedKey;
+                    location = index.location(i++);
+                } else {
+                    if (c == 0) i++; // recent overrides indexed
+                    key = recentEntry.getKey();
+                    location = recentEntry.getValue();
+                    j++;
+                }
+                if (position > Integer.MAX_VALUE) throw new IOException("Index too large");
+                positions[entries++] = (int) position;
+                out.writeInt(key.length);
+                out.write(key);
+                out.writeInt(location.segment);
+                out.writeLong(location.offset);
+                out.writeInt(location.length);
+                position += 4 + key.length + 16;
+            }
+            if (position + 4L * entries + INDEX_FOOTER_SIZE > Integer.MAX_VALUE)
+                throw new IOException("Index too large");
+            for (int k = 0; k < entries; k++) out.writeInt(positions[k]);
+            out.writeInt(entries);
+            out.writeInt((int) position);
+            out.writeInt(INDEX_MAGIC);
+            out.flush();
+            channel.force(true);
+        }
+        var path = directory.resolve(INDEX);
+        Files.move(tmp, path, ATOMIC_MOVE, REPLACE_EXISTING);
+        this.index = IndexFile.map(path);
+        recent.clear();
+    }
+
+    /** Location of the payload (not the header) of a record. */
+    private record Location(int segment, long offset, int length) {}
+
+    /**
+     * Memory-mapped index file. After a header with the segment sizes ("checkpoints"), it has one
+     * record per IRI (int length, UTF-8 bytes, int segment, long offset, int length) in the
+     * unsigned byte order of the IRIs, then a table of the (int) positions of those records, and
+     * finally a footer with the number of records, the position of that table, and the magic again.
+     */
+    private static final class IndexFile {
+        private final MappedByteBuffer buffer;
+        private final int first;
+        private final Map<Integer, Long> checkpoints = new HashMap<>();
+        private final int size;
+        private final int table;
+
+        private IndexFile(MappedByteBuffer buffer) throws IOException {
+            this.buffer = buffer;
+            if (buffer.getInt(0) != INDEX_MAGIC) throw new IOException("Bad magic");
+            first = buffer.getInt(4);
+            var segmentsCount = buffer.getInt(8);
+            var position = 12;
+            for (int i = 0; i < segmentsCount; i++, position += 12)
+                checkpoints.put(buffer.getInt(position), buffer.getLong(position + 4));
+
+            var footer = buffer.limit() - INDEX_FOOTER_SIZE;
+            if (footer < position || buffer.getInt(footer + 8) != INDEX_MAGIC)
+                throw new IOException("Bad footer");
+            size = buffer.getInt(footer);
+            table = buffer.getInt(footer + 4);
+            if (size < 0 || table < position || table + 4L * size != footer)
+                throw new IOException("Bad table");
+        }
+
+        static IndexFile map(Path path) throws IOException {
+            try (var channel = FileChannel.open(path, READ)) {
+                if (channel.size() > Integer.MAX_VALUE) throw new IOException("Too large");
+                return new IndexFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+
+        byte[] key(int i) {
+            var position = buffer.getInt(table + 4 * i);
+            var key = new byte[buffer.getInt(position)];
+            buffer.get(position + 4, key);
+            return key;
+        }
+
+        String iri(int i) {
+            return new String(key(i), UTF_8);
+        }
+
+        Location location(int i) {
+            var position = buffer.getInt(table + 4 * i);
+            position += 4 + buffer.getInt(position);
+            return new Location(
+                    buffer.getInt(position),
+                    buffer.getLong(position + 4),
+                    buffer.getInt(position + 12));
+        }
+
+        @Nullable Location find(byte[] key) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                var c = Arrays.compareUnsigned(key(middle), key);
+                if (c < 0) low = middle + 1;
+                else if (c > 0) high = middle - 1;
+                else return location(middle);
+            }
+            return null;
+        }
+    }
+
+    private static final class Segment implements Closeable {
+        private final int number;
+        private final Path path;
+        private final FileChannel channel;
+        private long size;
+        private @Nullable MappedByteBuffer mapped;
+
+        private Segment(int number, Path path, FileChannel channel) throws IOException {
+            this.number = number;
+            this.path = path;
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        static Segment open(Path path, int number) throws IOException {
+            return new Segment(number, path, FileChannel.open(path, CREATE, READ, WRITE));
+        }
+
+        /** Called when this segment is not going to be appended to anymore. */
+        void seal() throws IOException {
+            channel.force(false);
+            if (size > 0) mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        byte[] read(long offset, int length) throws IOException {
+            var bytes = new byte[length];
+            var mapped = this.mapped;
+            if (mapped != null) {
+                mapped.get((int) offset, bytes);
+                return bytes;
+            }
+            var buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0)
+                    throw new EOFException(path + " @ " + offset);
+            }
+            return bytes;
+        }
+
+        /** Appends the record, and returns the position at which it was written. */
+        long append(ByteBuffer record) throws IOException {
+            var position = size;
+            while (record.hasRemaining()) size += channel.write(record, size);
+            return position;
+        }
+
+        @Override
+        public void close() throws IOException {
+            mapped = null;
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.repo;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import static dev.enola.thing.repo.ThingRepositoriesTest.testThing;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+
+import com.google.common.collect.ImmutableList;
+
+import dev.enola.datatype.DatatypeRepository;
+import dev.enola.datatype.DatatypeRepositoryBuilder;
+import dev.enola.thing.Thing;
+import dev.enola.thing.impl.ImmutableThing;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class ThingSegmentRepositoryRWTest {
+
+    @Rule public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final DatatypeRepository datatypeRepository = new DatatypeRepositoryBuilder().build();
+
+    private final Thing thing = testThing(ImmutableThing.builder());
+
+    private Thing thing(String iri, int version) {
+        return ImmutableThing.builder()
+                .iri(iri)
+                .set("http://example.com/version", Integer.toString(version))
+                .build();
+    }
+
+    private ThingSegmentRepositoryRW open(Path directory, long maxSegmentSize) throws IOException {
+        return new ThingSegmentRepositoryRW(
+                directory, datatypeRepository, maxSegmentSize, ImmutableList.of());
+    }
+
+    private long segments(Path directory) throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".segment")).count();
+        }
+    }
+
+    @Test
+    public void storeAndReopen() throws IOException {
+        var directory = tempFolder.getRoot().toPath();
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            repo.store(thing);
+            repo.store(thing("http://example.com/other", 1));
+            assertThat(repo.get(thing.iri())).isEqualTo(thing);
+            assertThat(repo.get("http://example.com/nope")).isNull();
+        }
+
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            assertThat(repo.listIRI()).containsExactly(thing.iri(), "http://example.com/other");
+            assertThat(repo.get(thing.iri())).isEqualTo(thing);
+            assertThat(repo.get("http://example.com/other"))
+                    .isEqualTo(thing("http://example.com/other", 1));
+        }
+    }
+
+    @Test
+    public void recoverWithoutIndexAndTornRecord() throws IOException {
+        var directory = tempFolder.getRoot().toPath();
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            repo.store(thing);
+        }
+        Files.delete(directory.resolve("index"));
+        Files.write(directory.resolve("00000001.segment"), new byte[] {0, 0, 1}, APPEND);
+
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            assertThat(repo.get(thing.iri())).isEqualTo(thing);
+            repo.store(thing("http://example.com/other", 1));
+        }
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            assertThat(repo.listIRI()).containsExactly(thing.iri(), "http://example.com/other");
+        }
+    }
+
+    @Test
+    public void reopenMergesIndexWithLaterStores() throws IOException {
+        var directory = tempFolder.getRoot().toPath();
+        var a = "http://example.com/a";
+        var b = "http://example.com/b";
+        var c = "http://example.com/\u00e9"; // UTF-8 sorts it after "z"
+        var z = "http://example.com/z";
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            repo.store(thing(z, 1));
+            repo.store(thing(b, 1));
+            repo.store(thing(c, 1));
+        }
+
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            repo.store(thing(b, 2));
+            repo.store(thing(a, 1));
+            repo.flush();
+            repo.store(thing(c, 3));
+            assertThat(repo.listIRI()).containsExactly(a, b, c, z);
+            assertThat(repo.get(b)).isEqualTo(thing(b, 2));
+            assertThat(repo.get(c)).isEqualTo(thing(c, 3));
+            assertThat(repo.get(z)).isEqualTo(thing(z, 1));
+            assertThat(repo.get("http://example.com/y")).isNull();
+        }
+
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            assertThat(repo.listIRI()).containsExactly(a, b, c, z);
+            assertThat(repo.get(a)).isEqualTo(thing(a, 1));
+            assertThat(repo.get(b)).isEqualTo(thing(b, 2));
+            assertThat(repo.get(c)).isEqualTo(thing(c, 3));
+            assertThat(repo.get(z)).isEqualTo(thing(z, 1));
+        }
+    }
+
+    @Test
+    public void ignoreCorruptIndex() throws IOException {
+        var directory = tempFolder.getRoot().toPath();
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            repo.store(thing);
+        }
+        Files.write(directory.resolve("index"), new byte[] {'E', 'N', 'I', '2', 0, 0, 0});
+
+        try (var repo = new ThingSegmentRepositoryRW(directory, datatypeRepository)) {
+            assertThat(repo.listIRI()).containsExactly(thing.iri());
+            assertThat(repo.get(thing.iri())).isEqualTo(thing);
+        }
+    }
+
+    @Test
+    public void compact() throws IOException {
+        var directory = tempFolder.getRoot().toPath();
+        var iri = "http://example.com/thing";
+        try (var repo = open(directory, 100)) {
+            for (int i = 0; i < 10; i++) repo.store(thing(iri, i));
+            assertThat(segments(directory)).isGreaterThan(1);
+
+            repo.compact();
+            assertThat(segments(directory)).isEqualTo(1);
+            assertThat(repo.get(iri)).isEqualTo(thing(iri, 9));
+            repo.store(thing(iri, 10));
+        }
+
+        try (var repo = open(directory, 100)) {
+            assertThat(repo.listIRI()).containsExactly(iri);
+            assertThat(repo.get(iri)).isEqualTo(thing(iri, 10));
+            repo.compact();
+            assertThat(repo.get(iri)).isEqualTo(thing(iri, 10));
+        }
+
+        try (var repo = open(directory, 100)) {
+            assertThat(segments(directory)).isEqualTo(1);
+            assertThat(repo.get(iri)).isEqualTo(thing(iri, 10));
+        }
+    }
+}
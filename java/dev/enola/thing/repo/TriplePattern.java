@@ -0,0 +1,39 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.repo;
+
+import dev.enola.data.Query;
+import dev.enola.thing.Link;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * TriplePattern is a {@link Query} for Things, of a "basic triple pattern" (like in SPARQL) with
+ * optional (null means "any") subject IRI, predicate IRI and object.
+ *
+ * <p>An object which is a {@link Link} (or {@link java.net.URI}) matches links to that IRI; any
+ * other object matches equal objects. An object in a collection (e.g. a Set of types) matches if
+ * the collection contains it.
+ */
+public record TriplePattern(
+        @Nullable String subject, @Nullable String predicate, @Nullable Object object)
+        implements Query {
+
+    /** Query "language" of this for {@link ThingIndex#query(String, TriplePattern)}. */
+    public static final String LANGUAGE = "triple-pattern";
+}
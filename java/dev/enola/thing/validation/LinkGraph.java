@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * Copyright 2026 The Enola <https://enola.dev> Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.enola.thing.validation;
+
+import com.google.common.collect.ImmutableSet;
+
+import dev.enola.thing.Link;
+import dev.enola.thing.PredicatesObjects;
+import dev.enola.thing.Thing;
+import dev.enola.thing.repo.ThingRepositoryStore;
+import dev.enola.thing.repo.ThingTrigger;
+
+import org.jspecify.annotations.Nullable;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LinkGraph maintains the links between Things, in both directions, and tracks which Things need to
+ * be validated (again) because they changed.
+ *
+ * <p>A Thing needs to be validated when it was stored, because its outgoing links may have changed,
+ * or when a Thing it links to was stored. This enables incremental validation, see {@link
+ * Validators#validate(dev.enola.thing.repo.ThingRepository, LinkGraph, Collector2)}.
+ *
+ * <p>Links are {@link Link} and {@link URI} objects (also in Iterables) and datatype IRIs, also of
+ * nested {@link PredicatesObjects} (i.e. "blank nodes"); like in {@link LinksValidator}.
+ *
+ * <p>This is a {@link ThingTrigger}, and must be registered as a trigger of the {@link
+ * ThingRepositoryStore}, so that it sees every Thing that is stored.
+ */
+public class LinkGraph extends ThingTrigger<Thing> {
+
+    private final Map<String, ImmutableSet<String>> outgoing = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> incoming = new ConcurrentHashMap<>();
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+    public LinkGraph() {
+        super(Thing.class);
+    }
+
+    @Override
+    public synchronized void updated(@Nullable Thing existing, Thing update) {
+        var iri = update.iri();
+        var newLinks = links(update);
+        var oldLinks = outgoing.getOrDefault(iri, ImmutableSet.of());
+
+        for (var target : oldLinks) {
+            if (newLinks.contains(target)) continue;
+            var sources = incoming.get(target);
+            if (sources != null) {
+                sources.remove(iri);
+                if (sources.isEmpty()) incoming.remove(target);
+            }
+        }
+        for (var target : newLinks) {
+            if (oldLinks.contains(target)) continue;
+            incoming.computeIfAbsent(target, k -> ConcurrentHashMap.newKeySet()).add(iri);
+        }
+        if (newLinks.isEmpty()) outgoing.remove(iri);
+        else outgoing.put(iri, newLinks);
+
+        changed.add(iri);
+        changed.addAll(incoming(iri));
+    }
+
+    /** IRIs which the Thing with the given IRI links to. */
+    public ImmutableSet<String> outgoing(String iri) {
+        return outgoing.getOrDefault(iri, ImmutableSet.of());
+    }
+
+    /** IRIs of the Things which link to the given IRI. */
+    public ImmutableSet<String> incoming(String iri) {
+        var sources = incoming.get(iri);
+        return sources != null ? ImmutableSet.copyOf(sources) : ImmutableSet.of();
+    }
+
+    /**
+     * Returns the IRIs of all Things which need to be validated since the previous call, and
+     * forgets them.
+     */
+    public synchronized ImmutableSet<String> drainChanged() {
+        var drained = ImmutableSet.copyOf(changed);
+        changed.clear();
+        return drained;
+    }
+
+    private static ImmutableSet<String> links(PredicatesObjects thing) {
+        var links = ImmutableSet.<String>builder();
+        links(thing, links);
+        return links.build();
+    }
+
+    private static void links(PredicatesObjects thing, ImmutableSet.Builder<String> links) {
+        for (var datatypeIRI : thing.datatypes().values()) link(datatypeIRI, links);
+        for (var object : thing.properties().values()) {
+            if (object instanceof Iterable<?> iterable) {
+                for (var element : iterable) object(element, links);
+            } else object(object, links);
+        }
+    }
+
+    private static void object(@Nullable Object object, ImmutableSet.Builder<String> links) {
+        switch (object) {
+            case Link link -> link(link.iri(), links);
+            case URI uri -> link(uri.toString(), links);
+            case PredicatesObjects predicatesObjects -> links(predicatesObjects, links);
+            case null, default -> {}
+        }
+    }
+
+    private static void link(String iri, ImmutableSet.Builder<String> links) {
+        // Same workaround as in LinksValidator
+        if (!iri.startsWith("file:")) links.add(iri);
+    }
+}
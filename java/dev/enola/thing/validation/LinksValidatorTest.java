@@ -19,6 +19,8 @@ package dev.enola.thing.validation;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import com.google.common.collect.ImmutableList;
+
 import dev.enola.thing.Link;
 import dev.enola.thing.Thing;
 import dev.enola.thing.impl.ImmutableThing;
@@ -74,4 +76,33 @@ public class LinksValidatorTest {
         v.validate(repo, collector);
         assertThat(collector.getDiagnostics()).hasSize(2);
     }
+
+    @Test
+    public void parallel() {
+        repo.storeAll(List.of(one, two, bad1, bad2));
+        v.validateInParallel(repo.list(), collector);
+        assertThat(collector.getDiagnostics()).hasSize(2);
+    }
+
+    @Test
+    public void incremental() {
+        var linkGraph = new LinkGraph();
+        var repo = new ThingMemoryRepositoryRW(ImmutableList.of(linkGraph));
+        var v = new Validators(new LinksValidator(repo));
+
+        repo.storeAll(List.of(one, two, bad1));
+        assertThat(v.validate(repo, linkGraph, collector))
+                .containsExactly(one.iri(), two.iri(), bad1.iri());
+        assertThat(collector.getDiagnostics()).hasSize(1);
+        assertThat(linkGraph.incoming(one.iri())).containsExactly(two.iri());
+        assertThat(linkGraph.outgoing(bad1.iri())).containsExactly("http://example.com/MISSING");
+
+        var collector2 = new TestCollector();
+        assertThat(v.validate(repo, linkGraph, collector2)).isEmpty();
+
+        repo.store(ImmutableThing.builder().iri("http://example.com/MISSING").build());
+        assertThat(v.validate(repo, linkGraph, collector2))
+                .containsExactly("http://example.com/MISSING", bad1.iri());
+        assertThat(collector2.getDiagnostics()).isEmpty();
+    }
 }
@@ -28,7 +28,7 @@ public class LoggingCollector implements Collector2 {
 
     private static final Logger LOG = LoggerFactory.getLogger(LoggingCollector.class);
 
-    private boolean hasMessages = false;
+    private volatile boolean hasMessages = false;
 
     @Override
     public void add(Thing thing, String predicateIRI, String message) {
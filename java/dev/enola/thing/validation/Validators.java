@@ -18,6 +18,7 @@
 package dev.enola.thing.validation;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import dev.enola.thing.PredicatesObjects;
 import dev.enola.thing.Thing;
@@ -40,14 +41,43 @@ public class Validators {
     }
 
     public void validate(Iterable<Thing> things, Collector2 collector) {
-        // TODO #performance Multi-threaded parallelized implementation?
         for (Thing thing : things) {
             validate(thing, collector);
         }
     }
 
+    /**
+     * Validates Things in parallel, on all cores.
+     *
+     * <p>The Validators, their repository and the Collector2 must be thread-safe.
+     */
+    public void validateInParallel(Iterable<Thing> things, Collector2 collector) {
+        ImmutableList.copyOf(things).parallelStream().forEach(thing -> validate(thing, collector));
+    }
+
+    /**
+     * Validates (in parallel) only the Things of the repository which changed, or which link to
+     * Things which changed, since the previous call; as tracked by the {@link LinkGraph} (which
+     * must be a trigger of the repository). The first call validates all Things stored so far.
+     *
+     * <p>Problems which were previously reported for the returned IRIs are outdated, and should be
+     * replaced by those reported (if any) by this call.
+     *
+     * @return IRIs of the Things which were validated (or are not in the repository anymore)
+     */
+    public ImmutableSet<String> validate(
+            ThingRepository repository, LinkGraph linkGraph, Collector2 collector) {
+        var changed = linkGraph.drainChanged();
+        var things = ImmutableList.<Thing>builderWithExpectedSize(changed.size());
+        for (var iri : changed) {
+            var thing = repository.get(iri);
+            if (thing != null) things.add(thing);
+        }
+        validateInParallel(things.build(), collector);
+        return changed;
+    }
+
     private void validate(Thing root, Collector2 collector) {
-        // TODO #performance Multi-threaded parallelized implementation?
         for (var validator : validators) {
             validator.validate(root, new InternalCollector(root, collector));
         }
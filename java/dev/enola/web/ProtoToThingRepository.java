@@ -20,8 +20,9 @@ package dev.enola.web;
 import com.google.common.collect.Iterables;
 
 import dev.enola.data.Repository;
+import dev.enola.datatype.DatatypeRepository;
 import dev.enola.thing.Thing;
-import dev.enola.thing.message.ThingAdapter;
+import dev.enola.thing.message.LazyProtoThing;
 import dev.enola.thing.repo.ThingRepository;
 
 import org.jspecify.annotations.Nullable;
@@ -42,7 +43,7 @@ public class ProtoToThingRepository implements ThingRepository {
     public @Nullable Thing get(String iri) {
         var protoThing = protoThingRepository.get(iri);
         if (protoThing == null) return null;
-        return new ThingAdapter(protoThing);
+        return new LazyProtoThing(protoThing, DatatypeRepository.CTX);
     }
 
     @Override
@@ -54,7 +55,8 @@ public class ProtoToThingRepository implements ThingRepository {
     public Iterable<Thing> list() {
         var protoThings = protoThingRepository.list();
         var list = new ArrayList<Thing>(Iterables.size(protoThings));
-        for (var protoThing : protoThings) list.add(new ThingAdapter(protoThing));
+        for (var protoThing : protoThings)
+            list.add(new LazyProtoThing(protoThing, DatatypeRepository.CTX));
         return list;
     }
 }
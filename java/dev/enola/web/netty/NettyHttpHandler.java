@@ -20,42 +20,73 @@ package dev.enola.web.netty;
 import static com.google.common.net.MediaType.PLAIN_TEXT_UTF_8;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONNECTION;
+import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_ENCODING;
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpHeaderValues.CLOSE;
+import static io.netty.handler.codec.http.HttpHeaderValues.IDENTITY;
 import static io.netty.handler.codec.http.HttpHeaderValues.KEEP_ALIVE;
+import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import com.google.common.net.MediaType;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
+import dev.enola.common.io.resource.FileResource;
+import dev.enola.common.io.resource.ReadableResource;
 import dev.enola.web.WebHandlers;
 
-import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.net.URI;
-import java.util.concurrent.TimeUnit;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
+/**
+ * Netty {@link SimpleChannelInboundHandler} which serves {@link ReadableResource}s obtained from
+ * {@link WebHandlers}.
+ *
+ * <p>Requests are handled asynchronously: the event loop is never blocked, neither waiting for a
+ * (possibly slow) handler, nor reading the resource it returned; the latter happens on a separate
+ * executor for blocking I/O. Small resources of known size, and all resources for HTTP/1.0 clients,
+ * are sent as a single {@link FullHttpResponse}. A {@link FileResource} is sent with a zero-copy
+ * {@link DefaultFileRegion}, and anything else is streamed as chunks; the next of which is only
+ * read once the client has received enough of the previous ones.
+ */
 class NettyHttpHandler extends SimpleChannelInboundHandler<HttpObject> {
 
     private static final Logger LOG = LoggerFactory.getLogger(NettyHttpHandler.class);
 
+    private static final Duration TIMEOUT = Duration.ofSeconds(17);
+
+    /** Resources up to this size (if known) are buffered and sent as one response. */
+    private static final long MAX_FULL_RESPONSE_SIZE = 64 * 1024;
+
+    private static final int CHUNK_SIZE = 8192;
+
     private final WebHandlers handlers;
+    private final Executor blockingExecutor;
 
-    public NettyHttpHandler(WebHandlers handlerMap) {
+    public NettyHttpHandler(WebHandlers handlerMap, Executor blockingExecutor) {
         this.handlers = handlerMap;
+        this.blockingExecutor = blockingExecutor;
     }
 
     @Override
@@ -65,54 +96,149 @@ class NettyHttpHandler extends SimpleChannelInboundHandler<HttpObject> {
             if (!HttpMethod.GET.equals(req.method())) return;
 
             var uri = new URI(req.uri());
+            var version = req.protocolVersion();
+            var keepAlive = HttpUtil.isKeepAlive(req);
 
-            ByteBuf content;
-            HttpResponseStatus status;
-            MediaType mediaType;
+            ListenableFuture<ReadableResource> futureResource;
             try {
-                var futureResource = handlers.handle(uri);
-                // TODO Futures.addCallback() for futureResource.addListener(); to Async this!
-                // TODO does Netty timeout requests after a while as well?
-                // TODO Make this "streaming", for "big" Resources!
-
-                var resource = futureResource.get(17, TimeUnit.SECONDS);
-                // TODO Charset convert this, if required!
-                content = Unpooled.wrappedBuffer(resource.byteSource().read());
-                mediaType = resource.mediaType();
-                status = OK;
-
+                futureResource = handlers.handle(uri);
             } catch (Throwable e) {
-                LOG.error("Failed to handle {}", uri, e);
+                futureResource = Futures.immediateFailedFuture(e);
+            }
 
-                StringWriter sw = new StringWriter();
-                PrintWriter pw = new PrintWriter(sw);
-                e.printStackTrace(pw);
-                content = Unpooled.wrappedBuffer(sw.getBuffer().toString().getBytes(UTF_8));
+            // The timeout runs on the channel's event loop, but the callback on the blocking
+            // executor, because reading the resource may block. Netty hands the writes of the
+            // response over to the event loop, in order.
+            var timedResource = Futures.withTimeout(futureResource, TIMEOUT, ctx.executor());
+            Futures.addCallback(
+                    timedResource,
+                    new FutureCallback<>() {
+                        @Override
+                        public void onSuccess(ReadableResource resource) {
+                            try {
+                                respond(ctx, version, keepAlive, resource);
+                            } catch (Throwable e) {
+                                onFailure(e);
+                            }
+                        }
 
-                mediaType = PLAIN_TEXT_UTF_8;
-                status = HttpResponseStatus.INTERNAL_SERVER_ERROR;
-            }
+                        @Override
+                        public void onFailure(Throwable e) {
+                            LOG.error("Failed to handle {}", uri, e);
+                            respondError(ctx, version, keepAlive, e);
+                        }
+                    },
+                    blockingExecutor);
+        }
+    }
+
+    private void respond(
+            ChannelHandlerContext ctx,
+            HttpVersion version,
+            boolean keepAlive,
+            ReadableResource resource)
+            throws IOException {
 
-            FullHttpResponse response =
-                    new DefaultFullHttpResponse(req.protocolVersion(), status, content);
+        var mediaType = resource.mediaType();
+        if (resource instanceof FileResource fileResource
+                && Files.isRegularFile(fileResource.path())) {
+            var file = fileResource.path();
+            // Zero-copy; the Content-Encoding "identity" makes HttpContentCompressor pass through.
+            var size = Files.size(file);
+            HttpResponse response = new DefaultHttpResponse(version, OK);
             response.headers()
                     .set(CONTENT_TYPE, mediaType.toString())
-                    .setInt(CONTENT_LENGTH, response.content().readableBytes());
+                    .set(CONTENT_ENCODING, IDENTITY)
+                    .set(CONTENT_LENGTH, size);
+            keepAlive(response, version, keepAlive);
+            ignore(ctx.write(response));
+            ignore(ctx.write(new DefaultFileRegion(file.toFile(), 0, size)));
+            end(ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT), keepAlive);
+            return;
+        }
 
-            boolean keepAlive = HttpUtil.isKeepAlive(req);
-            if (keepAlive) {
-                if (!req.protocolVersion().isKeepAliveDefault()) {
-                    response.headers().set(CONNECTION, KEEP_ALIVE);
+        var size = resource.byteSource().sizeIfKnown();
+        if ((size.isPresent() && size.get() <= MAX_FULL_RESPONSE_SIZE)
+                || HttpVersion.HTTP_1_0.equals(version)) {
+            // TODO Charset convert this, if required!
+            var content = resource.byteSource().read();
+            respondFull(ctx, version, keepAlive, OK, mediaType, content);
+            return;
+        }
+
+        HttpResponse response = new DefaultHttpResponse(version, OK);
+        response.headers().set(CONTENT_TYPE, mediaType.toString());
+        HttpUtil.setTransferEncodingChunked(response, true);
+        keepAlive(response, version, keepAlive);
+        ignore(ctx.write(response));
+        try (var in = resource.byteSource().openStream()) {
+            while (true) {
+                var chunk = ctx.alloc().buffer(CHUNK_SIZE);
+                int read;
+                try {
+                    read = chunk.writeBytes(in, CHUNK_SIZE);
+                } catch (IOException e) {
+                    chunk.release();
+                    throw e;
+                }
+                if (read < 0) {
+                    chunk.release();
+                    break;
+                }
+                var write = ctx.writeAndFlush(new DefaultHttpContent(chunk));
+                if (!ctx.channel().isWritable()) write.awaitUninterruptibly();
+                if (write.isDone() && !write.isSuccess()) {
+                    LOG.debug("Stopped streaming {}", resource.uri(), write.cause());
+                    return;
                 }
-            } else {
-                response.headers().set(CONNECTION, CLOSE);
             }
+        } catch (IOException e) {
+            // The response has already started, so it is too late to send an error response.
+            LOG.error("Failed to stream {}", resource.uri(), e);
+            ignore(ctx.close());
+            return;
+        }
+        end(ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT), keepAlive);
+    }
 
-            ChannelFuture f = ctx.write(response);
+    private void respondError(
+            ChannelHandlerContext ctx, HttpVersion version, boolean keepAlive, Throwable e) {
+        StringWriter sw = new StringWriter();
+        PrintWriter pw = new PrintWriter(sw);
+        e.printStackTrace(pw);
+        var content = sw.getBuffer().toString().getBytes(UTF_8);
+        respondFull(ctx, version, keepAlive, INTERNAL_SERVER_ERROR, PLAIN_TEXT_UTF_8, content);
+    }
+
+    private void respondFull(
+            ChannelHandlerContext ctx,
+            HttpVersion version,
+            boolean keepAlive,
+            HttpResponseStatus status,
+            MediaType mediaType,
+            byte[] content) {
+        FullHttpResponse response =
+                new DefaultFullHttpResponse(version, status, Unpooled.wrappedBuffer(content));
+        response.headers()
+                .set(CONTENT_TYPE, mediaType.toString())
+                .setInt(CONTENT_LENGTH, response.content().readableBytes());
+        keepAlive(response, version, keepAlive);
+        end(ctx.writeAndFlush(response), keepAlive);
+    }
 
-            if (!keepAlive) {
-                ignore(f.addListener(ChannelFutureListener.CLOSE));
+    private void keepAlive(HttpResponse response, HttpVersion version, boolean keepAlive) {
+        if (keepAlive) {
+            if (!version.isKeepAliveDefault()) {
+                response.headers().set(CONNECTION, KEEP_ALIVE);
             }
+        } else {
+            response.headers().set(CONNECTION, CLOSE);
+        }
+    }
+
+    private void end(ChannelFuture f, boolean keepAlive) {
+        if (!keepAlive) {
+            ignore(f.addListener(ChannelFutureListener.CLOSE));
         }
     }
 
@@ -17,6 +17,8 @@
  */
 package dev.enola.web.netty;
 
+import com.google.common.util.concurrent.ListeningExecutorService;
+
 import dev.enola.common.concurrent.Executors;
 import dev.enola.web.WebHandlers;
 import dev.enola.web.WebServer;
@@ -38,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 /**
  * HTTP {@link WebServer} API implementation based on <a href="https://netty.io">Netty</a>.
@@ -65,6 +68,7 @@ public class NettyHttpServer implements WebServer {
     private InetSocketAddress inetSocketAddress;
     private final NioEventLoopGroup connectionsGroup;
     private final EventLoopGroup handlerGroup;
+    private final ListeningExecutorService blockingExecutor;
 
     public NettyHttpServer(int port, WebHandlers handlers) {
         this.inetSocketAddress = new InetSocketAddress(port);
@@ -78,6 +82,10 @@ public class NettyHttpServer implements WebServer {
         // TODO Use newListeningFixedThreadPool() to avoid unbounded growth? But how to choose size?
         var handlerExecutor = Executors.newCachedThreadPool("NettyHttpServer-Handler", LOG);
         handlerGroup = new NioEventLoopGroup(0, handlerExecutor);
+
+        // Reads resources, which may block, so that the I/O threads above never do
+        blockingExecutor =
+                Executors.newListeningVirtualThreadPerTaskExecutor("NettyHttpServer-Blocking", LOG);
     }
 
     @Override
@@ -89,7 +97,7 @@ public class NettyHttpServer implements WebServer {
         b.group(connectionsGroup, handlerGroup)
                 .channel(NioServerSocketChannel.class)
                 .handler(new LoggingHandler(LogLevel.INFO))
-                .childHandler(new OurChannelInitializer(handlers));
+                .childHandler(new OurChannelInitializer(handlers, blockingExecutor));
 
         inetSocketAddress =
                 (InetSocketAddress) b.bind(inetSocketAddress).sync().channel().localAddress();
@@ -105,6 +113,7 @@ public class NettyHttpServer implements WebServer {
         try {
             connectionsGroup.shutdownGracefully().get();
             handlerGroup.shutdownGracefully().get();
+            Executors.shutdownAndAwaitTermination(blockingExecutor);
         } catch (InterruptedException | ExecutionException e) {
             LOG.error("Failed to close()", e);
         }
@@ -112,9 +121,11 @@ public class NettyHttpServer implements WebServer {
 
     private static class OurChannelInitializer extends ChannelInitializer<SocketChannel> {
         private final WebHandlers handlers;
+        private final Executor blockingExecutor;
 
-        OurChannelInitializer(WebHandlers handlers) {
+        OurChannelInitializer(WebHandlers handlers, Executor blockingExecutor) {
             this.handlers = handlers;
+            this.blockingExecutor = blockingExecutor;
         }
 
         @Override
@@ -123,7 +134,7 @@ public class NettyHttpServer implements WebServer {
             p.addLast(new HttpServerCodec());
             p.addLast(new HttpContentCompressor((CompressionOptions[]) null));
             p.addLast(new HttpServerExpectContinueHandler());
-            p.addLast(new NettyHttpHandler(handlers));
+            p.addLast(new NettyHttpHandler(handlers, blockingExecutor));
         }
     }
 }
@@ -17,18 +17,42 @@
  */
 package dev.enola.web.netty;
 
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.util.concurrent.Futures.immediateFuture;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import com.google.common.base.Strings;
+import com.google.common.io.ByteStreams;
+import com.google.common.net.MediaType;
+
+import dev.enola.common.io.resource.FileResource;
+import dev.enola.common.io.resource.StringResource;
 import dev.enola.web.WebHandlers;
 import dev.enola.web.WebServer;
 import dev.enola.web.testlib.WebServerTestAbstract;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
 
 public class NettyHttpServerTest extends WebServerTestAbstract {
 
+    // Bigger than NettyHttpHandler.MAX_FULL_RESPONSE_SIZE
+    private static final String BIG = Strings.repeat("0123456789abcdef", 10_000);
+
+    public @Rule TemporaryFolder tempFolder = new TemporaryFolder();
+
     @Override
     protected WebServer create(WebHandlers handlers) throws IOException {
         return new NettyHttpServer(0, handlers);
@@ -39,4 +63,68 @@ public class NettyHttpServerTest extends WebServerTestAbstract {
     public void testServer() throws IOException, InterruptedException { // skipcq: JAVA-W1016
         super.testServer();
     }
+
+    @Test
+    public void chunked() throws Exception {
+        var handlers = new WebHandlers();
+        var big = StringResource.of(BIG, MediaType.PLAIN_TEXT_UTF_8);
+        handlers.register("/big", uri -> immediateFuture(big));
+        try (var server = create(handlers)) {
+            server.start();
+            var response = get(server, "/big");
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Transfer-Encoding")).hasValue("chunked");
+            assertThat(response.body()).isEqualTo(BIG);
+        }
+    }
+
+    @Test
+    public void zeroCopy() throws Exception {
+        var file = tempFolder.newFile("big.txt").toPath();
+        Files.writeString(file, BIG);
+        var handlers = new WebHandlers();
+        var resource = new FileResource(file.toUri(), MediaType.PLAIN_TEXT_UTF_8);
+        handlers.register("/file", uri -> immediateFuture(resource));
+        try (var server = create(handlers)) {
+            server.start();
+            var response = get(server, "/file");
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Encoding")).hasValue("identity");
+            assertThat(response.headers().firstValue("Content-Length"))
+                    .hasValue(Integer.toString(BIG.length()));
+            assertThat(response.body()).isEqualTo(BIG);
+        }
+    }
+
+    @Test
+    public void http10() throws Exception {
+        var handlers = new WebHandlers();
+        var big = StringResource.of(BIG, MediaType.PLAIN_TEXT_UTF_8);
+        handlers.register("/big", uri -> immediateFuture(big));
+        try (var server = create(handlers);
+                var socket = new Socket("localhost", startAndGetPort(server))) {
+            socket.getOutputStream().write("GET /big HTTP/1.0\r\n\r\n".getBytes(US_ASCII));
+            socket.getOutputStream().flush();
+            // The server closes the connection after the response, because there is no keep-alive
+            var response = new String(ByteStreams.toByteArray(socket.getInputStream()), US_ASCII);
+            assertThat(response).startsWith("HTTP/1.0 200 OK\r\n");
+            assertThat(response).doesNotContainMatch("(?i)transfer-encoding");
+            assertThat(response).containsMatch("(?i)content-length: " + BIG.length());
+            assertThat(response).endsWith("\r\n\r\n" + BIG);
+        }
+    }
+
+    private static int startAndGetPort(WebServer server) throws IOException, InterruptedException {
+        server.start();
+        return server.getInetAddress().getPort();
+    }
+
+    private static HttpResponse<String> get(WebServer server, String path)
+            throws IOException, InterruptedException {
+        var uri = URI.create("http://localhost:" + server.getInetAddress().getPort() + path);
+        try (var client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            var request = HttpRequest.newBuilder(uri).build();
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+    }
 }